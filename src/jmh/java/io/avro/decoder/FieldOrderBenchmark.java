@@ -0,0 +1,79 @@
+package io.avro.decoder;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.TimeUnit;
+import org.apache.avro.Schema;
+import org.apache.avro.generic.GenericDatumReader;
+import org.apache.avro.generic.GenericRecord;
+import org.apache.avro.io.DatumReader;
+import org.apache.avro.io.DecoderFactory;
+import org.openjdk.jmh.annotations.*;
+
+/**
+ * Decoding of records with fields in schema order, in shuffled order and with missing optional
+ * fields, compared to Avro JsonDecoder for schema order.
+ *
+ * @author Anton Kurako (GoodforGod)
+ * @since 19.10.2026
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class FieldOrderBenchmark {
+
+    static final Schema SCHEMA = new Schema.Parser().parse("{\"type\":\"record\",\"name\":\"Event\",\"fields\":["
+            + "{\"name\":\"tenant\",\"type\":\"string\"},"
+            + "{\"name\":\"type\",\"type\":\"string\"},"
+            + "{\"name\":\"timestamp\",\"type\":\"long\"},"
+            + "{\"name\":\"count\",\"type\":\"int\"},"
+            + "{\"name\":\"score\",\"type\":\"double\"},"
+            + "{\"name\":\"source\",\"type\":{\"type\":\"record\",\"name\":\"Source\",\"fields\":["
+            + "{\"name\":\"host\",\"type\":\"string\"},{\"name\":\"port\",\"type\":\"int\"}]}},"
+            + "{\"name\":\"note\",\"type\":[\"null\",\"string\"],\"default\":null},"
+            + "{\"name\":\"active\",\"type\":\"boolean\",\"default\":true}]}");
+
+    static final String ORDERED = "{\"tenant\":\"t1\",\"type\":\"click\",\"timestamp\":1600000000000,\"count\":3,\"score\":0.5,"
+            + "\"source\":{\"host\":\"localhost\",\"port\":8080},\"note\":\"n\",\"active\":false}";
+    static final String SHUFFLED = "{\"score\":0.5,\"source\":{\"port\":8080,\"host\":\"localhost\"},\"active\":false,"
+            + "\"timestamp\":1600000000000,\"tenant\":\"t1\",\"note\":\"n\",\"count\":3,\"type\":\"click\"}";
+    // Avro JsonDecoder expects every union value wrapped with branch name
+    static final String ORDERED_AVRO = "{\"tenant\":\"t1\",\"type\":\"click\",\"timestamp\":1600000000000,\"count\":3,\"score\":0.5,"
+            + "\"source\":{\"host\":\"localhost\",\"port\":8080},\"note\":{\"string\":\"n\"},\"active\":false}";
+    static final String MISSING = "{\"tenant\":\"t1\",\"type\":\"click\",\"timestamp\":1600000000000,\"count\":3,\"score\":0.5,"
+            + "\"source\":{\"host\":\"localhost\",\"port\":8080}}";
+
+    private final DatumReader<GenericRecord> reader = new GenericDatumReader<>(SCHEMA);
+
+    private final byte[] ordered = ORDERED.getBytes(StandardCharsets.UTF_8);
+    private final byte[] shuffled = SHUFFLED.getBytes(StandardCharsets.UTF_8);
+    private final byte[] missing = MISSING.getBytes(StandardCharsets.UTF_8);
+
+    private GenericRecord record;
+    private JsonOptionalDecoder decoder;
+
+    @Setup
+    public void setup() throws IOException {
+        decoder = new JsonOptionalDecoder(SCHEMA, ordered, 0, ordered.length);
+    }
+
+    @Benchmark
+    public GenericRecord ordered() throws IOException {
+        return record = reader.read(record, decoder.configure(ordered, 0, ordered.length));
+    }
+
+    @Benchmark
+    public GenericRecord shuffled() throws IOException {
+        return record = reader.read(record, decoder.configure(shuffled, 0, shuffled.length));
+    }
+
+    @Benchmark
+    public GenericRecord missingOptional() throws IOException {
+        return record = reader.read(record, decoder.configure(missing, 0, missing.length));
+    }
+
+    @Benchmark
+    public GenericRecord orderedAvroJsonDecoder() throws IOException {
+        return record = reader.read(record, DecoderFactory.get().jsonDecoder(SCHEMA, ORDERED_AVRO));
+    }
+}
@@ -0,0 +1,98 @@
+package io.avro.decoder;
+
+/**
+ * Log-linear histogram of latencies in nanoseconds with fixed memory and about 3% precision.
+ * <p>
+ * Each power of two range is split into 32 linear buckets, so recording is a couple of bit
+ * operations and an array increment. Histogram is not thread-safe, each thread records into its own
+ * histogram and histograms are merged with {@link #add(LatencyHistogram)} when done.
+ * </p>
+ *
+ * @author Anton Kurako (GoodforGod)
+ * @since 19.10.2026
+ */
+final class LatencyHistogram {
+
+    private static final int SUB_BITS = 5;
+    private static final int SUB_COUNT = 1 << SUB_BITS;
+
+    private final long[] counts = new long[(64 - SUB_BITS + 1) * SUB_COUNT];
+    private long count;
+    private long total;
+    private long max;
+
+    void record(long nanos) {
+        final long value = Math.max(nanos, 0);
+        counts[getIndex(value)]++;
+        count++;
+        total += value;
+        if (value > max)
+            max = value;
+    }
+
+    void add(LatencyHistogram other) {
+        for (int i = 0; i < counts.length; i++)
+            counts[i] += other.counts[i];
+        count += other.count;
+        total += other.total;
+        max = Math.max(max, other.max);
+    }
+
+    long getCount() {
+        return count;
+    }
+
+    long getMax() {
+        return max;
+    }
+
+    double getMean() {
+        return (count == 0) ? 0 : (double) total / count;
+    }
+
+    /**
+     * @param percentile between 0 and 100
+     * @return highest value of bucket where percentile falls, not greater than max recorded value
+     */
+    long getValueAtPercentile(double percentile) {
+        if (count == 0)
+            return 0;
+
+        final long rank = Math.max(1, (long) Math.ceil(percentile / 100 * count));
+        long seen = 0;
+        for (int i = 0; i < counts.length; i++) {
+            seen += counts[i];
+            if (seen >= rank)
+                return Math.min(getHighestValue(i), max);
+        }
+
+        return max;
+    }
+
+    /**
+     * @return amount of recorded values in buckets which are entirely not greater than given value
+     */
+    long getCountAtOrBelow(long value) {
+        long seen = 0;
+        for (int i = 0; i < counts.length && getHighestValue(i) <= value; i++)
+            seen += counts[i];
+        return seen;
+    }
+
+    private static int getIndex(long value) {
+        if (value < SUB_COUNT * 2)
+            return (int) value;
+
+        final int shift = 63 - Long.numberOfLeadingZeros(value) - SUB_BITS;
+        return (shift + 1) * SUB_COUNT + (int) (value >>> shift) - SUB_COUNT;
+    }
+
+    private static long getHighestValue(int index) {
+        if (index < SUB_COUNT * 2)
+            return index;
+
+        final int shift = index / SUB_COUNT - 1;
+        final long lowest = (long) (index % SUB_COUNT + SUB_COUNT) << shift;
+        return lowest + (1L << shift) - 1;
+    }
+}
@@ -0,0 +1,243 @@
+package io.avro.decoder;
+
+import java.io.File;
+import java.io.IOException;
+import java.lang.management.GarbageCollectorMXBean;
+import java.lang.management.ManagementFactory;
+import java.util.*;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.atomic.AtomicReference;
+import org.apache.avro.Schema;
+import org.apache.avro.generic.GenericDatumReader;
+import org.apache.avro.io.DatumReader;
+
+/**
+ * Multi-threaded load test of {@link JsonOptionalDecoder} over synthetic payloads generated from
+ * given schema, reports throughput, latency percentiles and distribution and GC pauses.
+ * <p>
+ * Each thread decodes with its own decoder, while compiled schema, key cache and datum reader can
+ * be shared between threads to spot contention in shared state. Latencies are recorded into thread
+ * local histograms, which are merged once test is done. Run with:
+ * </p>
+ *
+ * <pre>
+ * ./gradlew loadTest -PloadTestArgs="--schema=event.avsc --threads=8 --shuffleRate=0.5"
+ * </pre>
+ *
+ * @author Anton Kurako (GoodforGod)
+ * @since 19.10.2026
+ */
+public final class LoadTest {
+
+    private static final String USAGE = "Options:\n"
+            + "  --schema=<path>          Avro schema (.avsc) to generate payloads from, required\n"
+            + "  --threads=<n>            decoding threads, defaults to available processors\n"
+            + "  --warmup=<seconds>       warmup duration, defaults to 5\n"
+            + "  --duration=<seconds>     measurement duration, defaults to 30\n"
+            + "  --payloads=<n>           distinct payloads per thread, defaults to 1024\n"
+            + "  --sharedSchema=<bool>    share compiled schema between threads, defaults to true\n"
+            + "  --sharedKeyCache=<bool>  share map key cache between threads, defaults to false\n"
+            + "  --sharedReader=<bool>    share datum reader between threads, defaults to false\n"
+            + "  --reuse=<bool>           reuse decoded record, defaults to true\n"
+            + JsonPayloadGenerator.USAGE;
+
+    private static final long[] DISTRIBUTION_NANOS = {
+            1_000L, 2_000L, 5_000L, 10_000L, 20_000L, 50_000L, 100_000L, 200_000L, 500_000L,
+            1_000_000L, 2_000_000L, 5_000_000L, 10_000_000L, 50_000_000L, 100_000_000L, 1_000_000_000L };
+
+    private final Schema schema;
+    private final ToolOptions options;
+
+    private LoadTest(Schema schema, ToolOptions options) {
+        this.schema = schema;
+        this.options = options;
+    }
+
+    public static void main(String[] args) throws Exception {
+        final ToolOptions options = ToolOptions.parse(args, USAGE);
+        final Schema schema = new Schema.Parser().parse(new File(options.getRequired("schema", USAGE)));
+        new LoadTest(schema, options).run();
+    }
+
+    private void run() throws Exception {
+        final int threads = options.getInt("threads", Runtime.getRuntime().availableProcessors());
+        final long warmupNanos = options.getInt("warmup", 5) * 1_000_000_000L;
+        final long durationNanos = options.getInt("duration", 30) * 1_000_000_000L;
+        final int payloads = options.getInt("payloads", 1024);
+        final long seed = options.getLong("seed", 42);
+        final boolean sharedSchema = options.getBoolean("sharedSchema", true);
+        final boolean sharedKeyCache = options.getBoolean("sharedKeyCache", false);
+        final boolean sharedReader = options.getBoolean("sharedReader", false);
+        final boolean reuse = options.getBoolean("reuse", true);
+        if (threads < 1 || payloads < 1)
+            throw new IllegalArgumentException("Threads and payloads should be positive");
+
+        final CompiledSchema compiledSchema = sharedSchema ? CompiledSchema.compile(schema) : null;
+        final KeyCache keyCache = sharedKeyCache ? new KeyCache() : null;
+        final DatumReader<Object> reader = sharedReader ? new GenericDatumReader<>(schema) : null;
+
+        final Worker[] workers = new Worker[threads];
+        long payloadBytes = 0;
+        for (int i = 0; i < threads; i++) {
+            final JsonPayloadGenerator generator = JsonPayloadGenerator.fromOptions(schema, options, seed + i);
+
+            final byte[][] generated = new byte[payloads][];
+            for (int j = 0; j < payloads; j++) {
+                generated[j] = generator.generate();
+                payloadBytes += generated[j].length;
+            }
+
+            final JsonOptionalDecoder decoder = (compiledSchema != null)
+                    ? new JsonOptionalDecoder(compiledSchema, generated[0], 0, generated[0].length)
+                    : new JsonOptionalDecoder(schema, generated[0], 0, generated[0].length);
+            decoder.withKeyCache(sharedKeyCache ? keyCache : new KeyCache());
+            workers[i] = new Worker(decoder, (reader != null) ? reader : new GenericDatumReader<>(schema), generated, reuse);
+        }
+
+        System.out.printf("Schema %s, %d threads, average payload %d bytes, warmup %ds, duration %ds%n",
+                schema.getFullName(), threads, payloadBytes / ((long) threads * payloads),
+                warmupNanos / 1_000_000_000L, durationNanos / 1_000_000_000L);
+
+        final long start = System.nanoTime();
+        final long measureFrom = start + warmupNanos;
+        final long stopAt = measureFrom + durationNanos;
+        final CountDownLatch done = new CountDownLatch(threads);
+        final AtomicReference<Throwable> failure = new AtomicReference<>();
+        for (int i = 0; i < threads; i++) {
+            final Worker worker = workers[i];
+            final Thread thread = new Thread(() -> {
+                try {
+                    worker.run(measureFrom, stopAt);
+                } catch (Throwable e) {
+                    failure.compareAndSet(null, e);
+                } finally {
+                    done.countDown();
+                }
+            }, "load-test-" + i);
+            thread.setDaemon(true);
+            thread.start();
+        }
+
+        Thread.sleep(Math.max(0, (measureFrom - System.nanoTime()) / 1_000_000));
+        final Map<String, long[]> gcBefore = getGarbageCollections();
+        done.await();
+        final long measureEnd = Math.min(System.nanoTime(), stopAt);
+        final Map<String, long[]> gcAfter = getGarbageCollections();
+
+        if (failure.get() != null) {
+            System.err.println("Load test failed in decoding thread");
+            failure.get().printStackTrace();
+            System.exit(2);
+        }
+
+        final LatencyHistogram histogram = new LatencyHistogram();
+        long bytes = 0;
+        for (Worker worker : workers) {
+            histogram.add(worker.histogram);
+            bytes += worker.bytes;
+        }
+
+        final double seconds = (measureEnd - measureFrom) / 1e9;
+        System.out.printf("%nThroughput: %,.0f records/s, %,.1f MB/s%n",
+                histogram.getCount() / seconds, bytes / seconds / (1024 * 1024));
+
+        System.out.printf("%nLatency (us): mean %.2f, p50 %.2f, p90 %.2f, p99 %.2f, p999 %.2f, max %.2f%n",
+                histogram.getMean() / 1000,
+                histogram.getValueAtPercentile(50) / 1000.0,
+                histogram.getValueAtPercentile(90) / 1000.0,
+                histogram.getValueAtPercentile(99) / 1000.0,
+                histogram.getValueAtPercentile(99.9) / 1000.0,
+                histogram.getMax() / 1000.0);
+
+        System.out.printf("%nLatency distribution:%n");
+        long previous = 0;
+        for (long bound : DISTRIBUTION_NANOS) {
+            final long below = histogram.getCountAtOrBelow(bound);
+            printBucket("<= " + formatNanos(bound), below - previous, below, histogram.getCount());
+            previous = below;
+        }
+        printBucket(" > " + formatNanos(DISTRIBUTION_NANOS[DISTRIBUTION_NANOS.length - 1]),
+                histogram.getCount() - previous, histogram.getCount(), histogram.getCount());
+
+        System.out.printf("%nGC pauses:%n");
+        long gcCount = 0;
+        long gcMillis = 0;
+        for (Map.Entry<String, long[]> entry : gcAfter.entrySet()) {
+            final long[] before = gcBefore.getOrDefault(entry.getKey(), new long[2]);
+            final long count = entry.getValue()[0] - before[0];
+            final long millis = entry.getValue()[1] - before[1];
+            gcCount += count;
+            gcMillis += millis;
+            System.out.printf("  %-24s %,8d collections %,10d ms%n", entry.getKey(), count, millis);
+        }
+        System.out.printf("  %-24s %,8d collections %,10d ms, %.2f%% of time, %.2f ms average%n", "total",
+                gcCount, gcMillis, gcMillis / (seconds * 10), (gcCount == 0) ? 0.0 : (double) gcMillis / gcCount);
+    }
+
+    private static void printBucket(String label, long count, long cumulative, long total) {
+        final double percent = (total == 0) ? 0 : count * 100.0 / total;
+        final double cumulativePercent = (total == 0) ? 0 : cumulative * 100.0 / total;
+        final StringBuilder bar = new StringBuilder();
+        for (int i = 0; i < (int) (percent / 2); i++)
+            bar.append('#');
+        System.out.printf("  %-10s %,14d %7.3f%% %8.3f%% %s%n", label, count, percent, cumulativePercent, bar);
+    }
+
+    private static String formatNanos(long nanos) {
+        if (nanos >= 1_000_000_000L)
+            return nanos / 1_000_000_000L + "s";
+        if (nanos >= 1_000_000L)
+            return nanos / 1_000_000L + "ms";
+        return nanos / 1_000L + "us";
+    }
+
+    /**
+     * @return collection count and time in milliseconds per garbage collector
+     */
+    private static Map<String, long[]> getGarbageCollections() {
+        final Map<String, long[]> collections = new LinkedHashMap<>();
+        for (GarbageCollectorMXBean bean : ManagementFactory.getGarbageCollectorMXBeans()) {
+            collections.put(bean.getName(), new long[] { Math.max(0, bean.getCollectionCount()),
+                    Math.max(0, bean.getCollectionTime()) });
+        }
+        return collections;
+    }
+
+    private static final class Worker {
+
+        private final JsonOptionalDecoder decoder;
+        private final DatumReader<Object> reader;
+        private final byte[][] payloads;
+        private final boolean reuse;
+        private final LatencyHistogram histogram = new LatencyHistogram();
+        private long bytes;
+
+        private Worker(JsonOptionalDecoder decoder, DatumReader<Object> reader, byte[][] payloads, boolean reuse) {
+            this.decoder = decoder;
+            this.reader = reader;
+            this.payloads = payloads;
+            this.reuse = reuse;
+        }
+
+        private void run(long measureFrom, long stopAt) throws IOException {
+            Object record = null;
+            int next = 0;
+            long now = System.nanoTime();
+            while (now < stopAt) {
+                final byte[] payload = payloads[next];
+                next = (next + 1 == payloads.length) ? 0 : next + 1;
+
+                final long started = now;
+                final Object decoded = reader.read(record, decoder.configure(payload, 0, payload.length));
+                if (reuse)
+                    record = decoded;
+                now = System.nanoTime();
+
+                if (started >= measureFrom) {
+                    histogram.record(now - started);
+                    bytes += payload.length;
+                }
+            }
+        }
+    }
+}
@@ -0,0 +1,20 @@
+package io.avro.decoder;
+
+/**
+ * Encoding of Avro bytes and fixed values inside JSON strings
+ *
+ * @author Anton Kurako (GoodforGod)
+ * @since 19.10.2026
+ */
+public enum BinaryEncoding {
+
+    /**
+     * Avro JSON encoding, each byte is represented by single ISO-8859-1 character
+     */
+    ISO_8859_1,
+
+    /**
+     * Base64 encoded string, as per {@link com.fasterxml.jackson.core.Base64Variants#getDefaultVariant()}
+     */
+    BASE64
+}
@@ -0,0 +1,117 @@
+package io.avro.decoder;
+
+import java.io.OutputStream;
+import org.apache.avro.AvroTypeException;
+
+/**
+ * Output stream that fills reused byte array, used to decode Base64 binary values without
+ * intermediate arrays and to append string and binary values straight from parser char buffer.
+ *
+ * @author Anton Kurako (GoodforGod)
+ * @since 19.10.2026
+ */
+final class BinarySink extends OutputStream {
+
+    private static final byte[] EMPTY = new byte[0];
+
+    private byte[] array = EMPTY;
+    private int offset;
+    private int capacity;
+    private int size;
+    private boolean growable;
+    private boolean discard;
+
+    /**
+     * @param array    to fill
+     * @param offset   in array to start from
+     * @param capacity maximum bytes to write into array
+     * @param growable if array can be replaced with larger one when capacity is exceeded
+     * @return this sink
+     */
+    BinarySink reset(byte[] array, int offset, int capacity, boolean growable) {
+        this.array = (array == null) ? EMPTY : array;
+        this.offset = offset;
+        this.capacity = capacity;
+        this.growable = growable;
+        this.discard = false;
+        this.size = 0;
+        return this;
+    }
+
+    /**
+     * Only counts bytes written
+     *
+     * @return this sink
+     */
+    BinarySink discard() {
+        reset(EMPTY, 0, 0, false);
+        this.discard = true;
+        return this;
+    }
+
+    byte[] array() {
+        return array;
+    }
+
+    int size() {
+        return size;
+    }
+
+    @Override
+    public void write(int b) {
+        if (!discard) {
+            ensureCapacity(1);
+            array[offset + size] = (byte) b;
+        }
+        size++;
+    }
+
+    @Override
+    public void write(byte[] b, int off, int len) {
+        if (!discard) {
+            ensureCapacity(len);
+            System.arraycopy(b, off, array, offset + size, len);
+        }
+        size += len;
+    }
+
+    /**
+     * Appends characters encoded as ISO-8859-1
+     *
+     * @param chars  to append
+     * @param start  in chars
+     * @param length of chars to append
+     */
+    void writeLatin1(char[] chars, int start, int length) {
+        ensureCapacity(length);
+        size = Latin1Chars.encode(chars, start, length, array, offset + size) - offset;
+    }
+
+    /**
+     * Appends characters encoded as UTF-8
+     *
+     * @param chars  to append
+     * @param start  in chars
+     * @param length of chars to append
+     */
+    void writeUtf8(char[] chars, int start, int length) {
+        ensureCapacity(length * 3);
+        size = Utf8Chars.encode(chars, start, length, array, offset + size) - offset;
+    }
+
+    private void ensureCapacity(int length) {
+        final int required = size + length;
+        if (required <= capacity)
+            return;
+
+        if (!growable)
+            throw new AvroTypeException("Expected fixed length " + capacity + ", but got at least " + required);
+
+        final int newCapacity = Math.max(Math.max(capacity * 2, required), 16);
+        final byte[] newArray = new byte[newCapacity];
+        System.arraycopy(array, offset, newArray, 0, size);
+        this.array = newArray;
+        this.offset = 0;
+        this.capacity = newCapacity;
+    }
+}
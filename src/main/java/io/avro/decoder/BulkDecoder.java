@@ -0,0 +1,251 @@
+package io.avro.decoder;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.Arrays;
+import org.apache.avro.AvroRuntimeException;
+import org.apache.avro.Schema;
+import org.apache.avro.generic.GenericDatumReader;
+import org.apache.avro.io.DatumReader;
+
+/**
+ * Lenient decoder of newline delimited JSON records for bulk loads.
+ * <p>
+ * Record which fails to decode does not abort the stream, decoding resynchronizes at next line and
+ * failed record is sent to {@link DeadLetterSink} with its byte offset in input and JSON path of
+ * field where decoding failed. Type mismatches and missing fields are signaled with single
+ * preallocated stackless error per decoder, so high error rates do not collapse throughput.
+ * </p>
+ * Blank lines are skipped, decoder is not thread-safe.
+ *
+ * @author Anton Kurako (GoodforGod)
+ * @since 19.10.2026
+ */
+public class BulkDecoder<D> {
+
+    /**
+     * Handler of successfully decoded records
+     */
+    @FunctionalInterface
+    public interface RecordHandler<D> {
+
+        void onRecord(D record) throws IOException;
+    }
+
+    /**
+     * Sink of records failed to decode
+     */
+    @FunctionalInterface
+    public interface DeadLetterSink {
+
+        void onDeadLetter(DeadLetter deadLetter) throws IOException;
+    }
+
+    /**
+     * Record failed to decode
+     */
+    public static final class DeadLetter {
+
+        private final long offset;
+        private final byte[] json;
+        private final String path;
+        private final String message;
+
+        private DeadLetter(long offset, byte[] json, String path, String message) {
+            this.offset = offset;
+            this.json = json;
+            this.path = path;
+            this.message = message;
+        }
+
+        /**
+         * @return byte offset of record start in input
+         */
+        public long getOffset() {
+            return offset;
+        }
+
+        /**
+         * @return byte offset of record end (exclusive) in input
+         */
+        public long getEndOffset() {
+            return offset + json.length;
+        }
+
+        /**
+         * @return record bytes in UTF-8
+         */
+        public byte[] getJson() {
+            return json;
+        }
+
+        /**
+         * @return JSON path of field where decoding failed, such as {@code $.source.host}
+         */
+        public String getPath() {
+            return path;
+        }
+
+        public String getMessage() {
+            return message;
+        }
+
+        @Override
+        public String toString() {
+            return "DeadLetter{offset=" + offset + ", length=" + json.length + ", path=" + path + ", message=" + message + '}';
+        }
+    }
+
+    private static final int BUFFER_SIZE = 64 * 1024;
+
+    private final DatumReader<D> reader;
+    private final DeadLetterSink sink;
+    private final JsonOptionalDecoder decoder;
+
+    private byte[] buffer = new byte[BUFFER_SIZE];
+
+    public BulkDecoder(Schema schema, DeadLetterSink sink) throws IOException {
+        this(schema, new GenericDatumReader<>(schema), sink);
+    }
+
+    /**
+     * @param schema of records
+     * @param reader to read records with
+     * @param sink   of records failed to decode
+     * @throws IOException never, as decoder is created over empty input
+     */
+    public BulkDecoder(Schema schema, DatumReader<D> reader, DeadLetterSink sink) throws IOException {
+        if (null == schema)
+            throw new NullPointerException("Schema cannot be null!");
+        if (null == reader)
+            throw new NullPointerException("DatumReader cannot be null!");
+        if (null == sink)
+            throw new NullPointerException("DeadLetterSink cannot be null!");
+
+        this.reader = reader;
+        this.sink = sink;
+        this.decoder = new JsonOptionalDecoder(schema, buffer, 0, 0).withErrorSignal();
+    }
+
+    /**
+     * @return decoder used for records, to configure binary encoding, logical types and etc.
+     */
+    public JsonOptionalDecoder getDecoder() {
+        return decoder;
+    }
+
+    /**
+     * @param json    NDJSON bytes in UTF-8
+     * @param handler of decoded records
+     * @return amount of decoded records
+     * @throws IOException from handler or sink
+     */
+    public long decode(byte[] json, RecordHandler<D> handler) throws IOException {
+        return decode(json, 0, json.length, handler);
+    }
+
+    /**
+     * @param json    NDJSON bytes in UTF-8
+     * @param offset  of input in bytes
+     * @param length  of input in bytes
+     * @param handler of decoded records
+     * @return amount of decoded records, offsets of dead letters are relative to offset
+     * @throws IOException from handler or sink
+     */
+    public long decode(byte[] json, int offset, int length, RecordHandler<D> handler) throws IOException {
+        if (null == handler)
+            throw new NullPointerException("RecordHandler cannot be null!");
+
+        final int end = offset + length;
+        long decoded = 0;
+        int start = offset;
+        while (start < end) {
+            int lineEnd = start;
+            while (lineEnd < end && json[lineEnd] != '\n')
+                lineEnd++;
+
+            if (decodeLine(json, start, lineEnd, start - offset, handler))
+                decoded++;
+            start = lineEnd + 1;
+        }
+
+        return decoded;
+    }
+
+    /**
+     * @param in      NDJSON stream in UTF-8
+     * @param handler of decoded records
+     * @return amount of decoded records
+     * @throws IOException from stream, handler or sink
+     */
+    public long decode(InputStream in, RecordHandler<D> handler) throws IOException {
+        if (null == in)
+            throw new NullPointerException("InputStream cannot be null!");
+        if (null == handler)
+            throw new NullPointerException("RecordHandler cannot be null!");
+
+        long decoded = 0;
+        long consumed = 0;
+        int start = 0;
+        int end = 0;
+        int scanned = 0;
+        while (true) {
+            while (scanned < end && buffer[scanned] != '\n')
+                scanned++;
+
+            if (scanned < end) {
+                if (decodeLine(buffer, start, scanned, consumed, handler))
+                    decoded++;
+                consumed += scanned + 1 - start;
+                start = ++scanned;
+                continue;
+            }
+
+            // line is incomplete, compact or grow buffer and read more
+            if (start > 0) {
+                System.arraycopy(buffer, start, buffer, 0, end - start);
+                end -= start;
+                scanned = end;
+                start = 0;
+            } else if (end == buffer.length) {
+                buffer = Arrays.copyOf(buffer, buffer.length * 2);
+            }
+
+            final int read = in.read(buffer, end, buffer.length - end);
+            if (read < 0) {
+                if (end > 0 && decodeLine(buffer, 0, end, consumed, handler))
+                    decoded++;
+                return decoded;
+            }
+
+            end += read;
+        }
+    }
+
+    /**
+     * @return true if line was decoded, false if it is blank or was sent to sink
+     */
+    private boolean decodeLine(byte[] json, int start, int end, long offset, RecordHandler<D> handler) throws IOException {
+        int first = start;
+        while (first < end && isWhitespace(json[first]))
+            first++;
+        if (first == end)
+            return false;
+
+        final D record;
+        try {
+            decoder.configure(json, start, end - start);
+            record = reader.read(null, decoder);
+        } catch (IOException | AvroRuntimeException e) {
+            sink.onDeadLetter(new DeadLetter(offset, Arrays.copyOfRange(json, start, end), decoder.getPath(), e.getMessage()));
+            return false;
+        }
+
+        handler.onRecord(record);
+        return true;
+    }
+
+    private static boolean isWhitespace(byte b) {
+        return b == ' ' || b == '\t' || b == '\r' || b == '\n';
+    }
+}
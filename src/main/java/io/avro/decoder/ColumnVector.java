@@ -0,0 +1,237 @@
+package io.avro.decoder;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.List;
+import org.apache.avro.AvroTypeException;
+import org.apache.avro.Schema;
+
+/**
+ * Column of primitive values decoded by {@link ColumnarBatchDecoder}.
+ * <p>
+ * Values are stored per Avro type:
+ * <ul>
+ * <li>boolean, int, long - {@link #getLongs()}, boolean as 0 or 1</li>
+ * <li>float, double - {@link #getDoubles()}</li>
+ * <li>enum - {@link #getCodes()} as indexes in {@link #getDictionary()}</li>
+ * <li>string, bytes, fixed - {@link #getData()} where value of row N is located between
+ * {@link #getOffsets()} N and N + 1, strings are UTF-8 encoded</li>
+ * </ul>
+ * Nullable columns mark present values in {@link #getValidity()} bitmap, bit N is set when value of
+ * row N is not null.
+ * </p>
+ * Arrays are reused between batches and can be larger than batch size.
+ *
+ * @author Anton Kurako (GoodforGod)
+ * @since 19.10.2026
+ */
+public final class ColumnVector {
+
+    private final String name;
+    private final Schema schema;
+    private final boolean nullable;
+
+    private final long[] longs;
+    private final double[] doubles;
+    private final int[] codes;
+    private final int[] offsets;
+    private final BinarySink data;
+    private final long[] validity;
+
+    ColumnVector(String name, Schema schema, boolean nullable, int capacity) {
+        this.name = name;
+        this.schema = schema;
+        this.nullable = nullable;
+        this.validity = nullable ? new long[(capacity + 63) >>> 6] : null;
+
+        switch (schema.getType()) {
+            case BOOLEAN:
+            case INT:
+            case LONG:
+                this.longs = new long[capacity];
+                this.doubles = null;
+                this.codes = null;
+                this.offsets = null;
+                this.data = null;
+                break;
+            case FLOAT:
+            case DOUBLE:
+                this.longs = null;
+                this.doubles = new double[capacity];
+                this.codes = null;
+                this.offsets = null;
+                this.data = null;
+                break;
+            case ENUM:
+                this.longs = null;
+                this.doubles = null;
+                this.codes = new int[capacity];
+                this.offsets = null;
+                this.data = null;
+                break;
+            case STRING:
+            case BYTES:
+            case FIXED:
+                this.longs = null;
+                this.doubles = null;
+                this.codes = null;
+                this.offsets = new int[capacity + 1];
+                this.data = new BinarySink().reset(new byte[capacity * 16], 0, capacity * 16, true);
+                break;
+            default:
+                throw new AvroTypeException("Unsupported columnar type " + schema.getType() + " for field: " + name);
+        }
+    }
+
+    /**
+     * @return field path, nested record fields are separated with dot
+     */
+    public String getName() {
+        return name;
+    }
+
+    /**
+     * @return non-null schema of column values
+     */
+    public Schema getSchema() {
+        return schema;
+    }
+
+    public Schema.Type getType() {
+        return schema.getType();
+    }
+
+    public boolean isNullable() {
+        return nullable;
+    }
+
+    public long[] getLongs() {
+        return longs;
+    }
+
+    public double[] getDoubles() {
+        return doubles;
+    }
+
+    public int[] getCodes() {
+        return codes;
+    }
+
+    public int[] getOffsets() {
+        return offsets;
+    }
+
+    public byte[] getData() {
+        return (data == null) ? null : data.array();
+    }
+
+    public long[] getValidity() {
+        return validity;
+    }
+
+    /**
+     * @return enum symbols codes refer to
+     */
+    public List<String> getDictionary() {
+        return (codes == null) ? null : schema.getEnumSymbols();
+    }
+
+    public boolean isNull(int row) {
+        return nullable && (validity[row >>> 6] & (1L << row)) == 0;
+    }
+
+    public boolean getBoolean(int row) {
+        return longs[row] != 0;
+    }
+
+    public long getLong(int row) {
+        return longs[row];
+    }
+
+    public double getDouble(int row) {
+        return doubles[row];
+    }
+
+    public int getCode(int row) {
+        return codes[row];
+    }
+
+    /**
+     * @param row to get value for
+     * @return string value of row, allocates new String
+     */
+    public String getString(int row) {
+        return new String(data.array(), offsets[row], offsets[row + 1] - offsets[row], StandardCharsets.UTF_8);
+    }
+
+    /**
+     * @param row to get value for
+     * @return copy of bytes value of row
+     */
+    public byte[] getBytes(int row) {
+        return Arrays.copyOfRange(data.array(), offsets[row], offsets[row + 1]);
+    }
+
+    void reset() {
+        if (validity != null)
+            Arrays.fill(validity, 0L);
+
+        if (data != null) {
+            final byte[] array = data.array();
+            data.reset(array, 0, array.length, true);
+        }
+    }
+
+    void read(JsonOptionalDecoder decoder, int row) throws IOException {
+        switch (schema.getType()) {
+            case BOOLEAN:
+                longs[row] = decoder.readBoolean() ? 1 : 0;
+                break;
+            case INT:
+                longs[row] = decoder.readInt();
+                break;
+            case LONG:
+                longs[row] = decoder.readLong();
+                break;
+            case FLOAT:
+                doubles[row] = decoder.readFloat();
+                break;
+            case DOUBLE:
+                doubles[row] = decoder.readDouble();
+                break;
+            case ENUM:
+                codes[row] = decoder.readEnum();
+                break;
+            case STRING:
+                decoder.readStringInto(data);
+                offsets[row + 1] = data.size();
+                break;
+            case BYTES:
+                decoder.readBytesInto(data);
+                offsets[row + 1] = data.size();
+                break;
+            case FIXED:
+                decoder.readFixedInto(data, schema.getFixedSize());
+                offsets[row + 1] = data.size();
+                break;
+            default:
+                throw new AvroTypeException("Unsupported columnar type " + schema.getType() + " for field: " + name);
+        }
+
+        if (nullable)
+            validity[row >>> 6] |= 1L << row;
+    }
+
+    void setNull(int row) {
+        if (longs != null) {
+            longs[row] = 0;
+        } else if (doubles != null) {
+            doubles[row] = 0;
+        } else if (codes != null) {
+            codes[row] = -1;
+        } else {
+            offsets[row + 1] = offsets[row];
+        }
+    }
+}
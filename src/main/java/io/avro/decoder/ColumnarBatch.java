@@ -0,0 +1,69 @@
+package io.avro.decoder;
+
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Batch of records decoded by {@link ColumnarBatchDecoder} as {@link ColumnVector} per field.
+ * <p>
+ * Batch and its columns are reused by decoder and are overwritten by next decoded batch.
+ * </p>
+ *
+ * @author Anton Kurako (GoodforGod)
+ * @since 19.10.2026
+ */
+public final class ColumnarBatch {
+
+    private final int capacity;
+    private final List<ColumnVector> columns;
+    private final Map<String, ColumnVector> columnsByName = new LinkedHashMap<>();
+
+    private int size;
+
+    ColumnarBatch(List<ColumnVector> columns, int capacity) {
+        this.capacity = capacity;
+        this.columns = Collections.unmodifiableList(columns);
+        for (ColumnVector column : columns) {
+            columnsByName.put(column.getName(), column);
+        }
+    }
+
+    /**
+     * @return amount of records decoded into batch
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * @return maximum amount of records batch can hold
+     */
+    public int capacity() {
+        return capacity;
+    }
+
+    public List<ColumnVector> getColumns() {
+        return columns;
+    }
+
+    /**
+     * @param name of field, nested record fields are separated with dot
+     * @return column or null if field is not present
+     */
+    public ColumnVector getColumn(String name) {
+        return columnsByName.get(name);
+    }
+
+    void reset() {
+        this.size = 0;
+        for (ColumnVector column : columns) {
+            column.reset();
+        }
+    }
+
+    void setSize(int size) {
+        this.size = size;
+    }
+}
@@ -0,0 +1,187 @@
+package io.avro.decoder;
+
+import java.io.EOFException;
+import java.io.IOException;
+import java.util.*;
+import org.apache.avro.AvroTypeException;
+import org.apache.avro.Schema;
+import org.apache.avro.Schema.Field;
+
+/**
+ * Decodes stream of JSON records straight into {@link ColumnarBatch} of primitive columns, without
+ * building {@link org.apache.avro.generic.GenericRecord} per record.
+ * <p>
+ * Records are read via {@link JsonOptionalDecoder}, so missing optional fields, defaults and
+ * reordered fields are treated the same way. Schema is expected to be record with primitive, enum,
+ * fixed, nullable (union of null and single other type) and nested record fields. Nested record
+ * fields are flattened into columns named by dot separated path.
+ * </p>
+ * ColumnarBatchDecoder is not thread-safe.
+ *
+ * @author Anton Kurako (GoodforGod)
+ * @since 19.10.2026
+ */
+public class ColumnarBatchDecoder {
+
+    private interface FieldReader {
+
+        void read(JsonOptionalDecoder decoder, int row) throws IOException;
+
+        void setNull(int row);
+    }
+
+    private static final class ColumnReader implements FieldReader {
+
+        private final ColumnVector column;
+
+        private ColumnReader(ColumnVector column) {
+            this.column = column;
+        }
+
+        @Override
+        public void read(JsonOptionalDecoder decoder, int row) throws IOException {
+            column.read(decoder, row);
+        }
+
+        @Override
+        public void setNull(int row) {
+            column.setNull(row);
+        }
+    }
+
+    private static final class NullableReader implements FieldReader {
+
+        private final int nullIndex;
+        private final FieldReader reader;
+
+        private NullableReader(int nullIndex, FieldReader reader) {
+            this.nullIndex = nullIndex;
+            this.reader = reader;
+        }
+
+        @Override
+        public void read(JsonOptionalDecoder decoder, int row) throws IOException {
+            if (decoder.readIndex() == nullIndex) {
+                decoder.readNull();
+                reader.setNull(row);
+            } else {
+                reader.read(decoder, row);
+            }
+        }
+
+        @Override
+        public void setNull(int row) {
+            reader.setNull(row);
+        }
+    }
+
+    private static final class RecordReader implements FieldReader {
+
+        private final FieldReader[] fields;
+
+        private RecordReader(List<FieldReader> fields) {
+            this.fields = fields.toArray(new FieldReader[0]);
+        }
+
+        @Override
+        public void read(JsonOptionalDecoder decoder, int row) throws IOException {
+            for (FieldReader field : fields) {
+                field.read(decoder, row);
+            }
+        }
+
+        @Override
+        public void setNull(int row) {
+            for (FieldReader field : fields) {
+                field.setNull(row);
+            }
+        }
+    }
+
+    private final Schema schema;
+    private final FieldReader reader;
+    private final ColumnarBatch batch;
+
+    /**
+     * @param schema   of records to decode
+     * @param capacity maximum amount of records per batch
+     */
+    public ColumnarBatchDecoder(Schema schema, int capacity) {
+        if (null == schema)
+            throw new NullPointerException("Schema cannot be null!");
+        if (schema.getType() != Schema.Type.RECORD)
+            throw new AvroTypeException("Expected record schema, but got: " + schema.getType());
+        if (capacity < 1)
+            throw new IllegalArgumentException("Capacity should be positive, but was: " + capacity);
+
+        final List<ColumnVector> columns = new ArrayList<>();
+        final Set<Schema> path = Collections.newSetFromMap(new IdentityHashMap<>());
+        this.schema = schema;
+        this.reader = compile("", schema, false, columns, path, capacity);
+        this.batch = new ColumnarBatch(columns, capacity);
+    }
+
+    public Schema getSchema() {
+        return schema;
+    }
+
+    /**
+     * Decodes up to batch capacity records, batch size is less than capacity only when input is
+     * exhausted and is 0 when there are no more records.
+     *
+     * @param decoder configured with this decoder schema
+     * @return reused batch with decoded records
+     * @throws IOException in case of decoder error
+     */
+    public ColumnarBatch decode(JsonOptionalDecoder decoder) throws IOException {
+        batch.reset();
+        int row = 0;
+        try {
+            for (; row < batch.capacity(); row++) {
+                reader.read(decoder, row);
+            }
+        } catch (EOFException e) {
+            // decoder reports end of input only at record boundary
+        }
+
+        batch.setSize(row);
+        return batch;
+    }
+
+    private static FieldReader compile(String name,
+                                       Schema schema,
+                                       boolean nullable,
+                                       List<ColumnVector> columns,
+                                       Set<Schema> path,
+                                       int capacity) {
+        switch (schema.getType()) {
+            case RECORD:
+                if (!path.add(schema))
+                    throw new AvroTypeException("Unsupported columnar recursive record for field: " + name);
+
+                final List<FieldReader> fields = new ArrayList<>();
+                for (Field field : schema.getFields()) {
+                    final String fieldName = name.isEmpty() ? field.name() : name + "." + field.name();
+                    fields.add(compile(fieldName, field.schema(), nullable, columns, path, capacity));
+                }
+
+                path.remove(schema);
+                return new RecordReader(fields);
+            case UNION:
+                final List<Schema> types = schema.getTypes();
+                if (types.size() == 2) {
+                    final int nullIndex = (types.get(0).getType() == Schema.Type.NULL) ? 0 : 1;
+                    if (types.get(nullIndex).getType() == Schema.Type.NULL) {
+                        final Schema type = types.get(1 - nullIndex);
+                        return new NullableReader(nullIndex, compile(name, type, true, columns, path, capacity));
+                    }
+                }
+
+                throw new AvroTypeException("Unsupported columnar union " + types + " for field: " + name);
+            default:
+                final ColumnVector column = new ColumnVector(name, schema, nullable, capacity);
+                columns.add(column);
+                return new ColumnReader(column);
+        }
+    }
+}
@@ -0,0 +1,109 @@
+package io.avro.decoder;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.*;
+import org.apache.avro.LogicalType;
+import org.apache.avro.Schema;
+import org.apache.avro.Schema.Field;
+import org.apache.avro.io.parsing.Symbol;
+
+/**
+ * Schema with JSON grammar, default value tokens and logical types of its fields precompiled once,
+ * so {@link JsonOptionalDecoder} created with it does no schema work at runtime.
+ * <p>
+ * Compiled schema is immutable and can be shared between threads and decoders, see
+ * {@link CompiledSchemas} for schemas listed in resources.
+ * </p>
+ *
+ * @author Anton Kurako (GoodforGod)
+ * @since 19.10.2026
+ */
+public final class CompiledSchema {
+
+    private final Schema schema;
+    private final Symbol root;
+    private final Map<Field, List<JsonElement>> defaultTokens;
+    private final Map<Field, LogicalType> logicalTypes;
+
+    private CompiledSchema(Schema schema) {
+        this.schema = schema;
+        this.root = JsonOptionalDecoder.getSymbol(schema);
+
+        final List<Field> fields = new ArrayList<>();
+        collectFields(schema, fields, new HashSet<>());
+
+        final Map<Field, List<JsonElement>> tokens = new IdentityHashMap<>();
+        final Map<Field, LogicalType> types = new IdentityHashMap<>();
+        try {
+            for (Field field : fields) {
+                final List<JsonElement> fieldTokens = JsonOptionalDecoder.findDefaultValueTokens(field);
+                if (fieldTokens != null)
+                    tokens.put(field, Collections.unmodifiableList(fieldTokens));
+                types.put(field, JsonOptionalDecoder.findFieldLogicalType(field));
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+
+        this.defaultTokens = Collections.unmodifiableMap(tokens);
+        this.logicalTypes = Collections.unmodifiableMap(types);
+    }
+
+    /**
+     * @param schema to compile
+     * @return compiled schema
+     */
+    public static CompiledSchema compile(Schema schema) {
+        if (null == schema)
+            throw new NullPointerException("Schema cannot be null!");
+
+        return new CompiledSchema(schema);
+    }
+
+    public Schema getSchema() {
+        return schema;
+    }
+
+    Symbol getRoot() {
+        return root;
+    }
+
+    /**
+     * @return default value tokens by fields of schema records
+     */
+    Map<Field, List<JsonElement>> getDefaultTokens() {
+        return defaultTokens;
+    }
+
+    /**
+     * @return logical types by fields of schema records
+     */
+    Map<Field, LogicalType> getLogicalTypes() {
+        return logicalTypes;
+    }
+
+    private static void collectFields(Schema schema, List<Field> fields, Set<String> visited) {
+        switch (schema.getType()) {
+            case RECORD:
+                if (!visited.add(schema.getFullName()))
+                    return;
+                for (Field field : schema.getFields()) {
+                    fields.add(field);
+                    collectFields(field.schema(), fields, visited);
+                }
+                return;
+            case UNION:
+                for (Schema type : schema.getTypes())
+                    collectFields(type, fields, visited);
+                return;
+            case ARRAY:
+                collectFields(schema.getElementType(), fields, visited);
+                return;
+            case MAP:
+                collectFields(schema.getValueType(), fields, visited);
+                return;
+            default:
+        }
+    }
+}
@@ -0,0 +1,90 @@
+package io.avro.decoder;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.UncheckedIOException;
+import java.net.URL;
+import java.nio.charset.StandardCharsets;
+import java.util.*;
+import org.apache.avro.Schema;
+
+/**
+ * Registry of schemas compiled when class is initialized.
+ * <p>
+ * Schemas are listed as paths of {@code .avsc} files relative to {@value #SCHEMAS_DIRECTORY}, one
+ * per line, in {@value #SCHEMAS_RESOURCE} resources (lines starting with {@code #} are comments).
+ * Native image includes resources under {@value #SCHEMAS_DIRECTORY}, so listed schemas are found
+ * and compiled once on first access both on JVM and in native image.
+ * </p>
+ *
+ * @author Anton Kurako (GoodforGod)
+ * @since 19.10.2026
+ */
+public final class CompiledSchemas {
+
+    public static final String SCHEMAS_DIRECTORY = "META-INF/avro-json-optional-decoder/";
+    public static final String SCHEMAS_RESOURCE = SCHEMAS_DIRECTORY + "schemas";
+
+    private static final Map<String, CompiledSchema> SCHEMAS = load();
+
+    private CompiledSchemas() {}
+
+    /**
+     * @param resource path of {@code .avsc} resource relative to {@value #SCHEMAS_DIRECTORY} as listed
+     *                 in {@value #SCHEMAS_RESOURCE}
+     * @return compiled schema or null if schema is not listed
+     */
+    public static CompiledSchema get(String resource) {
+        return SCHEMAS.get(resource);
+    }
+
+    /**
+     * @return compiled schemas by their listed resource paths
+     */
+    public static Map<String, CompiledSchema> getAll() {
+        return SCHEMAS;
+    }
+
+    private static Map<String, CompiledSchema> load() {
+        final ClassLoader classLoader = CompiledSchemas.class.getClassLoader();
+        final Map<String, CompiledSchema> schemas = new LinkedHashMap<>();
+        try {
+            final Enumeration<URL> lists = classLoader.getResources(SCHEMAS_RESOURCE);
+            while (lists.hasMoreElements()) {
+                for (String resource : readLines(lists.nextElement().openStream())) {
+                    if (!schemas.containsKey(resource))
+                        schemas.put(resource, CompiledSchema.compile(parse(classLoader, resource)));
+                }
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+
+        return Collections.unmodifiableMap(schemas);
+    }
+
+    private static Schema parse(ClassLoader classLoader, String resource) throws IOException {
+        try (InputStream stream = classLoader.getResourceAsStream(SCHEMAS_DIRECTORY + resource)) {
+            if (stream == null)
+                throw new IllegalArgumentException("Schema resource not found: " + SCHEMAS_DIRECTORY + resource);
+
+            return new Schema.Parser().parse(stream);
+        }
+    }
+
+    private static List<String> readLines(InputStream stream) throws IOException {
+        final List<String> lines = new ArrayList<>();
+        try (BufferedReader reader = new BufferedReader(new InputStreamReader(stream, StandardCharsets.UTF_8))) {
+            String line;
+            while ((line = reader.readLine()) != null) {
+                line = line.trim();
+                if (!line.isEmpty() && !line.startsWith("#"))
+                    lines.add(line);
+            }
+        }
+
+        return lines;
+    }
+}
@@ -0,0 +1,48 @@
+package io.avro.decoder;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.ServiceLoader;
+
+/**
+ * Decompression codec of compressed JSON feeds used by {@link PipelinedDecoder}.
+ * <p>
+ * Codecs are discovered via {@link ServiceLoader}, so codecs other than built-in
+ * {@link GzipCompressionCodec} (zstd, snappy and etc.) are plugged in by listing implementation in
+ * {@code META-INF/services/io.avro.decoder.CompressionCodec} resource.
+ * </p>
+ *
+ * @author Anton Kurako (GoodforGod)
+ * @since 19.10.2026
+ */
+public interface CompressionCodec {
+
+    /**
+     * @return codec name, such as {@code gzip}
+     */
+    String getName();
+
+    /**
+     * @param in compressed stream
+     * @return decompressed stream
+     * @throws IOException if stream header is invalid
+     */
+    InputStream decompress(InputStream in) throws IOException;
+
+    /**
+     * @param name of codec
+     * @return codec discovered via {@link ServiceLoader}
+     * @throws IllegalArgumentException if no codec with such name is found
+     */
+    static CompressionCodec forName(String name) {
+        if (null == name)
+            throw new NullPointerException("Codec name cannot be null!");
+
+        for (CompressionCodec codec : ServiceLoader.load(CompressionCodec.class, CompressionCodec.class.getClassLoader())) {
+            if (name.equalsIgnoreCase(codec.getName()))
+                return codec;
+        }
+
+        throw new IllegalArgumentException("Compression codec not found: " + name);
+    }
+}
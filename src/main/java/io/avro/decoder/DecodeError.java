@@ -0,0 +1,51 @@
+package io.avro.decoder;
+
+import com.fasterxml.jackson.core.JsonToken;
+import org.apache.avro.AvroTypeException;
+
+/**
+ * Stackless decode error preallocated per decoder, so high error rates in bulk decoding do not pay
+ * for stack traces and exception allocation. Message is built only when requested.
+ * <p>
+ * Instance is overwritten by next error of same decoder, so it should not be retained.
+ * </p>
+ *
+ * @author Anton Kurako (GoodforGod)
+ * @since 19.10.2026
+ */
+final class DecodeError extends AvroTypeException {
+
+    private static final long serialVersionUID = 1L;
+
+    private String expected;
+    private JsonToken actual;
+    private String message;
+
+    DecodeError() {
+        super("Decode error");
+    }
+
+    DecodeError setMismatch(String expected, JsonToken actual) {
+        this.expected = expected;
+        this.actual = actual;
+        this.message = null;
+        return this;
+    }
+
+    DecodeError setMessage(String message) {
+        this.expected = null;
+        this.actual = null;
+        this.message = message;
+        return this;
+    }
+
+    @Override
+    public String getMessage() {
+        return (message != null) ? message : "Expected " + expected + ". Got " + actual;
+    }
+
+    @Override
+    public synchronized Throwable fillInStackTrace() {
+        return this;
+    }
+}
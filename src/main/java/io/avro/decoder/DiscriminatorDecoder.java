@@ -0,0 +1,203 @@
+package io.avro.decoder;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import org.apache.avro.AvroTypeException;
+import org.apache.avro.Schema;
+import org.apache.avro.generic.GenericData;
+import org.apache.avro.generic.GenericDatumReader;
+import org.apache.avro.io.DatumReader;
+
+/**
+ * Decodes stream of records of several schemas, told apart by discriminator field value.
+ * <p>
+ * Discriminator is found by scanning record bytes only until top-level discriminator field (nested
+ * objects, arrays and strings are skipped without tokenizing), then record is decoded with decoder
+ * cached per schema with grammar precompiled via {@link CompiledSchema}.
+ * </p>
+ * Discriminator should be top-level string field without escapes, decoder is not thread-safe.
+ *
+ * @author Anton Kurako (GoodforGod)
+ * @since 19.10.2026
+ */
+public class DiscriminatorDecoder<D> {
+
+    private static final class Target<D> {
+
+        private final byte[] value;
+        private final CompiledSchema schema;
+        private final DatumReader<D> reader;
+        private JsonOptionalDecoder decoder;
+
+        private Target(byte[] value, CompiledSchema schema, DatumReader<D> reader) {
+            this.value = value;
+            this.schema = schema;
+            this.reader = reader;
+        }
+    }
+
+    private final byte[] discriminator;
+    private final List<Target<D>> targets = new ArrayList<>();
+
+    public DiscriminatorDecoder(String discriminator, Map<String, Schema> schemas) {
+        this(discriminator, schemas, GenericData.get());
+    }
+
+    /**
+     * @param discriminator name of top-level field
+     * @param schemas       by discriminator values
+     * @param data          model to create records with, {@link GenericData} or
+     *                      {@link org.apache.avro.specific.SpecificData}
+     */
+    public DiscriminatorDecoder(String discriminator, Map<String, Schema> schemas, GenericData data) {
+        if (null == discriminator)
+            throw new NullPointerException("Discriminator cannot be null!");
+        if (null == schemas)
+            throw new NullPointerException("Schemas cannot be null!");
+        if (null == data)
+            throw new NullPointerException("GenericData cannot be null!");
+        if (schemas.isEmpty())
+            throw new IllegalArgumentException("Schemas cannot be empty!");
+
+        this.discriminator = discriminator.getBytes(StandardCharsets.UTF_8);
+        for (Map.Entry<String, Schema> entry : schemas.entrySet()) {
+            final Schema schema = entry.getValue();
+            this.targets.add(new Target<>(entry.getKey().getBytes(StandardCharsets.UTF_8),
+                    CompiledSchema.compile(schema), new GenericDatumReader<>(schema, schema, data)));
+        }
+    }
+
+    /**
+     * @param json record bytes in UTF-8
+     * @return decoded record
+     * @throws IOException from decoder
+     */
+    public D decode(byte[] json) throws IOException {
+        return decode(json, 0, json.length);
+    }
+
+    /**
+     * @param json   record bytes in UTF-8
+     * @param offset of record in bytes
+     * @param length of record in bytes
+     * @return decoded record
+     * @throws IOException from decoder
+     */
+    public D decode(byte[] json, int offset, int length) throws IOException {
+        final Target<D> target = getTarget(json, offset, offset + length);
+        if (target.decoder == null) {
+            target.decoder = new JsonOptionalDecoder(target.schema, json, offset, length);
+        } else {
+            target.decoder.configure(json, offset, length);
+        }
+
+        return target.reader.read(null, target.decoder);
+    }
+
+    /**
+     * @param json   record bytes in UTF-8
+     * @param offset of record in bytes
+     * @param length of record in bytes
+     * @return schema record would be decoded with
+     */
+    public Schema getSchema(byte[] json, int offset, int length) {
+        return getTarget(json, offset, offset + length).schema.getSchema();
+    }
+
+    private Target<D> getTarget(byte[] json, int offset, int end) {
+        final int value = findDiscriminator(json, offset, end);
+        if (value < 0)
+            throw new AvroTypeException("Expected discriminator field not found: " + new String(discriminator, StandardCharsets.UTF_8));
+        if (json[value] != '"')
+            throw new AvroTypeException("Expected discriminator string value, but got: " + (char) json[value]);
+
+        final int valueEnd = skipString(json, value, end);
+        final int valueLength = valueEnd - value - 2;
+        for (Target<D> target : targets) {
+            if (isEqual(json, value + 1, valueLength, target.value))
+                return target;
+        }
+
+        throw new AvroTypeException("Unknown discriminator value: "
+                + new String(json, value + 1, valueLength, StandardCharsets.UTF_8));
+    }
+
+    /**
+     * @return position of discriminator value first byte, or -1 if record has no such top-level field
+     */
+    private int findDiscriminator(byte[] json, int position, int end) {
+        int depth = 0;
+        boolean key = false;
+        for (int i = position; i < end; i++) {
+            switch (json[i]) {
+                case '{':
+                    depth++;
+                    key = depth == 1;
+                    break;
+                case '[':
+                    depth++;
+                    key = false;
+                    break;
+                case '}':
+                case ']':
+                    depth--;
+                    if (depth <= 0)
+                        return -1;
+                    break;
+                case ',':
+                    key = depth == 1;
+                    break;
+                case '"':
+                    final int stringEnd = skipString(json, i, end);
+                    if (key && isEqual(json, i + 1, stringEnd - i - 2, discriminator)) {
+                        final int colon = skipWhitespace(json, stringEnd, end);
+                        if (colon < end && json[colon] == ':') {
+                            final int value = skipWhitespace(json, colon + 1, end);
+                            return (value < end) ? value : -1;
+                        }
+                    }
+
+                    key = false;
+                    i = stringEnd - 1;
+                    break;
+                default:
+            }
+        }
+
+        return -1;
+    }
+
+    /**
+     * @return position after closing quote of string starting at position
+     */
+    private static int skipString(byte[] json, int position, int end) {
+        for (int i = position + 1; i < end; i++) {
+            if (json[i] == '\\') {
+                i++;
+            } else if (json[i] == '"') {
+                return i + 1;
+            }
+        }
+
+        throw new AvroTypeException("Unterminated string at " + position);
+    }
+
+    private static int skipWhitespace(byte[] json, int position, int end) {
+        while (position < end && (json[position] == ' ' || json[position] == '\n' || json[position] == '\r' || json[position] == '\t'))
+            position++;
+        return position;
+    }
+
+    private static boolean isEqual(byte[] json, int position, int length, byte[] expected) {
+        if (length != expected.length)
+            return false;
+        for (int i = 0; i < length; i++) {
+            if (json[position + i] != expected[i])
+                return false;
+        }
+        return true;
+    }
+}
@@ -0,0 +1,330 @@
+package io.avro.decoder;
+
+import java.io.IOException;
+import java.util.*;
+import org.apache.avro.AvroTypeException;
+import org.apache.avro.Schema;
+import org.apache.avro.Schema.Field;
+import org.apache.avro.generic.GenericData;
+import org.apache.avro.generic.GenericDatumReader;
+import org.apache.avro.io.Decoder;
+import org.apache.avro.io.ResolvingDecoder;
+import org.apache.avro.util.Utf8;
+
+/**
+ * {@link GenericDatumReader} that filters records with predicates on field paths while decoding.
+ * <p>
+ * Predicate is evaluated as soon as its field is decoded, missing fields are evaluated with value
+ * injected from their default by {@link JsonOptionalDecoder}. Record failing any predicate is
+ * abandoned without being built, rest of it is skipped in JSON and {@link #read(Object, Decoder)}
+ * returns null, so next record of stream can be read with same decoder.
+ * </p>
+ * Paths are dot separated names of record fields (such as {@code source.host}), nullable record
+ * fields can be part of path and nested predicates are evaluated with null value when enclosing
+ * record is null. Strings and enums are compared by their text, numbers by their numeric value.
+ *
+ * @author Anton Kurako (GoodforGod)
+ * @since 19.10.2026
+ */
+public class FilteringGenericDatumReader<D> extends GenericDatumReader<D> {
+
+    /**
+     * Stackless signal of record failed predicate
+     */
+    private static final class FilteredSignal extends RuntimeException {
+
+        private static final long serialVersionUID = 1L;
+
+        private FilteredSignal() {
+            super("Record filtered");
+        }
+
+        @Override
+        public synchronized Throwable fillInStackTrace() {
+            return this;
+        }
+    }
+
+    private static final FilteredSignal FILTERED = new FilteredSignal();
+
+    /**
+     * Comparison result of values of different kinds
+     */
+    private static final int INCOMPARABLE = Integer.MIN_VALUE;
+
+    private abstract static class Predicate {
+
+        private final Field[] path;
+
+        private Predicate(Field[] path) {
+            this.path = path;
+        }
+
+        abstract boolean test(Object value);
+    }
+
+    private final Schema schema;
+    private final Map<Field, List<Predicate>> fieldPredicates = new IdentityHashMap<>();
+    private final Map<Field, List<Predicate>> nestedPredicates = new IdentityHashMap<>();
+
+    private Field[] fields = new Field[8];
+    private int depth = 0;
+
+    public FilteringGenericDatumReader(Schema schema) {
+        this(schema, schema, GenericData.get());
+    }
+
+    public FilteringGenericDatumReader(Schema writer, Schema reader, GenericData data) {
+        super(writer, reader, data);
+        this.schema = reader;
+    }
+
+    /**
+     * @param path  of field
+     * @param value field should be equal to
+     * @return this reader
+     */
+    public FilteringGenericDatumReader<D> whereEquals(String path, Object value) {
+        if (null == value)
+            throw new NullPointerException("Value cannot be null, use whereNull() instead!");
+
+        final Object expected = toComparable(value);
+        return where(new Predicate(resolve(path)) {
+
+            @Override
+            boolean test(Object actual) {
+                return actual != null && compare(actual, expected) == 0;
+            }
+        });
+    }
+
+    /**
+     * @param path   of field
+     * @param values field should be equal to one of
+     * @return this reader
+     */
+    public FilteringGenericDatumReader<D> whereIn(String path, Collection<?> values) {
+        if (null == values)
+            throw new NullPointerException("Values cannot be null!");
+
+        final Object[] expected = new Object[values.size()];
+        int i = 0;
+        for (Object value : values) {
+            if (null == value)
+                throw new NullPointerException("Value cannot be null, use whereNull() instead!");
+            expected[i++] = toComparable(value);
+        }
+
+        return where(new Predicate(resolve(path)) {
+
+            @Override
+            boolean test(Object actual) {
+                if (actual == null)
+                    return false;
+                for (Object value : expected) {
+                    if (compare(actual, value) == 0)
+                        return true;
+                }
+                return false;
+            }
+        });
+    }
+
+    /**
+     * @param path of field
+     * @param from inclusive lower bound or null if unbounded
+     * @param to   inclusive upper bound or null if unbounded
+     * @return this reader
+     */
+    public FilteringGenericDatumReader<D> whereRange(String path, Object from, Object to) {
+        final Object lower = (from == null) ? null : toComparable(from);
+        final Object upper = (to == null) ? null : toComparable(to);
+        return where(new Predicate(resolve(path)) {
+
+            @Override
+            boolean test(Object actual) {
+                if (actual == null)
+                    return false;
+
+                final int fromLower = (lower == null) ? 0 : compare(actual, lower);
+                final int toUpper = (upper == null) ? 0 : compare(actual, upper);
+                return fromLower != INCOMPARABLE && fromLower >= 0
+                        && toUpper != INCOMPARABLE && toUpper <= 0;
+            }
+        });
+    }
+
+    /**
+     * @param path of field which should be null
+     * @return this reader
+     */
+    public FilteringGenericDatumReader<D> whereNull(String path) {
+        return where(new Predicate(resolve(path)) {
+
+            @Override
+            boolean test(Object actual) {
+                return actual == null;
+            }
+        });
+    }
+
+    /**
+     * @param path of field which should not be null
+     * @return this reader
+     */
+    public FilteringGenericDatumReader<D> whereNotNull(String path) {
+        return where(new Predicate(resolve(path)) {
+
+            @Override
+            boolean test(Object actual) {
+                return actual != null;
+            }
+        });
+    }
+
+    /**
+     * @param reuse datum to reuse
+     * @param in    {@link JsonOptionalDecoder} to read from
+     * @return decoded datum or null if record was filtered out
+     * @throws IOException from decoder
+     */
+    @Override
+    public D read(D reuse, Decoder in) throws IOException {
+        depth = 0;
+        try {
+            return super.read(reuse, in);
+        } catch (FilteredSignal e) {
+            if (!(in instanceof JsonOptionalDecoder))
+                throw new AvroTypeException("Filtered record can be skipped only by JsonOptionalDecoder, but was: " + in.getClass());
+
+            ((JsonOptionalDecoder) in).skipRecord();
+            return null;
+        }
+    }
+
+    @Override
+    protected void readField(Object r, Field f, Object oldDatum, ResolvingDecoder in, Object state) throws IOException {
+        if (depth == fields.length)
+            fields = Arrays.copyOf(fields, depth * 2);
+
+        fields[depth++] = f;
+        super.readField(r, f, oldDatum, in, state);
+        depth--;
+
+        final List<Predicate> predicates = fieldPredicates.get(f);
+        final List<Predicate> nested = nestedPredicates.get(f);
+        if (predicates == null && nested == null)
+            return;
+
+        final Object value = getData().getField(r, f.name(), f.pos());
+        if (predicates != null)
+            test(predicates, depth + 1, value);
+        if (nested != null && value == null)
+            test(nested, -1, null);
+    }
+
+    /**
+     * @param length of predicate path, or -1 for predicates of fields nested in decoded field
+     */
+    private void test(List<Predicate> predicates, int length, Object value) {
+        for (Predicate predicate : predicates) {
+            if (isOnPath(predicate, length) && !predicate.test(value))
+                throw FILTERED;
+        }
+    }
+
+    /**
+     * @return true if field just decoded and its enclosing fields are on predicate path
+     */
+    private boolean isOnPath(Predicate predicate, int length) {
+        if ((length < 0) ? predicate.path.length <= depth + 1 : predicate.path.length != length)
+            return false;
+        for (int i = 0; i <= depth; i++) {
+            if (predicate.path[i] != fields[i])
+                return false;
+        }
+        return true;
+    }
+
+    private FilteringGenericDatumReader<D> where(Predicate predicate) {
+        final Field[] path = predicate.path;
+        fieldPredicates.computeIfAbsent(path[path.length - 1], k -> new ArrayList<>()).add(predicate);
+        for (int i = 0; i < path.length - 1; i++)
+            nestedPredicates.computeIfAbsent(path[i], k -> new ArrayList<>()).add(predicate);
+        return this;
+    }
+
+    private Field[] resolve(String path) {
+        if (null == path)
+            throw new NullPointerException("Path cannot be null!");
+
+        final String[] names = path.split("\\.");
+        final Field[] resolved = new Field[names.length];
+        Schema record = schema;
+        for (int i = 0; i < names.length; i++) {
+            record = getRecord(record);
+            final Field field = (record == null) ? null : record.getField(names[i]);
+            if (field == null)
+                throw new IllegalArgumentException("Field not found for path: " + path);
+
+            resolved[i] = field;
+            record = field.schema();
+        }
+
+        return resolved;
+    }
+
+    /**
+     * @return record schema or record branch of nullable union
+     */
+    private static Schema getRecord(Schema schema) {
+        if (schema.getType() == Schema.Type.RECORD)
+            return schema;
+        if (schema.getType() == Schema.Type.UNION) {
+            for (Schema type : schema.getTypes()) {
+                if (type.getType() == Schema.Type.RECORD)
+                    return type;
+            }
+        }
+        return null;
+    }
+
+    private static Object toComparable(Object value) {
+        if (value instanceof CharSequence || value instanceof Enum)
+            return new Utf8(value.toString());
+        if (value instanceof Number || value instanceof Boolean)
+            return value;
+        throw new IllegalArgumentException("Value should be string, enum, number or boolean, but was: " + value.getClass());
+    }
+
+    /**
+     * @param actual   decoded value
+     * @param expected value converted with {@link #toComparable(Object)}
+     * @return comparison result, values of different kinds are never equal
+     */
+    private static int compare(Object actual, Object expected) {
+        if (expected instanceof Utf8) {
+            if (actual instanceof Utf8)
+                return ((Utf8) actual).compareTo((Utf8) expected);
+            if (actual instanceof Number || actual instanceof Boolean)
+                return INCOMPARABLE;
+            return new Utf8(actual.toString()).compareTo((Utf8) expected);
+        }
+
+        if (expected instanceof Boolean)
+            return (actual instanceof Boolean) ? Boolean.compare((Boolean) actual, (Boolean) expected) : INCOMPARABLE;
+
+        if (!(actual instanceof Number))
+            return INCOMPARABLE;
+
+        final Number a = (Number) actual;
+        final Number e = (Number) expected;
+        if (isIntegral(a) && isIntegral(e))
+            return Long.compare(a.longValue(), e.longValue());
+        return Double.compare(a.doubleValue(), e.doubleValue());
+    }
+
+    private static boolean isIntegral(Number number) {
+        return number instanceof Integer || number instanceof Long || number instanceof Short || number instanceof Byte;
+    }
+}
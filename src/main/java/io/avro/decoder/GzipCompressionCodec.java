@@ -0,0 +1,26 @@
+package io.avro.decoder;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.zip.GZIPInputStream;
+
+/**
+ * Standard gzip codec, concatenated gzip members are decompressed as single stream
+ *
+ * @author Anton Kurako (GoodforGod)
+ * @since 19.10.2026
+ */
+public final class GzipCompressionCodec implements CompressionCodec {
+
+    private static final int BUFFER_SIZE = 64 * 1024;
+
+    @Override
+    public String getName() {
+        return "gzip";
+    }
+
+    @Override
+    public InputStream decompress(InputStream in) throws IOException {
+        return new GZIPInputStream(in, BUFFER_SIZE);
+    }
+}
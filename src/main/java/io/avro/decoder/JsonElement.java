@@ -1,9 +1,14 @@
 package io.avro.decoder;
 
+import com.fasterxml.jackson.core.JsonParser.NumberType;
 import com.fasterxml.jackson.core.JsonToken;
 
 /**
  * Json Avro Element
+ * <p>
+ * Numeric values are kept in binary form, so buffered numbers are replayed without String
+ * conversion.
+ * </p>
  *
  * @author Anton Kurako (GoodforGod)
  * @since 22.10.2020
@@ -12,10 +17,32 @@ public class JsonElement {
 
     public final JsonToken token;
     public final String value;
+    public final NumberType numberType;
+    public final long longValue;
+    public final double doubleValue;
 
     public JsonElement(JsonToken t, String value) {
         this.token = t;
         this.value = value;
+        this.numberType = null;
+        this.longValue = 0;
+        this.doubleValue = 0;
+    }
+
+    public JsonElement(JsonToken t, NumberType numberType, long value) {
+        this.token = t;
+        this.value = null;
+        this.numberType = numberType;
+        this.longValue = value;
+        this.doubleValue = value;
+    }
+
+    public JsonElement(JsonToken t, double value) {
+        this.token = t;
+        this.value = null;
+        this.numberType = NumberType.DOUBLE;
+        this.longValue = (long) value;
+        this.doubleValue = value;
     }
 
     public JsonElement(JsonToken t) {
@@ -26,7 +53,22 @@ public JsonToken getToken() {
         return token;
     }
 
+    /**
+     * @return text value, for binary numeric values text is built on demand
+     */
     public String getValue() {
-        return value;
+        if (value != null || numberType == null)
+            return value;
+
+        return (numberType == NumberType.DOUBLE)
+                ? String.valueOf(doubleValue)
+                : String.valueOf(longValue);
+    }
+
+    /**
+     * @return true if value is kept in binary numeric form
+     */
+    public boolean isNumeric() {
+        return numberType != null;
     }
 }
@@ -1,5 +1,7 @@
 package io.avro.decoder;
 
+import com.fasterxml.jackson.core.Base64Variant;
+import com.fasterxml.jackson.core.Base64Variants;
 import com.fasterxml.jackson.core.JsonFactory;
 import com.fasterxml.jackson.core.JsonParser;
 import com.fasterxml.jackson.core.JsonToken;
@@ -7,11 +9,13 @@
 import java.io.EOFException;
 import java.io.IOException;
 import java.io.InputStream;
+import java.math.BigDecimal;
 import java.nio.ByteBuffer;
-import java.nio.charset.StandardCharsets;
 import java.util.*;
 import org.apache.avro.AvroTypeException;
 import org.apache.avro.JsonProperties;
+import org.apache.avro.LogicalType;
+import org.apache.avro.LogicalTypes;
 import org.apache.avro.Schema;
 import org.apache.avro.Schema.Field;
 import org.apache.avro.io.Decoder;
@@ -37,34 +41,285 @@
  **/
 public class JsonOptionalDecoder extends ParsingDecoder implements Parser.ActionHandler {
 
+    /**
+     * Field names and map keys are canonicalized by factory symbol table (enabled by default)
+     */
     private static final JsonFactory JSON_FACTORY = new JsonFactory();
 
-    private final Stack<ReorderBuffer> reorderBuffers = new Stack<>();
-
     private JsonParser in;
+
+    /**
+     * Buffer of current record fields that arrived out of schema order, null until first such field
+     */
     private ReorderBuffer currentReorderBuffer;
+    /**
+     * Parser to restore at field end after buffered or default value is replayed
+     */
+    private JsonParser origParser;
+
+    /**
+     * Reorder buffers and parsers of enclosing records, buffers are reused between records of same
+     * nesting level
+     */
+    private ReorderBuffer[] reorderBuffers = new ReorderBuffer[8];
+    private ReorderBuffer[] reorderBufferPool = new ReorderBuffer[8];
+    private JsonParser[] origParsers = new JsonParser[8];
+    private int recordDepth = 0;
+
+    /**
+     * Reader record currently decoded and enclosing records, resolves defaults of record own fields
+     */
+    private Schema currentRecord;
+    private Schema[] records = new Schema[8];
+
+    /**
+     * Resolution plan of current record and plans of enclosing records, null without writer schema
+     */
+    private SchemaResolution.RecordPlan currentPlan;
+    private SchemaResolution.RecordPlan[] recordPlans = new SchemaResolution.RecordPlan[8];
+    /**
+     * Label of last decoded union branch, picks nested record among union branches
+     */
+    private String unionLabel;
+
+    /**
+     * Parser of configured input, while {@link #in} may replay buffered or default tokens
+     */
+    private JsonParser source;
+
+    /**
+     * Name of field currently decoded at each record nesting level
+     */
+    private String[] fieldNames = new String[9];
+
+    /**
+     * Name of field which value is injected from default, null if current field is present in JSON,
+     * and its record nesting level, so fields of injected record do not reset it
+     */
+    private String injectedField;
+    private int injectedDepth;
+
+    /**
+     * Preallocated stackless error, null unless decoder is used for bulk decoding
+     */
+    private DecodeError errorSignal;
 
     private final Schema schema;
+    private final SchemaResolution resolution;
+
+    /**
+     * Per decoder caches, or immutable maps shared from {@link CompiledSchema} that already hold every
+     * field of schema, so lookups into them never miss with value to cache
+     */
+    private final Map<Field, List<JsonElement>> defaultTokens;
+
+    private BinaryEncoding binaryEncoding = BinaryEncoding.ISO_8859_1;
+    private final BinarySink binarySink = new BinarySink();
+
+    private static final LogicalType NO_LOGICAL_TYPE = new LogicalType("none");
+
+    private boolean logicalTypes = false;
+    private LogicalTypeParser logicalTypeParser;
+    private LogicalType currentLogicalType = NO_LOGICAL_TYPE;
+    private final Map<Field, LogicalType> fieldLogicalTypes;
+    private byte[] decimalBuffer = new byte[16];
+
+    private KeyCache keyCache;
 
     private static class ReorderBuffer {
 
-        public Map<String, List<JsonElement>> savedFields = new HashMap<>();
-        public JsonParser origParser = null;
+        public final Map<String, List<JsonElement>> savedFields = new HashMap<>();
     }
 
     public JsonOptionalDecoder(Schema schema, InputStream in) throws IOException {
         super(getSymbol(schema));
         configure(in);
         this.schema = schema;
+        this.resolution = null;
+        this.defaultTokens = new IdentityHashMap<>();
+        this.fieldLogicalTypes = new IdentityHashMap<>();
     }
 
     public JsonOptionalDecoder(Schema schema, String in) throws IOException {
         super(getSymbol(schema));
         configure(in);
         this.schema = schema;
+        this.resolution = null;
+        this.defaultTokens = new IdentityHashMap<>();
+        this.fieldLogicalTypes = new IdentityHashMap<>();
+    }
+
+    public JsonOptionalDecoder(Schema schema, byte[] in, int offset, int length) throws IOException {
+        super(getSymbol(schema));
+        configure(in, offset, length);
+        this.schema = schema;
+        this.resolution = null;
+        this.defaultTokens = new IdentityHashMap<>();
+        this.fieldLogicalTypes = new IdentityHashMap<>();
+    }
+
+    /**
+     * Decodes with grammar and default values precompiled once per schema, see
+     * {@link CompiledSchema}.
+     *
+     * @param schema compiled schema
+     * @param in     The InputStream to read from. Cannot be null.
+     * @throws IOException in case of factory parser error
+     */
+    public JsonOptionalDecoder(CompiledSchema schema, InputStream in) throws IOException {
+        super(schema.getRoot());
+        configure(in);
+        this.schema = schema.getSchema();
+        this.resolution = null;
+        this.defaultTokens = schema.getDefaultTokens();
+        this.fieldLogicalTypes = schema.getLogicalTypes();
+    }
+
+    /**
+     * @see #JsonOptionalDecoder(CompiledSchema, InputStream)
+     * @param schema compiled schema
+     * @param in     The String to read from. Cannot be null.
+     * @throws IOException from json factory
+     */
+    public JsonOptionalDecoder(CompiledSchema schema, String in) throws IOException {
+        super(schema.getRoot());
+        configure(in);
+        this.schema = schema.getSchema();
+        this.resolution = null;
+        this.defaultTokens = schema.getDefaultTokens();
+        this.fieldLogicalTypes = schema.getLogicalTypes();
+    }
+
+    /**
+     * @see #JsonOptionalDecoder(CompiledSchema, InputStream)
+     * @param schema compiled schema
+     * @param in     bytes to read from in UTF-8. Cannot be null.
+     * @param offset of JSON in bytes
+     * @param length of JSON in bytes
+     * @throws IOException from json factory
+     */
+    public JsonOptionalDecoder(CompiledSchema schema, byte[] in, int offset, int length) throws IOException {
+        super(schema.getRoot());
+        configure(in, offset, length);
+        this.schema = schema.getSchema();
+        this.resolution = null;
+        this.defaultTokens = schema.getDefaultTokens();
+        this.fieldLogicalTypes = schema.getLogicalTypes();
+    }
+
+    /**
+     * Decodes JSON written with writer schema directly into reader schema, resolving renamed fields
+     * via reader aliases, skipping fields removed from reader, injecting defaults for fields added to
+     * reader and promoting primitive types and union branches as per Avro schema resolution rules.
+     *
+     * @param writer schema JSON was written with
+     * @param reader schema JSON is decoded into
+     * @param in     The InputStream to read from. Cannot be null.
+     * @throws IOException in case of factory parser error
+     */
+    public JsonOptionalDecoder(Schema writer, Schema reader, InputStream in) throws IOException {
+        this(SchemaResolution.of(writer, reader), in);
+    }
+
+    /**
+     * @see #JsonOptionalDecoder(Schema, Schema, InputStream)
+     * @param writer schema JSON was written with
+     * @param reader schema JSON is decoded into
+     * @param in     The String to read from. Cannot be null.
+     * @throws IOException from json factory
+     */
+    public JsonOptionalDecoder(Schema writer, Schema reader, String in) throws IOException {
+        this(SchemaResolution.of(writer, reader), in);
+    }
+
+    private JsonOptionalDecoder(SchemaResolution resolution, InputStream in) throws IOException {
+        super(resolution.getRoot());
+        configure(in);
+        this.schema = resolution.getReader();
+        this.resolution = resolution;
+        this.defaultTokens = new IdentityHashMap<>();
+        this.fieldLogicalTypes = new IdentityHashMap<>();
+    }
+
+    private JsonOptionalDecoder(SchemaResolution resolution, String in) throws IOException {
+        super(resolution.getRoot());
+        configure(in);
+        this.schema = resolution.getReader();
+        this.resolution = resolution;
+        this.defaultTokens = new IdentityHashMap<>();
+        this.fieldLogicalTypes = new IdentityHashMap<>();
+    }
+
+    /**
+     * Configures how bytes and fixed values are encoded inside JSON strings,
+     * {@link BinaryEncoding#ISO_8859_1} as per Avro JSON encoding is used by default.
+     *
+     * @param binaryEncoding to decode bytes and fixed values with. Cannot be null.
+     * @return this JsonDecoder
+     */
+    public JsonOptionalDecoder withBinaryEncoding(BinaryEncoding binaryEncoding) {
+        if (null == binaryEncoding)
+            throw new NullPointerException("BinaryEncoding cannot be null!");
+
+        this.binaryEncoding = binaryEncoding;
+        return this;
     }
 
-    private static Symbol getSymbol(Schema schema) {
+    /**
+     * Enables decoding of logical types from their JSON string representations straight from parser
+     * char buffer, without intermediate String: ISO-8601 strings for {@code date}, {@code time-millis},
+     * {@code time-micros}, {@code timestamp-millis} and {@code timestamp-micros}, and decimal strings
+     * for {@code decimal} bytes and fixed. Numeric values of int and long logical types are decoded
+     * as usual, while decimal strings replace Avro JSON encoding of decimal bytes. Logical types are
+     * resolved by field name, same as field defaults. Disabled by default.
+     *
+     * @param enabled to decode logical types from strings
+     * @return this JsonDecoder
+     */
+    public JsonOptionalDecoder withLogicalTypes(boolean enabled) {
+        this.logicalTypes = enabled;
+        if (enabled && logicalTypeParser == null) {
+            this.logicalTypeParser = new LogicalTypeParser();
+            this.logicalTypeParser.setErrorSignal(errorSignal);
+        }
+        return this;
+    }
+
+    /**
+     * Decodes Utf8 map keys as canonical instances from cache, instead of allocating key per map
+     * entry. Cache can be shared between decoders.
+     *
+     * @param keyCache to take map keys from, or null to disable
+     * @return this JsonDecoder
+     */
+    public JsonOptionalDecoder withKeyCache(KeyCache keyCache) {
+        this.keyCache = keyCache;
+        return this;
+    }
+
+    /**
+     * Makes decoder report type mismatches, missing fields and invalid values with single preallocated
+     * stackless error
+     */
+    JsonOptionalDecoder withErrorSignal() {
+        this.errorSignal = new DecodeError();
+        if (logicalTypeParser != null)
+            logicalTypeParser.setErrorSignal(errorSignal);
+        return this;
+    }
+
+    /**
+     * @return JSON path of field currently decoded, such as {@code $.source.host}
+     */
+    String getPath() {
+        final StringBuilder builder = new StringBuilder("$");
+        for (int i = 1; i <= recordDepth && i < fieldNames.length && fieldNames[i] != null; i++) {
+            builder.append('.').append(fieldNames[i]);
+        }
+        return builder.toString();
+    }
+
+    static Symbol getSymbol(Schema schema) {
         if (null == schema)
             throw new NullPointerException("Schema cannot be null!");
 
@@ -84,8 +339,8 @@ public JsonOptionalDecoder configure(InputStream in) throws IOException {
         if (null == in)
             throw new NullPointerException("InputStream to read from cannot be null!");
 
-        parser.reset();
-        this.in = JSON_FACTORY.createParser(in);
+        reset();
+        this.in = this.source = JSON_FACTORY.createParser(in);
         this.in.nextToken();
         return this;
     }
@@ -103,12 +358,109 @@ public JsonOptionalDecoder configure(String in) throws IOException {
         if (null == in)
             throw new NullPointerException("String to read from cannot be null!");
 
-        parser.reset();
-        this.in = new JsonFactory().createParser(in);
+        reset();
+        this.in = this.source = JSON_FACTORY.createParser(in);
         this.in.nextToken();
         return this;
     }
 
+    /**
+     * Reconfigures this JsonDecoder to use the byte range provided for input. If the byte array
+     * provided is null, a NullPointerException is thrown. Otherwise, this JsonDecoder will reset its
+     * state and then reconfigure its input.
+     *
+     * @param in     The UTF-8 JSON bytes to read from. Cannot be null.
+     * @param offset of JSON in bytes
+     * @param length of JSON in bytes
+     * @return this JsonDecoder
+     * @throws IOException from json factory
+     */
+    public JsonOptionalDecoder configure(byte[] in, int offset, int length) throws IOException {
+        if (null == in)
+            throw new NullPointerException("Bytes to read from cannot be null!");
+
+        reset();
+        this.in = this.source = JSON_FACTORY.createParser(in, offset, length);
+        this.in.nextToken();
+        return this;
+    }
+
+    private void reset() {
+        parser.reset();
+        Arrays.fill(reorderBuffers, 0, recordDepth, null);
+        Arrays.fill(origParsers, 0, recordDepth, null);
+        Arrays.fill(fieldNames, 0, Math.min(recordDepth + 1, fieldNames.length), null);
+        Arrays.fill(recordPlans, 0, recordDepth, null);
+        Arrays.fill(records, 0, recordDepth, null);
+        this.recordDepth = 0;
+        this.currentReorderBuffer = null;
+        this.origParser = null;
+        this.currentLogicalType = NO_LOGICAL_TYPE;
+        this.injectedField = null;
+        this.injectedDepth = 0;
+        this.currentRecord = null;
+        this.currentPlan = null;
+        this.unionLabel = null;
+    }
+
+    /**
+     * Abandons record being decoded and skips rest of it in input without tokenizing values into
+     * elements, so next record of input can be decoded.
+     *
+     * @throws IOException from json parser
+     */
+    void skipRecord() throws IOException {
+        reset();
+        this.in = source;
+        while (!in.getParsingContext().inRoot()) {
+            final JsonToken token = in.nextToken();
+            if (token == null)
+                break;
+            if (token == JsonToken.START_OBJECT || token == JsonToken.START_ARRAY)
+                in.skipChildren();
+        }
+
+        in.nextToken();
+    }
+
+    /**
+     * Processes pending field actions, so field about to be read is resolved
+     *
+     * @param fieldName of field about to be read
+     * @return true if field is missing in JSON and its value is injected from default
+     * @throws IOException from json parser
+     */
+    boolean isDefaultInjected(String fieldName) throws IOException {
+        parser.processImplicitActions();
+        return fieldName.equals(injectedField);
+    }
+
+    /**
+     * @return true if configured input has next top-level record to decode
+     */
+    boolean hasNextRecord() throws IOException {
+        // end of previous record is consumed by its trailing actions, which run lazily on next read
+        parser.processTrailingImplicitActions();
+        return source.getCurrentToken() != null;
+    }
+
+    /**
+     * Reconfigures this JsonDecoder to read single record of indexed document, so records of
+     * document can be decoded in parallel by decoder per worker.
+     *
+     * @param index  of JSON document. Cannot be null.
+     * @param record index of record in document
+     * @return this JsonDecoder
+     * @throws IOException from json factory
+     */
+    public JsonOptionalDecoder configure(StructuralIndex index, int record) throws IOException {
+        if (null == index)
+            throw new NullPointerException("StructuralIndex cannot be null!");
+
+        final int start = index.getRecordStart(record);
+        return configure(index.getJson(), start, index.getRecordEnd(record) - start);
+    }
+
     private void advance(Symbol symbol) throws IOException {
         this.parser.processTrailingImplicitActions();
         if (in.getCurrentToken() == null && this.parser.depth() == 1)
@@ -146,6 +498,14 @@ public int readInt() throws IOException {
             int result = in.getIntValue();
             in.nextToken();
             return result;
+        } else if (isLogicalString("date")) {
+            int result = logicalTypeParser.parseDate(in.getTextCharacters(), in.getTextOffset(), in.getTextLength());
+            in.nextToken();
+            return result;
+        } else if (isLogicalString("time-millis")) {
+            int result = (int) logicalTypeParser.parseTime(in.getTextCharacters(), in.getTextOffset(), in.getTextLength(), false);
+            in.nextToken();
+            return result;
         } else {
             throw getErrorTypeMismatch("int");
         }
@@ -158,11 +518,78 @@ public long readLong() throws IOException {
             long result = in.getLongValue();
             in.nextToken();
             return result;
+        } else if (isLogicalString("timestamp-millis") || isLogicalString("timestamp-micros")) {
+            final boolean micros = currentLogicalType.getName().equals("timestamp-micros");
+            long result = logicalTypeParser.parseTimestamp(in.getTextCharacters(), in.getTextOffset(), in.getTextLength(), micros);
+            in.nextToken();
+            return result;
+        } else if (isLogicalString("time-micros")) {
+            long result = logicalTypeParser.parseTime(in.getTextCharacters(), in.getTextOffset(), in.getTextLength(), true);
+            in.nextToken();
+            return result;
         } else {
             throw getErrorTypeMismatch("long");
         }
     }
 
+    private boolean isLogicalString(String logicalType) {
+        return logicalTypes
+                && in.getCurrentToken() == JsonToken.VALUE_STRING
+                && currentLogicalType.getName().equals(logicalType);
+    }
+
+    private boolean isDecimalString() {
+        return logicalTypes
+                && in.getCurrentToken() == JsonToken.VALUE_STRING
+                && currentLogicalType instanceof LogicalTypes.Decimal;
+    }
+
+    /**
+     * Parses current decimal string into big-endian two's complement unscaled value in decimal buffer,
+     * as Avro decimal conversion encodes it
+     *
+     * @param size of fixed to sign extend value to, or 0 for minimal length
+     * @return length of unscaled value in decimal buffer
+     */
+    private int parseDecimal(int size) throws IOException {
+        final char[] chars = in.getTextCharacters();
+        final int offset = in.getTextOffset();
+        final int length = in.getTextLength();
+        final int scale = ((LogicalTypes.Decimal) currentLogicalType).getScale();
+
+        long unscaled = 0;
+        byte[] bigUnscaled = null;
+        int unscaledLength;
+        try {
+            unscaled = logicalTypeParser.parseUnscaled(chars, offset, length, scale);
+            unscaledLength = LogicalTypeParser.getUnscaledLength(unscaled);
+        } catch (ArithmeticException e) {
+            // does not fit in long
+            try {
+                bigUnscaled = new BigDecimal(chars, offset, length).setScale(scale).unscaledValue().toByteArray();
+                unscaledLength = bigUnscaled.length;
+            } catch (ArithmeticException | NumberFormatException ex) {
+                throw getError("Cannot decode decimal " + in.getText() + " with scale " + scale);
+            }
+        }
+
+        final int resultLength = (size > 0) ? size : unscaledLength;
+        if (unscaledLength > resultLength)
+            throw getError("Decimal " + in.getText() + " does not fit in fixed of size " + size);
+        if (decimalBuffer.length < resultLength)
+            decimalBuffer = new byte[resultLength];
+
+        if (bigUnscaled == null) {
+            LogicalTypeParser.writeUnscaled(unscaled, decimalBuffer, 0, resultLength);
+        } else {
+            final int padding = resultLength - unscaledLength;
+            Arrays.fill(decimalBuffer, 0, padding, (bigUnscaled[0] < 0) ? (byte) -1 : 0);
+            System.arraycopy(bigUnscaled, 0, decimalBuffer, padding, unscaledLength);
+        }
+
+        return resultLength;
+    }
+
     @Override
     public float readFloat() throws IOException {
         advance(Symbol.FLOAT);
@@ -187,9 +614,30 @@ public double readDouble() throws IOException {
         }
     }
 
+    /**
+     * Reuses old Utf8 if provided and encodes string straight from parser char buffer
+     */
     @Override
     public Utf8 readString(Utf8 old) throws IOException {
-        return new Utf8(readString());
+        parseSymbolInAdvance();
+        if (keyCache != null && in.getCurrentToken() == JsonToken.FIELD_NAME) {
+            final Utf8 key = keyCache.get(in.getText());
+            if (key != null) {
+                in.nextToken();
+                return key;
+            }
+        }
+
+        final char[] chars = in.getTextCharacters();
+        final int offset = in.getTextOffset();
+        final int length = in.getTextLength();
+
+        // canonical keys are shared, so they are never reused
+        final Utf8 result = (old == null || old instanceof KeyCache.CanonicalUtf8) ? new Utf8() : old;
+        result.setByteLength(Utf8Chars.encodedLength(chars, offset, length));
+        Utf8Chars.encode(chars, offset, length, result.getBytes(), 0);
+        in.nextToken();
+        return result;
     }
 
     @Override
@@ -222,16 +670,157 @@ private void parseSymbolInAdvance() throws IOException {
     public ByteBuffer readBytes(ByteBuffer old) throws IOException {
         advance(Symbol.BYTES);
         if (in.getCurrentToken() == JsonToken.VALUE_STRING) {
-            byte[] result = readByteArray();
+            final ByteBuffer result;
+            if (isDecimalString()) {
+                result = readDecimalBuffer(old);
+            } else if (isWriterString()) {
+                result = readUtf8Buffer(old);
+            } else if (binaryEncoding == BinaryEncoding.BASE64) {
+                result = readBase64Buffer(old);
+            } else {
+                result = readLatin1Buffer(old);
+            }
             in.nextToken();
-            return ByteBuffer.wrap(result);
+            return result;
         } else {
             throw getErrorTypeMismatch("bytes");
         }
     }
 
-    private byte[] readByteArray() throws IOException {
-        return in.getText().getBytes(StandardCharsets.ISO_8859_1);
+    /**
+     * @return true if writer wrote string where bytes are read, which are promoted as UTF-8 bytes
+     */
+    private boolean isWriterString() {
+        return currentPlan != null && currentPlan.isStringBytes(fieldNames[recordDepth]);
+    }
+
+    private ByteBuffer readUtf8Buffer(ByteBuffer old) throws IOException {
+        final char[] chars = in.getTextCharacters();
+        final int offset = in.getTextOffset();
+        final int length = in.getTextLength();
+        final int encodedLength = Utf8Chars.encodedLength(chars, offset, length);
+        final ByteBuffer result = (old != null && old.hasArray() && old.capacity() >= encodedLength)
+                ? old
+                : ByteBuffer.allocate(encodedLength);
+
+        result.clear();
+        Utf8Chars.encode(chars, offset, length, result.array(), result.arrayOffset());
+        result.limit(encodedLength);
+        return result;
+    }
+
+    private ByteBuffer readLatin1Buffer(ByteBuffer old) throws IOException {
+        final int length = getLatin1Length();
+        final ByteBuffer result = (old != null && old.hasArray() && old.capacity() >= length)
+                ? old
+                : ByteBuffer.allocate(length);
+
+        result.clear();
+        copyLatin1(result.array(), result.arrayOffset());
+        result.limit(length);
+        return result;
+    }
+
+    private ByteBuffer readDecimalBuffer(ByteBuffer old) throws IOException {
+        final int length = parseDecimal(0);
+        final ByteBuffer result = (old != null && old.hasArray() && old.capacity() >= length)
+                ? old
+                : ByteBuffer.allocate(length);
+
+        result.clear();
+        System.arraycopy(decimalBuffer, 0, result.array(), result.arrayOffset(), length);
+        result.limit(length);
+        return result;
+    }
+
+    private ByteBuffer readBase64Buffer(ByteBuffer old) throws IOException {
+        if (old != null && old.hasArray()) {
+            binarySink.reset(old.array(), old.arrayOffset(), old.capacity(), true);
+        } else {
+            binarySink.reset(null, 0, 0, true);
+        }
+
+        in.readBinaryValue(getBase64Variant(), binarySink);
+        if (old != null && old.hasArray() && binarySink.array() == old.array()) {
+            old.clear();
+            old.limit(binarySink.size());
+            return old;
+        }
+
+        return ByteBuffer.wrap(binarySink.array(), 0, binarySink.size());
+    }
+
+    /**
+     * @return length of current string token encoded as ISO-8859-1
+     */
+    private int getLatin1Length() throws IOException {
+        return Latin1Chars.encodedLength(in.getTextCharacters(), in.getTextOffset(), in.getTextLength());
+    }
+
+    /**
+     * Encodes current string token as ISO-8859-1 straight from parser char buffer into target array
+     */
+    private void copyLatin1(byte[] bytes, int start) throws IOException {
+        Latin1Chars.encode(in.getTextCharacters(), in.getTextOffset(), in.getTextLength(), bytes, start);
+    }
+
+    private static Base64Variant getBase64Variant() {
+        return Base64Variants.getDefaultVariant();
+    }
+
+    /**
+     * Appends current string value encoded as UTF-8 to sink without intermediate String or Utf8
+     */
+    void readStringInto(BinarySink sink) throws IOException {
+        parseSymbolInAdvance();
+        sink.writeUtf8(in.getTextCharacters(), in.getTextOffset(), in.getTextLength());
+        in.nextToken();
+    }
+
+    /**
+     * Appends current bytes value to sink without intermediate buffers
+     */
+    void readBytesInto(BinarySink sink) throws IOException {
+        advance(Symbol.BYTES);
+        if (isDecimalString()) {
+            sink.write(decimalBuffer, 0, parseDecimal(0));
+            in.nextToken();
+        } else if (in.getCurrentToken() == JsonToken.VALUE_STRING) {
+            if (isWriterString()) {
+                sink.writeUtf8(in.getTextCharacters(), in.getTextOffset(), in.getTextLength());
+            } else {
+                appendBinary(sink);
+            }
+            in.nextToken();
+        } else {
+            throw getErrorTypeMismatch("bytes");
+        }
+    }
+
+    /**
+     * Appends current fixed value to sink without intermediate buffers
+     */
+    void readFixedInto(BinarySink sink, int len) throws IOException {
+        checkFixed(len);
+        if (isDecimalString()) {
+            sink.write(decimalBuffer, 0, parseDecimal(len));
+            in.nextToken();
+        } else if (in.getCurrentToken() == JsonToken.VALUE_STRING) {
+            final int start = sink.size();
+            appendBinary(sink);
+            checkFixedLength(len, sink.size() - start);
+            in.nextToken();
+        } else {
+            throw getErrorTypeMismatch("fixed");
+        }
+    }
+
+    private void appendBinary(BinarySink sink) throws IOException {
+        if (binaryEncoding == BinaryEncoding.BASE64) {
+            in.readBinaryValue(getBase64Variant(), sink);
+        } else {
+            sink.writeLatin1(in.getTextCharacters(), in.getTextOffset(), in.getTextLength());
+        }
     }
 
     @Override
@@ -248,7 +837,7 @@ private void checkFixed(int size) throws IOException {
         advance(Symbol.FIXED);
         Symbol.IntCheckAction top = (Symbol.IntCheckAction) parser.popSymbol();
         if (size != top.size) {
-            throw new AvroTypeException("Incorrect length for fixed binary: expected " +
+            throw getError("Incorrect length for fixed binary: expected " +
                     top.size + " but received " + size + " bytes.");
         }
     }
@@ -256,13 +845,19 @@ private void checkFixed(int size) throws IOException {
     @Override
     public void readFixed(byte[] bytes, int start, int len) throws IOException {
         checkFixed(len);
-        if (in.getCurrentToken() == JsonToken.VALUE_STRING) {
-            byte[] result = readByteArray();
+        if (isDecimalString()) {
+            System.arraycopy(decimalBuffer, 0, bytes, start, parseDecimal(len));
+            in.nextToken();
+        } else if (in.getCurrentToken() == JsonToken.VALUE_STRING) {
+            if (binaryEncoding == BinaryEncoding.BASE64) {
+                binarySink.reset(bytes, start, len, false);
+                in.readBinaryValue(getBase64Variant(), binarySink);
+                checkFixedLength(len, binarySink.size());
+            } else {
+                checkFixedLength(len, getLatin1Length());
+                copyLatin1(bytes, start);
+            }
             in.nextToken();
-            if (result.length != len)
-                throw new AvroTypeException("Expected fixed length " + len + ", but got" + result.length);
-
-            System.arraycopy(result, 0, bytes, start, len);
         } else {
             throw getErrorTypeMismatch("fixed");
         }
@@ -275,16 +870,27 @@ public void skipFixed(int length) throws IOException {
     }
 
     private void doSkipFixed(int length) throws IOException {
-        if (in.getCurrentToken() == JsonToken.VALUE_STRING) {
-            byte[] result = readByteArray();
+        if (isDecimalString()) {
+            parseDecimal(length);
+            in.nextToken();
+        } else if (in.getCurrentToken() == JsonToken.VALUE_STRING) {
+            if (binaryEncoding == BinaryEncoding.BASE64) {
+                in.readBinaryValue(getBase64Variant(), binarySink.discard());
+                checkFixedLength(length, binarySink.size());
+            } else {
+                checkFixedLength(length, getLatin1Length());
+            }
             in.nextToken();
-            if (result.length != length)
-                throw new AvroTypeException("Expected fixed length " + length + ", but got" + result.length);
         } else {
             throw getErrorTypeMismatch("fixed");
         }
     }
 
+    private void checkFixedLength(int expected, int actual) {
+        if (actual != expected)
+            throw getError("Expected fixed length " + expected + ", but got " + actual);
+    }
+
     @Override
     protected void skipFixed() throws IOException {
         advance(Symbol.FIXED);
@@ -299,11 +905,13 @@ public int readEnum() throws IOException {
         if (in.getCurrentToken() == JsonToken.VALUE_STRING) {
             in.getText();
             int n = top.findLabel(in.getText());
+            if (n < 0 && resolution != null)
+                n = resolution.getEnumDefault(top.symbols);
             if (n >= 0) {
                 in.nextToken();
                 return n;
             }
-            throw new AvroTypeException("Unknown symbol in enum " + in.getText());
+            throw getError("Unknown symbol in enum " + in.getText());
         } else {
             throw getErrorTypeMismatch("fixed");
         }
@@ -396,6 +1004,7 @@ public int readIndex() throws IOException {
 
         String label;
         final JsonToken currentToken = in.getCurrentToken();
+        final int plannedBranch = (currentPlan == null) ? -1 : currentPlan.getUnionBranch(fieldNames[recordDepth], a);
 
         if (currentToken == JsonToken.VALUE_NULL) {
             label = "null";
@@ -404,6 +1013,9 @@ public int readIndex() throws IOException {
             label = (a.getSymbol(0) == Symbol.NULL)
                     ? a.getLabel(1)
                     : a.getLabel(0);
+        } else if (plannedBranch >= 0) {
+            // value of non-union writer type is not wrapped with branch name
+            label = a.getLabel(plannedBranch);
         } else if (currentToken == JsonToken.START_OBJECT
                 && in.nextToken() == JsonToken.FIELD_NAME) {
             label = in.getText();
@@ -413,9 +1025,12 @@ public int readIndex() throws IOException {
             throw getErrorTypeMismatch("start-union");
         }
 
+        unionLabel = label;
         int n = a.findLabel(label);
+        if (n < 0 && resolution != null)
+            n = SchemaResolution.findPromotedBranch(a, label);
         if (n < 0) {
-            throw new AvroTypeException("Unknown union branch " + label);
+            throw getError("Unknown union branch " + label);
         }
 
         parser.pushSymbol(a.getSymbol(n));
@@ -427,11 +1042,15 @@ public Symbol doAction(Symbol input, Symbol top) throws IOException {
         if (top instanceof Symbol.FieldAdjustAction) {
             Symbol.FieldAdjustAction fa = (Symbol.FieldAdjustAction) top;
             String name = fa.fname;
+            fieldNames[recordDepth] = name;
+            if (recordDepth <= injectedDepth)
+                injectedField = null;
+            if (logicalTypes)
+                currentLogicalType = getFieldLogicalType(name);
             if (currentReorderBuffer != null) {
-                List<JsonElement> node = currentReorderBuffer.savedFields.get(name);
+                List<JsonElement> node = currentReorderBuffer.savedFields.remove(name);
                 if (node != null) {
-                    currentReorderBuffer.savedFields.remove(name);
-                    currentReorderBuffer.origParser = in;
+                    origParser = in;
                     in = makeParser(node);
                     return null;
                 }
@@ -441,40 +1060,55 @@ public Symbol doAction(Symbol input, Symbol top) throws IOException {
                 do {
                     String fn = in.getText();
                     in.nextToken();
+                    if (currentPlan != null) {
+                        if (currentPlan.isRemoved(fn)) {
+                            in.skipChildren();
+                            in.nextToken();
+                            continue;
+                        }
+                        fn = currentPlan.getReaderName(fn);
+                    }
+
                     if (name.equals(fn)) {
                         return null;
                     } else {
-                        if (currentReorderBuffer == null)
-                            currentReorderBuffer = new ReorderBuffer();
-
-                        currentReorderBuffer.savedFields.put(fn, getValueAsTree(in));
+                        getReorderBuffer().savedFields.put(fn, getValueAsTree(in));
                     }
                 } while (in.getCurrentToken() == JsonToken.FIELD_NAME);
             }
 
+            injectedField = name;
+            injectedDepth = recordDepth;
             injectDefaultValueIfAvailable(in, fa.fname);
         } else if (top == Symbol.FIELD_END) {
-            if (currentReorderBuffer != null && currentReorderBuffer.origParser != null) {
-                in = currentReorderBuffer.origParser;
-                currentReorderBuffer.origParser = null;
+            if (origParser != null) {
+                in = origParser;
+                origParser = null;
             }
         } else if (top == Symbol.RECORD_START) {
             if (in.getCurrentToken() == JsonToken.START_OBJECT) {
                 in.nextToken();
-                reorderBuffers.push(currentReorderBuffer);
-                currentReorderBuffer = null;
+                final Schema record = getNestedRecord();
+                pushRecord();
+                currentRecord = record;
+                currentPlan = (resolution == null) ? null : resolution.getPlan(record);
             } else {
                 throw getErrorTypeMismatch("record-start");
             }
         } else if (top == Symbol.RECORD_END || top == Symbol.UNION_END) {
+            if (top == Symbol.RECORD_END && currentPlan != null)
+                skipRemovedFields();
             if (in.getCurrentToken() == JsonToken.END_OBJECT) {
                 in.nextToken();
                 if (top == Symbol.RECORD_END) {
-                    if (currentReorderBuffer != null && !currentReorderBuffer.savedFields.isEmpty()) {
-                        throw getErrorTypeMismatch("Unknown fields: " + currentReorderBuffer.savedFields.keySet());
+                    if (currentReorderBuffer != null) {
+                        if (currentPlan != null)
+                            currentReorderBuffer.savedFields.keySet().removeIf(currentPlan::isWriterField);
+                        if (!currentReorderBuffer.savedFields.isEmpty())
+                            throw getErrorTypeMismatch("Unknown fields: " + currentReorderBuffer.savedFields.keySet());
                     }
 
-                    currentReorderBuffer = reorderBuffers.pop();
+                    popRecord();
                 }
             } else {
                 throw getErrorTypeMismatch(top == Symbol.RECORD_END ? "record-end" : "union-end");
@@ -485,6 +1119,112 @@ public Symbol doAction(Symbol input, Symbol top) throws IOException {
         return null;
     }
 
+    private void pushRecord() {
+        if (recordDepth == reorderBuffers.length) {
+            reorderBuffers = Arrays.copyOf(reorderBuffers, recordDepth * 2);
+            origParsers = Arrays.copyOf(origParsers, recordDepth * 2);
+            fieldNames = Arrays.copyOf(fieldNames, recordDepth * 2 + 1);
+            recordPlans = Arrays.copyOf(recordPlans, recordDepth * 2);
+            records = Arrays.copyOf(records, recordDepth * 2);
+        }
+
+        reorderBuffers[recordDepth] = currentReorderBuffer;
+        origParsers[recordDepth] = origParser;
+        recordPlans[recordDepth] = currentPlan;
+        records[recordDepth] = currentRecord;
+        recordDepth++;
+        fieldNames[recordDepth] = null;
+        currentReorderBuffer = null;
+        origParser = null;
+    }
+
+    private void popRecord() {
+        recordDepth--;
+        currentReorderBuffer = reorderBuffers[recordDepth];
+        origParser = origParsers[recordDepth];
+        currentPlan = recordPlans[recordDepth];
+        currentRecord = records[recordDepth];
+        reorderBuffers[recordDepth] = null;
+        origParsers[recordDepth] = null;
+        recordPlans[recordDepth] = null;
+        records[recordDepth] = null;
+    }
+
+    /**
+     * Skips writer fields removed from reader which follow last reader field of current record
+     */
+    private void skipRemovedFields() throws IOException {
+        while (in.getCurrentToken() == JsonToken.FIELD_NAME && currentPlan.isRemoved(in.getText())) {
+            in.nextToken();
+            in.skipChildren();
+            in.nextToken();
+        }
+    }
+
+    /**
+     * @return reader record being started, resolved from field of enclosing record
+     */
+    private Schema getNestedRecord() {
+        if (recordDepth == 0 || currentRecord == null)
+            return findRecord(schema, unionLabel);
+
+        final Field field = currentRecord.getField(fieldNames[recordDepth]);
+        return (field == null) ? null : findRecord(field.schema(), unionLabel);
+    }
+
+    /**
+     * @param schema record or schema containing record in its arrays, maps or unions
+     * @param label  of last decoded union branch, picks record among union branches
+     * @return record or null if schema has no records
+     */
+    private static Schema findRecord(Schema schema, String label) {
+        switch (schema.getType()) {
+            case RECORD:
+                return schema;
+            case ARRAY:
+                return findRecord(schema.getElementType(), label);
+            case MAP:
+                return findRecord(schema.getValueType(), label);
+            case UNION:
+                for (Schema type : schema.getTypes()) {
+                    if (type.getType() == Schema.Type.RECORD && type.getFullName().equals(label))
+                        return type;
+                }
+
+                for (Schema type : schema.getTypes()) {
+                    final Schema record = findRecord(type, label);
+                    if (record != null)
+                        return record;
+                }
+                return null;
+            default:
+                return null;
+        }
+    }
+
+    /**
+     * @return reorder buffer of current record, taken from pool of current nesting level when first
+     *         out of order field appears
+     */
+    private ReorderBuffer getReorderBuffer() {
+        if (currentReorderBuffer == null) {
+            if (recordDepth >= reorderBufferPool.length)
+                reorderBufferPool = Arrays.copyOf(reorderBufferPool, recordDepth * 2);
+
+            ReorderBuffer buffer = reorderBufferPool[recordDepth];
+            if (buffer == null) {
+                buffer = new ReorderBuffer();
+                reorderBufferPool[recordDepth] = buffer;
+            } else {
+                buffer.savedFields.clear();
+            }
+
+            currentReorderBuffer = buffer;
+        }
+
+        return currentReorderBuffer;
+    }
+
     private static List<JsonElement> getValueAsTree(JsonParser in) throws IOException {
         int level = 0;
         List<JsonElement> result = new ArrayList<>();
@@ -501,10 +1241,12 @@ private static List<JsonElement> getValueAsTree(JsonParser in) throws IOExceptio
                     level--;
                     result.add(new JsonElement(t));
                     break;
-                case FIELD_NAME:
-                case VALUE_STRING:
                 case VALUE_NUMBER_INT:
                 case VALUE_NUMBER_FLOAT:
+                    result.add(getNumericElement(t, in));
+                    break;
+                case FIELD_NAME:
+                case VALUE_STRING:
                 case VALUE_TRUE:
                 case VALUE_FALSE:
                 case VALUE_NULL:
@@ -517,46 +1259,130 @@ private static List<JsonElement> getValueAsTree(JsonParser in) throws IOExceptio
         return result;
     }
 
+    /**
+     * Keeps numeric value in binary form, only big integers and decimals are kept as text
+     */
+    private static JsonElement getNumericElement(JsonToken t, JsonParser in) throws IOException {
+        final JsonParser.NumberType numberType = in.getNumberType();
+        switch (numberType) {
+            case INT:
+            case LONG:
+                return new JsonElement(t, numberType, in.getLongValue());
+            case FLOAT:
+            case DOUBLE:
+                return new JsonElement(t, in.getDoubleValue());
+            default:
+                return new JsonElement(t, in.getText());
+        }
+    }
+
     private JsonParser makeParser(final List<JsonElement> elements) {
         return new JsonOptionalParser(elements);
     }
 
     private AvroTypeException getErrorTypeMismatch(String type) {
+        if (errorSignal != null)
+            return errorSignal.setMismatch(type, in.getCurrentToken());
         return new AvroTypeException("Expected " + type + ". Got " + in.getCurrentToken());
     }
 
+    /**
+     * @return logical type of field of current record, its nullable union branch, array elements or map values
+     */
+    private LogicalType getFieldLogicalType(String fieldName) {
+        final Field field = (currentRecord == null) ? null : currentRecord.getField(fieldName);
+        if (field == null)
+            return NO_LOGICAL_TYPE;
+
+        LogicalType logicalType = fieldLogicalTypes.get(field);
+        if (logicalType == null) {
+            logicalType = findFieldLogicalType(field);
+            fieldLogicalTypes.put(field, logicalType);
+        }
+
+        return logicalType;
+    }
+
+    static LogicalType findFieldLogicalType(Field field) {
+        return findLogicalType(field.schema());
+    }
+
+    private static LogicalType findLogicalType(Schema schema) {
+        if (schema.getLogicalType() != null)
+            return schema.getLogicalType();
+
+        switch (schema.getType()) {
+            case UNION:
+                for (Schema type : schema.getTypes()) {
+                    final LogicalType logicalType = findLogicalType(type);
+                    if (logicalType != NO_LOGICAL_TYPE)
+                        return logicalType;
+                }
+                return NO_LOGICAL_TYPE;
+            case ARRAY:
+                return findLogicalType(schema.getElementType());
+            case MAP:
+                return findLogicalType(schema.getValueType());
+            default:
+                return NO_LOGICAL_TYPE;
+        }
+    }
+
+    private AvroTypeException getError(String message) {
+        return (errorSignal != null) ? errorSignal.setMessage(message) : new AvroTypeException(message);
+    }
+
     private static final JsonElement NULL_JSON_ELEMENT = new JsonElement(null);
 
     private void injectDefaultValueIfAvailable(final JsonParser in, String fieldName) throws IOException {
-        final Field field = findField(schema, fieldName);
+        // default is taken from field of record being decoded, as nested records may share field names
+        final Field field = (currentRecord == null) ? null : currentRecord.getField(fieldName);
         if (field == null)
-            throw new AvroTypeException("Expected field name not found: " + fieldName);
+            throw getError("Expected field name not found: " + fieldName);
+
+        List<JsonElement> result = defaultTokens.get(field);
+        if (result == null) {
+            result = findDefaultValueTokens(field);
+            if (result == null)
+                throw getError("Expected field name not found: " + fieldName);
+            defaultTokens.put(field, result);
+        }
 
+        origParser = in;
+        this.in = makeParser(result);
+    }
+
+    /**
+     * @return tokens of field default value, null default for fields without default, or null if
+     *         default is not JSON
+     */
+    static List<JsonElement> findDefaultValueTokens(Field field) throws IOException {
         final Object defJsonValue = field.defaultVal() == null ? JsonProperties.NULL_VALUE : field.defaultVal();
         final JsonNode defVal = JacksonUtils.toJsonNode(defJsonValue);
         if (defVal == null)
-            throw new AvroTypeException("Expected field name not found: " + fieldName);
+            return null;
 
         final List<JsonElement> result = new ArrayList<>(2);
         final JsonParser traverse = defVal.traverse();
         JsonToken nextToken;
         while ((nextToken = traverse.nextToken()) != null) {
-            final JsonElement element = nextToken.isScalarValue()
-                    ? new JsonElement(nextToken, traverse.getText())
-                    : new JsonElement(nextToken);
+            final JsonElement element;
+            if (nextToken.isNumeric()) {
+                element = getNumericElement(nextToken, traverse);
+            } else if (nextToken.isScalarValue() || nextToken == JsonToken.FIELD_NAME) {
+                element = new JsonElement(nextToken, traverse.getText());
+            } else {
+                element = new JsonElement(nextToken);
+            }
 
             result.add(element);
         }
 
         result.add(NULL_JSON_ELEMENT);
-        if (currentReorderBuffer == null)
-            currentReorderBuffer = new ReorderBuffer();
-
-        currentReorderBuffer.origParser = in;
-        this.in = makeParser(result);
+        return result;
     }
 
-    private static Field findField(Schema schema, String name) {
+    static Field findField(Schema schema, String name) {
         if (!schema.getType().equals(Schema.Type.RECORD)) {
             return null;
         }
@@ -0,0 +1,333 @@
+package io.avro.decoder;
+
+import com.fasterxml.jackson.core.Base64Variants;
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonGenerator;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.util.*;
+import org.apache.avro.AvroTypeException;
+import org.apache.avro.Schema;
+import org.apache.avro.Schema.Field;
+import org.apache.avro.generic.GenericData;
+import org.apache.avro.generic.GenericFixed;
+import org.apache.avro.util.Utf8;
+
+/**
+ * Encodes Avro datum to compact JSON, which is decoded back by {@link JsonOptionalDecoder} into
+ * equal datum.
+ * <p>
+ * Mirrors decoder rules: fields equal to their schema default and null fields without default are
+ * omitted, nullable unions are written as bare values, other unions are wrapped as per Avro JSON
+ * encoding. Single Jackson generator is reused for all datums written with encoder.
+ * </p>
+ * Logical type values should be in their underlying Avro representation, encoder is not
+ * thread-safe.
+ *
+ * @author Anton Kurako (GoodforGod)
+ * @since 19.10.2026
+ */
+public class JsonOptionalEncoder {
+
+    private static final JsonFactory JSON_FACTORY = new JsonFactory();
+
+    /**
+     * Marks field which is never omitted
+     */
+    private static final Object NO_DEFAULT = new Object();
+
+    private final Schema schema;
+    private final GenericData data;
+    private final Map<Field, Object> defaults = new IdentityHashMap<>();
+    private final ByteArrayOutputStream buffer = new ByteArrayOutputStream(256);
+
+    private JsonGenerator generator;
+    private BinaryEncoding binaryEncoding = BinaryEncoding.ISO_8859_1;
+    private char[] chars = new char[64];
+    private byte[] bytes = new byte[64];
+
+    public JsonOptionalEncoder(Schema schema) throws IOException {
+        this(schema, GenericData.get());
+    }
+
+    /**
+     * @param schema of datums
+     * @param data   model datums are created with, {@link GenericData} or
+     *               {@link org.apache.avro.specific.SpecificData}
+     * @throws IOException from json factory
+     */
+    public JsonOptionalEncoder(Schema schema, GenericData data) throws IOException {
+        if (null == schema)
+            throw new NullPointerException("Schema cannot be null!");
+        if (null == data)
+            throw new NullPointerException("GenericData cannot be null!");
+
+        this.schema = schema;
+        this.data = data;
+        this.generator = createGenerator();
+    }
+
+    /**
+     * Configures how bytes and fixed values are encoded inside JSON strings, should match
+     * {@link JsonOptionalDecoder#withBinaryEncoding(BinaryEncoding)}
+     *
+     * @param binaryEncoding to use for bytes and fixed values
+     * @return this encoder
+     */
+    public JsonOptionalEncoder withBinaryEncoding(BinaryEncoding binaryEncoding) {
+        if (null == binaryEncoding)
+            throw new NullPointerException("BinaryEncoding cannot be null!");
+
+        this.binaryEncoding = binaryEncoding;
+        return this;
+    }
+
+    /**
+     * @param datum to encode
+     * @return JSON in UTF-8
+     * @throws IOException from generator
+     */
+    public byte[] encode(Object datum) throws IOException {
+        write(datum);
+        final byte[] json = buffer.toByteArray();
+        buffer.reset();
+        return json;
+    }
+
+    /**
+     * @param datum to encode
+     * @param out   to write JSON in UTF-8 to
+     * @throws IOException from generator or stream
+     */
+    public void encode(Object datum, OutputStream out) throws IOException {
+        if (null == out)
+            throw new NullPointerException("OutputStream cannot be null!");
+
+        write(datum);
+        try {
+            buffer.writeTo(out);
+        } finally {
+            buffer.reset();
+        }
+    }
+
+    private void write(Object datum) throws IOException {
+        try {
+            writeValue(datum, schema);
+            generator.flush();
+        } catch (IOException | RuntimeException e) {
+            // generator is left inside of failed value
+            buffer.reset();
+            generator = createGenerator();
+            throw e;
+        }
+    }
+
+    private JsonGenerator createGenerator() throws IOException {
+        final JsonGenerator created = JSON_FACTORY.createGenerator(buffer);
+        created.setRootValueSeparator(null);
+        return created;
+    }
+
+    private void writeValue(Object datum, Schema schema) throws IOException {
+        switch (schema.getType()) {
+            case RECORD:
+                writeRecord(datum, schema);
+                break;
+            case ARRAY:
+                generator.writeStartArray();
+                for (Object element : (Collection<?>) datum)
+                    writeValue(element, schema.getElementType());
+                generator.writeEndArray();
+                break;
+            case MAP:
+                generator.writeStartObject();
+                for (Map.Entry<?, ?> entry : ((Map<?, ?>) datum).entrySet()) {
+                    generator.writeFieldName(entry.getKey().toString());
+                    writeValue(entry.getValue(), schema.getValueType());
+                }
+                generator.writeEndObject();
+                break;
+            case UNION:
+                writeUnion(datum, schema);
+                break;
+            case STRING:
+                if (datum instanceof Utf8) {
+                    final Utf8 utf8 = (Utf8) datum;
+                    generator.writeUTF8String(utf8.getBytes(), 0, utf8.getByteLength());
+                } else {
+                    generator.writeString(datum.toString());
+                }
+                break;
+            case ENUM:
+                generator.writeString(datum.toString());
+                break;
+            case BYTES:
+                final ByteBuffer byteBuffer = (ByteBuffer) datum;
+                if (byteBuffer.hasArray()) {
+                    writeBinary(byteBuffer.array(), byteBuffer.arrayOffset() + byteBuffer.position(), byteBuffer.remaining());
+                } else {
+                    final int length = byteBuffer.remaining();
+                    if (bytes.length < length)
+                        bytes = new byte[Math.max(length, bytes.length * 2)];
+                    byteBuffer.duplicate().get(bytes, 0, length);
+                    writeBinary(bytes, 0, length);
+                }
+                break;
+            case FIXED:
+                final byte[] fixed = ((GenericFixed) datum).bytes();
+                writeBinary(fixed, 0, fixed.length);
+                break;
+            case INT:
+                generator.writeNumber(((Number) datum).intValue());
+                break;
+            case LONG:
+                generator.writeNumber(((Number) datum).longValue());
+                break;
+            case FLOAT:
+                generator.writeNumber(((Number) datum).floatValue());
+                break;
+            case DOUBLE:
+                generator.writeNumber(((Number) datum).doubleValue());
+                break;
+            case BOOLEAN:
+                generator.writeBoolean((Boolean) datum);
+                break;
+            case NULL:
+                generator.writeNull();
+                break;
+            default:
+                throw new AvroTypeException("Unknown type: " + schema.getType());
+        }
+    }
+
+    private void writeRecord(Object record, Schema schema) throws IOException {
+        generator.writeStartObject();
+        for (Field field : schema.getFields()) {
+            final Object value = data.getField(record, field.name(), field.pos());
+            if (!isOmitted(field, value)) {
+                generator.writeFieldName(field.name());
+                writeValue(value, field.schema());
+            }
+        }
+        generator.writeEndObject();
+    }
+
+    private void writeUnion(Object datum, Schema union) throws IOException {
+        final List<Schema> types = union.getTypes();
+        final int index = data.resolveUnion(union, datum);
+        final Schema branch = types.get(index);
+        if (branch.getType() == Schema.Type.NULL) {
+            generator.writeNull();
+        } else if (types.size() == 2
+                && (types.get(0).getType() == Schema.Type.NULL || types.get(1).getType() == Schema.Type.NULL)) {
+            writeValue(datum, branch);
+        } else {
+            generator.writeStartObject();
+            generator.writeFieldName(branch.getFullName());
+            writeValue(datum, branch);
+            generator.writeEndObject();
+        }
+    }
+
+    private void writeBinary(byte[] value, int offset, int length) throws IOException {
+        if (binaryEncoding == BinaryEncoding.BASE64) {
+            generator.writeBinary(Base64Variants.getDefaultVariant(), value, offset, length);
+            return;
+        }
+
+        if (chars.length < length)
+            chars = new char[Math.max(length, chars.length * 2)];
+        for (int i = 0; i < length; i++)
+            chars[i] = (char) (value[offset + i] & 0xFF);
+        generator.writeString(chars, 0, length);
+    }
+
+    /**
+     * Field is omitted only when decoder injects equal value for missing field, decoder resolves
+     * defaults by field name, so fields sharing name with field of other schema are never omitted.
+     */
+    private boolean isOmitted(Field field, Object value) {
+        Object defaultValue = defaults.get(field);
+        if (defaultValue == null && !defaults.containsKey(field)) {
+            defaultValue = getDefaultValue(field);
+            defaults.put(field, defaultValue);
+        }
+
+        return defaultValue != NO_DEFAULT && isEqual(value, defaultValue, field.schema());
+    }
+
+    private Object getDefaultValue(Field field) {
+        final Field decoderField = JsonOptionalDecoder.findField(schema, field.name());
+        if (decoderField == null || !decoderField.schema().equals(field.schema()))
+            return NO_DEFAULT;
+        if (decoderField.hasDefaultValue())
+            return data.getDefaultValue(decoderField);
+
+        // decoder injects null for missing field without default
+        return isNullable(field.schema()) ? null : NO_DEFAULT;
+    }
+
+    private static boolean isNullable(Schema schema) {
+        if (schema.getType() == Schema.Type.NULL)
+            return true;
+        if (schema.getType() != Schema.Type.UNION)
+            return false;
+        for (Schema type : schema.getTypes()) {
+            if (type.getType() == Schema.Type.NULL)
+                return true;
+        }
+        return false;
+    }
+
+    private boolean isEqual(Object value, Object defaultValue, Schema schema) {
+        if (value == null || defaultValue == null)
+            return value == defaultValue;
+
+        switch (schema.getType()) {
+            case UNION:
+                final int index = data.resolveUnion(schema, value);
+                return index == data.resolveUnion(schema, defaultValue)
+                        && isEqual(value, defaultValue, schema.getTypes().get(index));
+            case RECORD:
+                for (Field field : schema.getFields()) {
+                    if (!isEqual(data.getField(value, field.name(), field.pos()),
+                            data.getField(defaultValue, field.name(), field.pos()), field.schema()))
+                        return false;
+                }
+                return true;
+            case ARRAY:
+                final Collection<?> values = (Collection<?>) value;
+                final Collection<?> defaultValues = (Collection<?>) defaultValue;
+                if (values.size() != defaultValues.size())
+                    return false;
+                final Iterator<?> defaultIterator = defaultValues.iterator();
+                for (Object element : values) {
+                    if (!isEqual(element, defaultIterator.next(), schema.getElementType()))
+                        return false;
+                }
+                return true;
+            case MAP:
+                final Map<?, ?> map = (Map<?, ?>) value;
+                final Map<?, ?> defaultMap = (Map<?, ?>) defaultValue;
+                if (map.size() != defaultMap.size())
+                    return false;
+                if (map.isEmpty())
+                    return true;
+                final Map<String, Object> defaultEntries = new HashMap<>();
+                for (Map.Entry<?, ?> entry : defaultMap.entrySet())
+                    defaultEntries.put(entry.getKey().toString(), entry.getValue());
+                for (Map.Entry<?, ?> entry : map.entrySet()) {
+                    final String key = entry.getKey().toString();
+                    if (!defaultEntries.containsKey(key)
+                            || !isEqual(entry.getValue(), defaultEntries.get(key), schema.getValueType()))
+                        return false;
+                }
+                return true;
+            default:
+                return data.compare(value, defaultValue, schema) == 0;
+        }
+    }
+}
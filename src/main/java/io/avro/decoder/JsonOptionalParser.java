@@ -2,6 +2,8 @@
 
 import com.fasterxml.jackson.core.*;
 import com.fasterxml.jackson.core.json.PackageVersion;
+import java.io.IOException;
+import java.io.OutputStream;
 import java.math.BigDecimal;
 import java.math.BigInteger;
 import java.util.List;
@@ -17,6 +19,7 @@ public class JsonOptionalParser extends JsonParser {
 
     private int pos = 0;
     private final List<JsonElement> elements;
+    private char[] textBuffer;
 
     public JsonOptionalParser(List<JsonElement> elements) {
         this.elements = elements;
@@ -46,7 +49,7 @@ public JsonToken nextToken() {
     @Override
     public JsonParser skipChildren() {
         JsonToken tkn = elements.get(pos).token;
-        int level = (tkn == JsonToken.START_ARRAY || tkn == JsonToken.END_ARRAY) ? 1 : 0;
+        int level = (tkn == JsonToken.START_ARRAY || tkn == JsonToken.START_OBJECT) ? 1 : 0;
         while (level > 0) {
             switch (elements.get(++pos).token) {
                 case START_ARRAY:
@@ -89,67 +92,122 @@ public JsonLocation getCurrentLocation() {
 
     @Override
     public String getText() {
-        return elements.get(pos).value;
+        return elements.get(pos).getValue();
     }
 
+    /**
+     * Text is copied into buffer reused between tokens
+     */
     @Override
     public char[] getTextCharacters() {
-        throw new UnsupportedOperationException();
+        final String text = getText();
+        if (text == null)
+            return null;
+
+        if (textBuffer == null || textBuffer.length < text.length())
+            textBuffer = new char[Math.max(text.length(), 32)];
+
+        text.getChars(0, text.length(), textBuffer, 0);
+        return textBuffer;
     }
 
     @Override
     public int getTextLength() {
-        throw new UnsupportedOperationException();
+        final String text = getText();
+        return (text == null) ? 0 : text.length();
     }
 
     @Override
     public int getTextOffset() {
-        throw new UnsupportedOperationException();
+        return 0;
     }
 
     @Override
     public Number getNumberValue() {
-        throw new UnsupportedOperationException();
+        final JsonElement element = elements.get(pos);
+        if (element.numberType == null)
+            return getCurrentToken() == JsonToken.VALUE_NUMBER_FLOAT ? getDecimalValue() : getBigIntegerValue();
+
+        switch (element.numberType) {
+            case INT:
+                return (int) element.longValue;
+            case LONG:
+                return element.longValue;
+            default:
+                return element.doubleValue;
+        }
     }
 
     @Override
     public NumberType getNumberType() {
-        throw new UnsupportedOperationException();
+        final JsonElement element = elements.get(pos);
+        if (element.numberType != null)
+            return element.numberType;
+
+        return getCurrentToken() == JsonToken.VALUE_NUMBER_FLOAT ? NumberType.BIG_DECIMAL : NumberType.BIG_INTEGER;
     }
 
     @Override
     public int getIntValue() {
-        return Integer.parseInt(getText());
+        final JsonElement element = elements.get(pos);
+        return element.isNumeric()
+                ? Math.toIntExact(element.longValue)
+                : Integer.parseInt(element.value);
     }
 
     @Override
     public long getLongValue() {
-        return Long.parseLong(getText());
+        final JsonElement element = elements.get(pos);
+        return element.isNumeric()
+                ? element.longValue
+                : Long.parseLong(element.value);
     }
 
     @Override
     public BigInteger getBigIntegerValue() {
-        return new BigInteger(getText());
+        final JsonElement element = elements.get(pos);
+        return element.isNumeric()
+                ? BigInteger.valueOf(element.longValue)
+                : new BigInteger(element.value);
     }
 
     @Override
     public float getFloatValue() {
-        return Float.parseFloat(getText());
+        final JsonElement element = elements.get(pos);
+        return element.isNumeric()
+                ? (float) element.doubleValue
+                : Float.parseFloat(element.value);
     }
 
     @Override
     public double getDoubleValue() {
-        return Double.parseDouble(getText());
+        final JsonElement element = elements.get(pos);
+        return element.isNumeric()
+                ? element.doubleValue
+                : Double.parseDouble(element.value);
     }
 
     @Override
     public BigDecimal getDecimalValue() {
-        return new BigDecimal(getText());
+        final JsonElement element = elements.get(pos);
+        if (!element.isNumeric())
+            return new BigDecimal(element.value);
+
+        return (element.numberType == NumberType.DOUBLE)
+                ? BigDecimal.valueOf(element.doubleValue)
+                : BigDecimal.valueOf(element.longValue);
     }
 
     @Override
     public byte[] getBinaryValue(Base64Variant b64variant) {
-        throw new UnsupportedOperationException();
+        return b64variant.decode(getText());
+    }
+
+    @Override
+    public int readBinaryValue(Base64Variant b64variant, OutputStream out) throws IOException {
+        final byte[] bytes = getBinaryValue(b64variant);
+        out.write(bytes);
+        return bytes.length;
     }
 
     @Override
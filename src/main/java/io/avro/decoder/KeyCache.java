@@ -0,0 +1,75 @@
+package io.avro.decoder;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import org.apache.avro.util.Utf8;
+
+/**
+ * Bounded cache of canonical {@link Utf8} map keys, so maps with small repeating key set do not
+ * allocate key per entry.
+ * <p>
+ * Keys are looked up by String canonicalized by Jackson symbol table, which also canonicalizes field
+ * names buffered for reordering. Cache stops growing once it reaches its size limit and keys longer
+ * than length limit are never cached, which guards against key cardinality attacks. Cache is
+ * thread-safe and can be shared between decoders.
+ * </p>
+ * Canonical keys are shared between decoded maps and must not be modified.
+ *
+ * @author Anton Kurako (GoodforGod)
+ * @since 19.10.2026
+ */
+public final class KeyCache {
+
+    /**
+     * Shared key instance, which decoder never reuses as target for next string
+     */
+    static final class CanonicalUtf8 extends Utf8 {
+
+        private CanonicalUtf8(String key) {
+            super(key);
+        }
+    }
+
+    private final int maxSize;
+    private final int maxKeyLength;
+    private final Map<String, CanonicalUtf8> keys = new ConcurrentHashMap<>();
+
+    public KeyCache() {
+        this(1024, 64);
+    }
+
+    /**
+     * @param maxSize      maximum amount of cached keys
+     * @param maxKeyLength maximum length of cached key in chars
+     */
+    public KeyCache(int maxSize, int maxKeyLength) {
+        if (maxSize < 0)
+            throw new IllegalArgumentException("Max size can not be negative, but was: " + maxSize);
+        if (maxKeyLength < 0)
+            throw new IllegalArgumentException("Max key length can not be negative, but was: " + maxKeyLength);
+
+        this.maxSize = maxSize;
+        this.maxKeyLength = maxKeyLength;
+    }
+
+    /**
+     * @param key canonical String of map key
+     * @return canonical Utf8 of key or null if key can not be cached
+     */
+    Utf8 get(String key) {
+        final CanonicalUtf8 cached = keys.get(key);
+        if (cached != null)
+            return cached;
+        if (key.length() > maxKeyLength || keys.size() >= maxSize)
+            return null;
+
+        return keys.computeIfAbsent(key, CanonicalUtf8::new);
+    }
+
+    /**
+     * @return amount of cached keys
+     */
+    public int size() {
+        return keys.size();
+    }
+}
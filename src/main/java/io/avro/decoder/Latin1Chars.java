@@ -0,0 +1,60 @@
+package io.avro.decoder;
+
+/**
+ * ISO-8859-1 encoding straight from parser char buffers, characters above {@code 0xFF} are replaced
+ * with '?' (surrogate pair with single '?') same as {@link String#getBytes(java.nio.charset.Charset)}
+ * does.
+ *
+ * @author Anton Kurako (GoodforGod)
+ * @since 19.10.2026
+ */
+final class Latin1Chars {
+
+    private Latin1Chars() {}
+
+    /**
+     * @param chars  to encode
+     * @param start  in chars
+     * @param length of chars to encode
+     * @return amount of bytes chars are encoded into
+     */
+    static int encodedLength(char[] chars, int start, int length) {
+        final int end = start + length;
+        int result = length;
+        for (int i = start; i < end; i++) {
+            if (isSurrogatePair(chars, i, end)) {
+                result--;
+                i++;
+            }
+        }
+        return result;
+    }
+
+    /**
+     * @param chars  to encode
+     * @param start  in chars
+     * @param length of chars to encode
+     * @param bytes  to encode into, should have enough space
+     * @param offset in bytes to encode from
+     * @return offset in bytes after last encoded byte
+     */
+    static int encode(char[] chars, int start, int length, byte[] bytes, int offset) {
+        final int end = start + length;
+        int pos = offset;
+        for (int i = start; i < end; i++) {
+            final char c = chars[i];
+            if (c <= 0xFF) {
+                bytes[pos++] = (byte) c;
+            } else {
+                if (isSurrogatePair(chars, i, end))
+                    i++;
+                bytes[pos++] = '?';
+            }
+        }
+        return pos;
+    }
+
+    private static boolean isSurrogatePair(char[] chars, int i, int end) {
+        return Character.isHighSurrogate(chars[i]) && i + 1 < end && Character.isLowSurrogate(chars[i + 1]);
+    }
+}
@@ -0,0 +1,150 @@
+package io.avro.decoder;
+
+import java.io.IOException;
+import org.apache.avro.AvroRuntimeException;
+import org.apache.avro.Schema;
+import org.apache.avro.Schema.Field;
+import org.apache.avro.generic.GenericData;
+import org.apache.avro.generic.GenericRecord;
+
+/**
+ * {@link GenericRecord} view of JSON record backed by {@link StructuralIndex}, field is decoded only
+ * when it is accessed first time and then cached.
+ * <p>
+ * Original JSON bytes stay available via {@link #getJson()}, {@link #getOffset()} and
+ * {@link #getLength()} for forwarding without re-encoding, as long as record is not modified.
+ * </p>
+ * Record is not thread-safe.
+ *
+ * @author Anton Kurako (GoodforGod)
+ * @since 19.10.2026
+ * @see LazyRecordReader
+ */
+public final class LazyGenericRecord implements GenericRecord {
+
+    private final LazyRecordReader reader;
+    private final StructuralIndex index;
+    private final int object;
+
+    private final Object[] values;
+    private final boolean[] decoded;
+    private boolean modified = false;
+
+    LazyGenericRecord(LazyRecordReader reader, StructuralIndex index, int object) {
+        this.reader = reader;
+        this.index = index;
+        this.object = object;
+        this.values = new Object[reader.getSchema().getFields().size()];
+        this.decoded = new boolean[values.length];
+    }
+
+    @Override
+    public Schema getSchema() {
+        return reader.getSchema();
+    }
+
+    @Override
+    public void put(String key, Object v) {
+        final Field field = getSchema().getField(key);
+        if (field == null)
+            throw new AvroRuntimeException("Not a valid schema field: " + key);
+
+        put(field.pos(), v);
+    }
+
+    @Override
+    public void put(int i, Object v) {
+        values[i] = v;
+        decoded[i] = true;
+        modified = true;
+    }
+
+    @Override
+    public Object get(String key) {
+        final Field field = getSchema().getField(key);
+        return (field == null) ? null : get(field.pos());
+    }
+
+    @Override
+    public Object get(int i) {
+        if (!decoded[i]) {
+            values[i] = decode(getSchema().getFields().get(i));
+            decoded[i] = true;
+        }
+        return values[i];
+    }
+
+    private Object decode(Field field) {
+        final int valueStart = index.findValue(object, field.name());
+        final int valueEnd = (valueStart < 0) ? -1 : index.skipValue(valueStart);
+        try {
+            return reader.readField(field.pos(), index.getJson(), valueStart, valueEnd);
+        } catch (IOException e) {
+            throw new AvroRuntimeException("Failed to decode field: " + field.name(), e);
+        }
+    }
+
+    /**
+     * @return true if record was modified and original JSON no longer represents it
+     */
+    public boolean isModified() {
+        return modified;
+    }
+
+    /**
+     * @return original JSON document bytes
+     */
+    public byte[] getJson() {
+        return index.getJson();
+    }
+
+    /**
+     * @return byte position of record in original JSON
+     */
+    public int getOffset() {
+        return index.getPosition(object);
+    }
+
+    /**
+     * @return length of record in original JSON bytes
+     */
+    public int getLength() {
+        return index.getPosition(index.getMatch(object)) + 1 - getOffset();
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o)
+            return true;
+        if (!(o instanceof GenericRecord))
+            return false;
+        GenericRecord that = (GenericRecord) o;
+        return getSchema().equals(that.getSchema()) && toRecord(this).equals(toRecord(that));
+    }
+
+    /**
+     * @return shallow copy as {@link GenericData.Record}, as equality check with maps is only
+     *         available to it
+     */
+    private static GenericData.Record toRecord(GenericRecord record) {
+        if (record instanceof GenericData.Record)
+            return (GenericData.Record) record;
+
+        final GenericData.Record copy = new GenericData.Record(record.getSchema());
+        for (Field field : record.getSchema().getFields()) {
+            copy.put(field.pos(), record.get(field.pos()));
+        }
+
+        return copy;
+    }
+
+    @Override
+    public int hashCode() {
+        return GenericData.get().hashCode(this, getSchema());
+    }
+
+    @Override
+    public String toString() {
+        return GenericData.get().toString(this);
+    }
+}
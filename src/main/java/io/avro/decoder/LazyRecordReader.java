@@ -0,0 +1,144 @@
+package io.avro.decoder;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.util.Collections;
+import java.util.List;
+import org.apache.avro.Schema;
+import org.apache.avro.Schema.Field;
+import org.apache.avro.generic.GenericData;
+import org.apache.avro.generic.GenericDatumReader;
+import org.apache.avro.generic.GenericRecord;
+import org.apache.avro.io.DatumReader;
+
+/**
+ * Reads JSON records as {@link LazyGenericRecord}, which decodes fields only when they are first
+ * accessed.
+ * <p>
+ * Every field is decoded with {@link JsonOptionalDecoder} via single field record schema, so missing
+ * optional fields are injected from defaults same as when whole record is decoded. Decoder per field
+ * is compiled once and reused together with single scratch buffer, missing field value is decoded
+ * only once and copied into records.
+ * </p>
+ * Reader is not thread-safe, records read by reader should be accessed by single thread.
+ *
+ * @author Anton Kurako (GoodforGod)
+ * @since 19.10.2026
+ */
+public class LazyRecordReader {
+
+    private static final byte[] EMPTY_OBJECT = "{}".getBytes(StandardCharsets.UTF_8);
+
+    private final Schema schema;
+    private final DatumReader<?>[] fieldReaders;
+    private final JsonOptionalDecoder[] fieldDecoders;
+    private final byte[][] fieldPrefixes;
+    private final Object[] missingValues;
+    private final boolean[] missingDecoded;
+
+    private byte[] scratch = new byte[256];
+
+    @SuppressWarnings("unchecked")
+    public LazyRecordReader(Schema schema) {
+        if (null == schema)
+            throw new NullPointerException("Schema cannot be null!");
+        if (schema.getType() != Schema.Type.RECORD)
+            throw new IllegalArgumentException("Schema should be record, but was: " + schema.getType());
+
+        this.schema = schema;
+        final List<Field> fields = schema.getFields();
+        this.fieldPrefixes = new byte[fields.size()][];
+        this.fieldReaders = new DatumReader<?>[fields.size()];
+        this.fieldDecoders = new JsonOptionalDecoder[fields.size()];
+        this.missingValues = new Object[fields.size()];
+        this.missingDecoded = new boolean[fields.size()];
+        for (Field field : fields) {
+            final Field copy = new Field(field.name(), field.schema(), field.doc(), field.defaultVal());
+            final Schema fieldSchema = Schema.createRecord(schema.getName() + "_" + field.name(), null,
+                    schema.getNamespace(), false, Collections.singletonList(copy));
+
+            fieldPrefixes[field.pos()] = ("{\"" + field.name() + "\":").getBytes(StandardCharsets.UTF_8);
+            fieldReaders[field.pos()] = new GenericDatumReader<>(fieldSchema);
+            try {
+                fieldDecoders[field.pos()] = new JsonOptionalDecoder(CompiledSchema.compile(fieldSchema),
+                        EMPTY_OBJECT, 0, EMPTY_OBJECT.length);
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        }
+    }
+
+    public Schema getSchema() {
+        return schema;
+    }
+
+    /**
+     * @param json record bytes in UTF-8
+     * @return lazy record view of JSON
+     */
+    public LazyGenericRecord read(byte[] json) {
+        return read(json, 0, json.length);
+    }
+
+    /**
+     * @param json   record bytes in UTF-8
+     * @param offset of record in bytes
+     * @param length of record in bytes
+     * @return lazy record view of JSON
+     */
+    public LazyGenericRecord read(byte[] json, int offset, int length) {
+        final StructuralIndex index = StructuralIndex.build(json, offset, length);
+        if (index.getRecordCount() != 1)
+            throw new IllegalArgumentException("Expected single record, but got: " + index.getRecordCount());
+
+        return read(index, 0);
+    }
+
+    /**
+     * @param index  of JSON document
+     * @param record index of record in document
+     * @return lazy record view of document record
+     */
+    public LazyGenericRecord read(StructuralIndex index, int record) {
+        if (null == index)
+            throw new NullPointerException("StructuralIndex cannot be null!");
+
+        return new LazyGenericRecord(this, index, index.indexOf(index.getRecordStart(record)));
+    }
+
+    /**
+     * @param position   of field in record schema
+     * @param json       document bytes
+     * @param valueStart byte position of field value, -1 if field is missing
+     * @param valueEnd   byte position right after field value
+     * @return decoded field value or its default
+     * @throws IOException from decoder
+     */
+    Object readField(int position, byte[] json, int valueStart, int valueEnd) throws IOException {
+        if (valueStart < 0) {
+            if (!missingDecoded[position]) {
+                missingValues[position] = decode(position, EMPTY_OBJECT, EMPTY_OBJECT.length);
+                missingDecoded[position] = true;
+            }
+
+            // records own their values, so shared missing value is copied
+            return GenericData.get().deepCopy(schema.getFields().get(position).schema(), missingValues[position]);
+        }
+
+        final byte[] prefix = fieldPrefixes[position];
+        final int length = prefix.length + valueEnd - valueStart + 1;
+        if (scratch.length < length)
+            scratch = new byte[Math.max(length, scratch.length * 2)];
+
+        System.arraycopy(prefix, 0, scratch, 0, prefix.length);
+        System.arraycopy(json, valueStart, scratch, prefix.length, valueEnd - valueStart);
+        scratch[length - 1] = '}';
+        return decode(position, scratch, length);
+    }
+
+    private Object decode(int position, byte[] fieldJson, int length) throws IOException {
+        final JsonOptionalDecoder decoder = fieldDecoders[position].configure(fieldJson, 0, length);
+        return ((GenericRecord) fieldReaders[position].read(null, decoder)).get(0);
+    }
+}
@@ -0,0 +1,301 @@
+package io.avro.decoder;
+
+import org.apache.avro.AvroTypeException;
+
+/**
+ * Allocation free parsers of ISO-8601 dates, times, timestamps and decimal strings straight from
+ * parser char buffer into underlying Avro values of logical types.
+ * <p>
+ * Timestamps are parsed as {@code YYYY-MM-DD['T'HH:MM[:SS[.fraction]]][Z|+HH:MM|-HH:MM]}, date
+ * without time is treated as midnight and timestamp without offset is treated as UTC. Invalid values
+ * are reported with decoder error signal when it is set.
+ * </p>
+ *
+ * @author Anton Kurako (GoodforGod)
+ * @since 19.10.2026
+ */
+final class LogicalTypeParser {
+
+    private static final int SECONDS_PER_DAY = 86400;
+    private static final long DAYS_0000_TO_1970 = 719528L;
+
+    private DecodeError errorSignal;
+
+    private char[] chars;
+    private int offset;
+    private int end;
+    private int position;
+
+    /**
+     * @param errorSignal to report invalid values with, or null to throw new exception per error
+     */
+    void setErrorSignal(DecodeError errorSignal) {
+        this.errorSignal = errorSignal;
+    }
+
+    private void reset(char[] chars, int offset, int length) {
+        this.chars = chars;
+        this.offset = offset;
+        this.end = offset + length;
+        this.position = offset;
+    }
+
+    /**
+     * @return days since epoch of {@code YYYY-MM-DD} date
+     */
+    int parseDate(char[] chars, int offset, int length) {
+        reset(chars, offset, length);
+        final long epochDay = parseEpochDay();
+        if (position != end || epochDay < Integer.MIN_VALUE || epochDay > Integer.MAX_VALUE)
+            throw invalid("date", chars, offset, length);
+
+        return (int) epochDay;
+    }
+
+    /**
+     * @return milliseconds or microseconds of day of {@code HH:MM[:SS[.fraction]]} time
+     */
+    long parseTime(char[] chars, int offset, int length, boolean micros) {
+        reset(chars, offset, length);
+        final long nanoOfDay = parseNanoOfDay("time");
+        if (position != end)
+            throw invalid("time", chars, offset, length);
+
+        return micros ? nanoOfDay / 1_000 : nanoOfDay / 1_000_000;
+    }
+
+    /**
+     * @return milliseconds or microseconds since epoch of ISO-8601 timestamp
+     */
+    long parseTimestamp(char[] chars, int offset, int length, boolean micros) {
+        reset(chars, offset, length);
+        final long epochDay = parseEpochDay();
+
+        long nanoOfDay = 0;
+        int offsetSeconds = 0;
+        if (position != end) {
+            final char separator = chars[position++];
+            if (separator != 'T' && separator != 't' && separator != ' ')
+                throw invalid("timestamp", chars, offset, length);
+
+            nanoOfDay = parseNanoOfDay("timestamp");
+            if (position != end)
+                offsetSeconds = parseOffsetSeconds();
+        }
+
+        if (position != end)
+            throw invalid("timestamp", chars, offset, length);
+
+        final long epochSecond = epochDay * SECONDS_PER_DAY + nanoOfDay / 1_000_000_000 - offsetSeconds;
+        final long nanoOfSecond = nanoOfDay % 1_000_000_000;
+        return micros
+                ? epochSecond * 1_000_000 + nanoOfSecond / 1_000
+                : epochSecond * 1_000 + nanoOfSecond / 1_000_000;
+    }
+
+    /**
+     * @return unscaled value of decimal string with given scale
+     * @throws ArithmeticException if unscaled value does not fit in long
+     */
+    long parseUnscaled(char[] chars, int offset, int length, int scale) {
+        int position = offset;
+        final int end = offset + length;
+        final boolean negative = position < end && chars[position] == '-';
+        if (position < end && (chars[position] == '-' || chars[position] == '+'))
+            position++;
+
+        long unscaled = 0;
+        int digits = 0;
+        int fractionDigits = -1;
+        for (; position < end; position++) {
+            final char c = chars[position];
+            if (c >= '0' && c <= '9') {
+                digits++;
+                if (fractionDigits >= 0) {
+                    fractionDigits++;
+                    if (fractionDigits > scale) {
+                        if (c != '0')
+                            throw error("Cannot decode decimal " + new String(chars, offset, length)
+                                    + " with scale " + scale);
+                        continue;
+                    }
+                }
+                unscaled = Math.addExact(Math.multiplyExact(unscaled, 10), c - '0');
+            } else if (c == '.' && fractionDigits < 0) {
+                fractionDigits = 0;
+            } else {
+                throw invalid("decimal", chars, offset, length);
+            }
+        }
+
+        if (digits == 0)
+            throw invalid("decimal", chars, offset, length);
+
+        for (int i = Math.max(fractionDigits, 0); i < scale; i++)
+            unscaled = Math.multiplyExact(unscaled, 10);
+
+        return negative ? -unscaled : unscaled;
+    }
+
+    /**
+     * @return amount of bytes of minimal two's complement representation of value
+     */
+    static int getUnscaledLength(long unscaled) {
+        int length = 1;
+        while (length < 8 && (unscaled >> (length * 8 - 1)) != 0 && (unscaled >> (length * 8 - 1)) != -1)
+            length++;
+        return length;
+    }
+
+    /**
+     * Writes big-endian two's complement value sign extended to length bytes, as Avro decimal
+     * conversion does
+     */
+    static void writeUnscaled(long unscaled, byte[] bytes, int start, int length) {
+        for (int i = length - 1; i >= 0; i--) {
+            bytes[start + i] = (byte) unscaled;
+            unscaled >>= 8;
+        }
+    }
+
+    private long parseEpochDay() {
+        boolean negative = false;
+        if (position < end && (chars[position] == '-' || chars[position] == '+')) {
+            negative = chars[position] == '-';
+            position++;
+        }
+
+        final int yearStart = position;
+        long year = 0;
+        while (position < end && isDigit(chars[position]) && position - yearStart < 9)
+            year = year * 10 + (chars[position++] - '0');
+        if (position - yearStart < 4)
+            throw invalid("date", chars, offset, end - offset);
+        if (negative)
+            year = -year;
+
+        expect('-', "date");
+        final int month = parseTwoDigits("date");
+        expect('-', "date");
+        final int day = parseTwoDigits("date");
+        if (month < 1 || month > 12 || day < 1 || day > getMonthLength(year, month))
+            throw invalid("date", chars, offset, end - offset);
+
+        long total = 365 * year;
+        if (year >= 0) {
+            total += (year + 3) / 4 - (year + 99) / 100 + (year + 399) / 400;
+        } else {
+            total -= year / -4 - year / -100 + year / -400;
+        }
+
+        total += (367 * month - 362) / 12;
+        total += day - 1;
+        if (month > 2) {
+            total--;
+            if (!isLeapYear(year))
+                total--;
+        }
+
+        return total - DAYS_0000_TO_1970;
+    }
+
+    private long parseNanoOfDay(String type) {
+        final int hour = parseTwoDigits(type);
+        expect(':', type);
+        final int minute = parseTwoDigits(type);
+
+        int second = 0;
+        long nano = 0;
+        if (position < end && chars[position] == ':') {
+            position++;
+            second = parseTwoDigits(type);
+            if (position < end && (chars[position] == '.' || chars[position] == ',')) {
+                position++;
+                final int fractionStart = position;
+                long scale = 100_000_000;
+                while (position < end && isDigit(chars[position])) {
+                    nano += (chars[position++] - '0') * scale;
+                    scale /= 10;
+                }
+
+                final int fractionLength = position - fractionStart;
+                if (fractionLength == 0 || fractionLength > 9)
+                    throw invalid(type, chars, offset, end - offset);
+            }
+        }
+
+        if (hour > 23 || minute > 59 || second > 59)
+            throw invalid(type, chars, offset, end - offset);
+
+        return (hour * 3600L + minute * 60L + second) * 1_000_000_000L + nano;
+    }
+
+    private int parseOffsetSeconds() {
+        final char sign = chars[position++];
+        if (sign == 'Z' || sign == 'z')
+            return 0;
+        if (sign != '+' && sign != '-')
+            throw invalid("timestamp", chars, offset, end - offset);
+
+        final int hours = parseTwoDigits("timestamp");
+        int minutes = 0;
+        if (position < end) {
+            if (chars[position] == ':')
+                position++;
+            minutes = parseTwoDigits("timestamp");
+        }
+
+        if (hours > 18 || minutes > 59)
+            throw invalid("timestamp", chars, offset, end - offset);
+
+        final int seconds = hours * 3600 + minutes * 60;
+        return (sign == '-') ? -seconds : seconds;
+    }
+
+    private int parseTwoDigits(String type) {
+        if (position + 2 > end
+                || !isDigit(chars[position])
+                || !isDigit(chars[position + 1]))
+            throw invalid(type, chars, offset, end - offset);
+
+        final int value = (chars[position] - '0') * 10 + (chars[position + 1] - '0');
+        position += 2;
+        return value;
+    }
+
+    private void expect(char expected, String type) {
+        if (position >= end || chars[position] != expected)
+            throw invalid(type, chars, offset, end - offset);
+        position++;
+    }
+
+    private static boolean isDigit(char c) {
+        return c >= '0' && c <= '9';
+    }
+
+    private static boolean isLeapYear(long year) {
+        return (year & 3) == 0 && (year % 100 != 0 || year % 400 == 0);
+    }
+
+    private static int getMonthLength(long year, int month) {
+        switch (month) {
+            case 2:
+                return isLeapYear(year) ? 29 : 28;
+            case 4:
+            case 6:
+            case 9:
+            case 11:
+                return 30;
+            default:
+                return 31;
+        }
+    }
+
+    private AvroTypeException invalid(String type, char[] chars, int offset, int length) {
+        return error("Invalid " + type + ": " + new String(chars, offset, length));
+    }
+
+    private AvroTypeException error(String message) {
+        return (errorSignal != null) ? errorSignal.setMessage(message) : new AvroTypeException(message);
+    }
+}
@@ -0,0 +1,345 @@
+package io.avro.decoder;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.util.*;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+import org.apache.avro.AvroTypeException;
+import org.apache.avro.Schema;
+import org.apache.avro.Schema.Field;
+import org.apache.avro.generic.GenericData;
+import org.apache.avro.generic.GenericDatumReader;
+import org.apache.avro.generic.IndexedRecord;
+import org.apache.avro.io.DatumReader;
+
+/**
+ * Decodes single huge JSON record with giant array fields in parallel.
+ * <p>
+ * Document is indexed with {@link StructuralIndex}, elements of root record fields which are arrays
+ * of records with at least threshold elements are decoded on fork-join pool, each task decodes its
+ * range of elements with {@link JsonOptionalDecoder} taken from pool of idle decoders for element
+ * schema, compiled once per decoder. Rest of root record is decoded with such arrays left empty, then
+ * decoded elements are put into record in original order. Optional fields and defaults are treated
+ * same as by {@link JsonOptionalDecoder}.
+ * </p>
+ * Nullable (union) array fields and arrays of nested records are decoded sequentially.
+ *
+ * @author Anton Kurako (GoodforGod)
+ * @since 19.10.2026
+ */
+public class ParallelDocumentDecoder<T extends IndexedRecord> {
+
+    private static final byte[] EMPTY_ARRAY = "[]".getBytes(StandardCharsets.UTF_8);
+
+    private final Schema schema;
+    private final GenericData data;
+    private final int threshold;
+    private final ForkJoinPool pool;
+
+    private final CompiledSchema compiledSchema;
+    private final Map<String, ElementReader> parallelFields = new HashMap<>();
+
+    public ParallelDocumentDecoder(Schema schema, int threshold) {
+        this(schema, GenericData.get(), threshold, ForkJoinPool.commonPool());
+    }
+
+    /**
+     * @param schema    of root record
+     * @param data      model to create records with, {@link GenericData} or
+     *                  {@link org.apache.avro.specific.SpecificData}
+     * @param threshold minimal amount of array elements to decode array in parallel
+     * @param pool      to decode elements on
+     */
+    public ParallelDocumentDecoder(Schema schema, GenericData data, int threshold, ForkJoinPool pool) {
+        if (null == schema)
+            throw new NullPointerException("Schema cannot be null!");
+        if (null == data)
+            throw new NullPointerException("GenericData cannot be null!");
+        if (null == pool)
+            throw new NullPointerException("ForkJoinPool cannot be null!");
+        if (schema.getType() != Schema.Type.RECORD)
+            throw new IllegalArgumentException("Schema should be record, but was: " + schema.getType());
+        if (threshold < 1)
+            throw new IllegalArgumentException("Threshold should be positive, but was: " + threshold);
+
+        this.schema = schema;
+        this.data = data;
+        this.threshold = threshold;
+        this.pool = pool;
+        this.compiledSchema = CompiledSchema.compile(schema);
+
+        for (Field field : schema.getFields()) {
+            final Schema type = field.schema();
+            if (type.getType() == Schema.Type.ARRAY && type.getElementType().getType() == Schema.Type.RECORD)
+                parallelFields.put(field.name(), new ElementReader(field, data));
+        }
+    }
+
+    /**
+     * @param json document bytes in UTF-8
+     * @return decoded root record
+     * @throws IOException from decoder
+     */
+    public T decode(byte[] json) throws IOException {
+        return decode(json, 0, json.length);
+    }
+
+    /**
+     * @param json   document bytes in UTF-8
+     * @param offset of document in bytes
+     * @param length of document in bytes
+     * @return decoded root record
+     * @throws IOException from decoder
+     */
+    public T decode(byte[] json, int offset, int length) throws IOException {
+        if (parallelFields.isEmpty())
+            return read(json, offset, length);
+
+        final StructuralIndex index = StructuralIndex.build(json, offset, length);
+        if (index.size() == 0 || index.getCharacter(0) != '{')
+            throw new AvroTypeException("Expected record, but got: " + new String(json, offset, length, StandardCharsets.UTF_8));
+
+        final List<ArrayField> arrays = findArrays(index);
+        if (arrays.isEmpty())
+            return read(json, offset, length);
+
+        final List<Chunk> chunks = new ArrayList<>();
+        for (ArrayField array : arrays) {
+            final int size = array.elements.length / 2;
+            final int chunkSize = Math.max(threshold / 4, size / (pool.getParallelism() * 4) + 1);
+            for (int from = 0; from < size; from += chunkSize) {
+                chunks.add(new Chunk(array, json, from, Math.min(size, from + chunkSize)));
+            }
+        }
+
+        final RecursiveAction elementsTask = new RecursiveAction() {
+
+            @Override
+            protected void compute() {
+                invokeAll(chunks);
+            }
+        };
+
+        pool.execute(elementsTask);
+        try {
+            // rest of record is decoded meanwhile with parallel arrays replaced by empty ones
+            final ByteArrayOutputStream rest = new ByteArrayOutputStream(length);
+            int position = offset;
+            for (ArrayField array : arrays) {
+                rest.write(json, position, array.start - position);
+                rest.write(EMPTY_ARRAY, 0, EMPTY_ARRAY.length);
+                position = array.end;
+            }
+            rest.write(json, position, offset + length - position);
+
+            final byte[] restJson = rest.toByteArray();
+            final T record = read(restJson, 0, restJson.length);
+
+            try {
+                elementsTask.join();
+            } catch (UncheckedIOException e) {
+                // fork-join may rethrow copy of exception with original as cause
+                Throwable cause = e;
+                while (cause instanceof UncheckedIOException)
+                    cause = cause.getCause();
+                if (cause instanceof IOException)
+                    throw (IOException) cause;
+                throw e;
+            }
+
+            for (ArrayField array : arrays) {
+                final Schema arraySchema = array.field.schema();
+                @SuppressWarnings("unchecked")
+                final Collection<Object> values = (Collection<Object>) data.newArray(null, array.values.length, arraySchema);
+                Collections.addAll(values, array.values);
+                record.put(array.field.pos(), values);
+            }
+
+            return record;
+        } finally {
+            if (!elementsTask.isDone()) {
+                // rest of record failed, chunks which are not started are cancelled and running ones awaited
+                for (Chunk chunk : chunks)
+                    chunk.cancel(false);
+                elementsTask.quietlyJoin();
+            }
+        }
+    }
+
+    private T read(byte[] json, int offset, int length) throws IOException {
+        final DatumReader<T> reader = new GenericDatumReader<>(schema, schema, data);
+        return reader.read(null, new JsonOptionalDecoder(compiledSchema, json, offset, length));
+    }
+
+    /**
+     * Element schema compiled once with idle decoders reused by chunks, datum reader is kept with its
+     * decoder as reader caches are not thread-safe
+     */
+    private static final class ElementReader {
+
+        private final Field field;
+        private final GenericData data;
+        private final Schema elementSchema;
+        private final CompiledSchema compiledSchema;
+        private final Queue<ElementDecoder> idleDecoders = new ConcurrentLinkedQueue<>();
+
+        private ElementReader(Field field, GenericData data) {
+            this.field = field;
+            this.data = data;
+            this.elementSchema = field.schema().getElementType();
+            this.compiledSchema = CompiledSchema.compile(elementSchema);
+        }
+
+        private ElementDecoder take() throws IOException {
+            final ElementDecoder decoder = idleDecoders.poll();
+            return (decoder != null) ? decoder : new ElementDecoder(this);
+        }
+    }
+
+    private static final class ElementDecoder {
+
+        private final JsonOptionalDecoder decoder;
+        private final DatumReader<Object> reader;
+
+        private ElementDecoder(ElementReader elementReader) throws IOException {
+            this.decoder = new JsonOptionalDecoder(elementReader.compiledSchema, EMPTY_ARRAY, 0, 0);
+            this.reader = new GenericDatumReader<>(elementReader.elementSchema, elementReader.elementSchema, elementReader.data);
+        }
+    }
+
+    private static final class ArrayField {
+
+        private final ElementReader elementReader;
+        private final Field field;
+        private final int start;
+        private final int end;
+        private final int[] elements;
+        private final Object[] values;
+
+        private ArrayField(ElementReader elementReader, int start, int end, int[] elements) {
+            this.elementReader = elementReader;
+            this.field = elementReader.field;
+            this.start = start;
+            this.end = end;
+            this.elements = elements;
+            this.values = new Object[elements.length / 2];
+        }
+    }
+
+    private final class Chunk extends RecursiveAction {
+
+        private static final long serialVersionUID = 1L;
+
+        private final ArrayField array;
+        private final byte[] json;
+        private final int from;
+        private final int to;
+
+        private Chunk(ArrayField array, byte[] json, int from, int to) {
+            this.array = array;
+            this.json = json;
+            this.from = from;
+            this.to = to;
+        }
+
+        @Override
+        protected void compute() {
+            final ElementReader elementReader = array.elementReader;
+            try {
+                final ElementDecoder decoder = elementReader.take();
+                for (int i = from; i < to; i++) {
+                    final int start = array.elements[i * 2];
+                    decoder.decoder.configure(json, start, array.elements[i * 2 + 1] - start);
+                    array.values[i] = decoder.reader.read(null, decoder.decoder);
+                }
+                // decoder which failed is dropped as it may be left in any state
+                elementReader.idleDecoders.offer(decoder);
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        }
+    }
+
+    /**
+     * @return root record array fields with at least threshold record elements
+     */
+    private List<ArrayField> findArrays(StructuralIndex index) {
+        final List<ArrayField> arrays = new ArrayList<>();
+        final int rootEnd = index.getMatch(0);
+        int i = 1;
+        while (i < rootEnd && index.getCharacter(i) == '"') {
+            final int keyStart = index.getPosition(i);
+            final int keyEnd = index.skipValue(keyStart);
+            final int colon = i + 1;
+            if (colon >= rootEnd || index.getCharacter(colon) != ':')
+                throw new AvroTypeException("Expected ':' after field name at " + keyEnd);
+
+            // value is indexed only if it is string, object or array
+            final int valueStart = skipWhitespace(index.getJson(), index.getPosition(colon) + 1);
+            final int value = colon + 1;
+            final boolean indexed = index.getPosition(value) == valueStart;
+            final char c = index.getCharacter(value);
+
+            // escaped names are never parallel, no need to unescape them
+            final ElementReader field = parallelFields.get(new String(index.getJson(), keyStart + 1, keyEnd - keyStart - 2, StandardCharsets.UTF_8));
+            if (field != null && indexed && c == '[') {
+                final int[] elements = findElements(index, value);
+                if (elements != null && elements.length / 2 >= threshold)
+                    arrays.add(new ArrayField(field, valueStart, index.getPosition(index.getMatch(value)) + 1, elements));
+            }
+
+            final int next;
+            if (!indexed) {
+                next = value;
+            } else if (c == '{' || c == '[') {
+                next = index.getMatch(value) + 1;
+            } else {
+                next = value + 1;
+            }
+
+            i = (index.getCharacter(next) == ',') ? next + 1 : next;
+        }
+
+        return arrays;
+    }
+
+    /**
+     * @return start and end positions of array elements, or null if any element is not an object
+     */
+    private static int[] findElements(StructuralIndex index, int array) {
+        final int arrayEnd = index.getMatch(array);
+        int[] elements = new int[32];
+        int size = 0;
+        int i = array + 1;
+        while (i < arrayEnd) {
+            if (index.getCharacter(i) != '{')
+                return null;
+
+            if (size == elements.length)
+                elements = Arrays.copyOf(elements, size * 2);
+
+            final int end = index.getMatch(i);
+            elements[size++] = index.getPosition(i);
+            elements[size++] = index.getPosition(end) + 1;
+            i = end + 1;
+            if (index.getCharacter(i) == ',') {
+                // element after comma should be an object too
+                if (index.getPosition(i + 1) != skipWhitespace(index.getJson(), index.getPosition(i) + 1))
+                    return null;
+                i++;
+            }
+        }
+
+        return Arrays.copyOf(elements, size);
+    }
+
+    private static int skipWhitespace(byte[] json, int position) {
+        while (json[position] == ' ' || json[position] == '\n' || json[position] == '\r' || json[position] == '\t')
+            position++;
+        return position;
+    }
+}
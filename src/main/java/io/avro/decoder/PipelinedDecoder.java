@@ -0,0 +1,234 @@
+package io.avro.decoder;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InterruptedIOException;
+import java.util.Arrays;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import org.apache.avro.Schema;
+import org.apache.avro.generic.GenericDatumReader;
+import org.apache.avro.io.DatumReader;
+
+/**
+ * Decodes compressed newline delimited JSON records with decompression and decoding pipelined on
+ * separate threads.
+ * <p>
+ * Decompressor thread fills ring of reusable buffers with whole records (partial record at the end
+ * of buffer is carried to next one), while calling thread decodes filled buffers with
+ * {@link JsonOptionalDecoder} and returns them to ring. Decompressor blocks when all buffers are
+ * filled, so memory is bounded by buffer count, buffers grow only for records longer than buffer.
+ * </p>
+ * Compressed stream is closed when decoding ends, decoder is not thread-safe.
+ *
+ * @author Anton Kurako (GoodforGod)
+ * @since 19.10.2026
+ */
+public class PipelinedDecoder<D> {
+
+    private static final int DEFAULT_BUFFER_SIZE = 1024 * 1024;
+    private static final int DEFAULT_BUFFERS = 4;
+
+    private static final class Chunk {
+
+        private byte[] bytes;
+        private int length;
+
+        private Chunk(int size) {
+            this.bytes = new byte[size];
+        }
+    }
+
+    /**
+     * Marks end of decompressed stream
+     */
+    private static final Chunk END = new Chunk(0);
+
+    private final DatumReader<D> reader;
+    private final CompressionCodec codec;
+    private final JsonOptionalDecoder decoder;
+    private final int bufferSize;
+    private final int buffers;
+
+    public PipelinedDecoder(Schema schema, CompressionCodec codec) throws IOException {
+        this(schema, new GenericDatumReader<>(schema), codec, DEFAULT_BUFFER_SIZE, DEFAULT_BUFFERS);
+    }
+
+    /**
+     * @param schema     of records
+     * @param reader     to read records with
+     * @param codec      to decompress stream with
+     * @param bufferSize initial size of each buffer in bytes
+     * @param buffers    amount of buffers in ring, at least 2
+     * @throws IOException never, as decoder is created over empty input
+     */
+    public PipelinedDecoder(Schema schema, DatumReader<D> reader, CompressionCodec codec, int bufferSize, int buffers)
+            throws IOException {
+        if (null == schema)
+            throw new NullPointerException("Schema cannot be null!");
+        if (null == reader)
+            throw new NullPointerException("DatumReader cannot be null!");
+        if (null == codec)
+            throw new NullPointerException("CompressionCodec cannot be null!");
+        if (bufferSize < 1)
+            throw new IllegalArgumentException("Buffer size should be positive, but was: " + bufferSize);
+        if (buffers < 2)
+            throw new IllegalArgumentException("Buffers should be at least 2, but was: " + buffers);
+
+        this.reader = reader;
+        this.codec = codec;
+        this.bufferSize = bufferSize;
+        this.buffers = buffers;
+        this.decoder = new JsonOptionalDecoder(schema, new byte[0], 0, 0);
+    }
+
+    /**
+     * @return decoder used for records, to configure binary encoding, logical types and etc.
+     */
+    public JsonOptionalDecoder getDecoder() {
+        return decoder;
+    }
+
+    /**
+     * @param compressed NDJSON stream compressed with codec
+     * @param handler    of decoded records
+     * @return amount of decoded records
+     * @throws IOException from stream, codec, decoder or handler
+     */
+    public long decode(InputStream compressed, BulkDecoder.RecordHandler<D> handler) throws IOException {
+        if (null == compressed)
+            throw new NullPointerException("InputStream cannot be null!");
+        if (null == handler)
+            throw new NullPointerException("RecordHandler cannot be null!");
+
+        final BlockingQueue<Chunk> free = new ArrayBlockingQueue<>(buffers);
+        final BlockingQueue<Chunk> filled = new ArrayBlockingQueue<>(buffers + 1);
+        for (int i = 0; i < buffers; i++)
+            free.add(new Chunk(bufferSize));
+
+        final Decompressor decompressor = new Decompressor(compressed, free, filled);
+        final Thread thread = new Thread(decompressor, "avro-json-decompressor");
+        thread.setDaemon(true);
+        thread.start();
+
+        long decoded = 0;
+        try {
+            for (Chunk chunk = filled.take(); chunk != END; chunk = filled.take()) {
+                decoded += decodeChunk(chunk, handler);
+                free.put(chunk);
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new InterruptedIOException("Interrupted while waiting for decompressed buffer");
+        } finally {
+            // stops decompressor if decoding failed
+            thread.interrupt();
+        }
+
+        if (decompressor.error instanceof IOException)
+            throw (IOException) decompressor.error;
+        if (decompressor.error instanceof RuntimeException)
+            throw (RuntimeException) decompressor.error;
+        if (decompressor.error != null)
+            throw new IOException(decompressor.error);
+
+        return decoded;
+    }
+
+    private long decodeChunk(Chunk chunk, BulkDecoder.RecordHandler<D> handler) throws IOException {
+        final byte[] bytes = chunk.bytes;
+        long decoded = 0;
+        int start = 0;
+        while (start < chunk.length) {
+            int end = start;
+            while (end < chunk.length && bytes[end] != '\n')
+                end++;
+
+            if (!isBlank(bytes, start, end)) {
+                decoder.configure(bytes, start, end - start);
+                handler.onRecord(reader.read(null, decoder));
+                decoded++;
+            }
+
+            start = end + 1;
+        }
+
+        return decoded;
+    }
+
+    private static boolean isBlank(byte[] bytes, int start, int end) {
+        for (int i = start; i < end; i++) {
+            if (bytes[i] != ' ' && bytes[i] != '\t' && bytes[i] != '\r')
+                return false;
+        }
+        return true;
+    }
+
+    private final class Decompressor implements Runnable {
+
+        private final InputStream compressed;
+        private final BlockingQueue<Chunk> free;
+        private final BlockingQueue<Chunk> filled;
+
+        private volatile Throwable error;
+
+        private Decompressor(InputStream compressed, BlockingQueue<Chunk> free, BlockingQueue<Chunk> filled) {
+            this.compressed = compressed;
+            this.free = free;
+            this.filled = filled;
+        }
+
+        @Override
+        public void run() {
+            try (InputStream in = codec.decompress(compressed)) {
+                Chunk chunk = free.take();
+                int size = 0;
+                while (true) {
+                    if (size == chunk.bytes.length)
+                        chunk.bytes = Arrays.copyOf(chunk.bytes, chunk.bytes.length * 2);
+
+                    final int read = in.read(chunk.bytes, size, chunk.bytes.length - size);
+                    if (read < 0)
+                        break;
+
+                    final int lastNewLine = lastIndexOf(chunk.bytes, size, size + read);
+                    size += read;
+                    if (lastNewLine < 0)
+                        continue;
+
+                    // whole records are passed to decoder, partial record is carried to next buffer
+                    final Chunk next = free.take();
+                    final int tail = size - lastNewLine - 1;
+                    if (next.bytes.length < tail)
+                        next.bytes = new byte[Math.max(tail, bufferSize)];
+                    System.arraycopy(chunk.bytes, lastNewLine + 1, next.bytes, 0, tail);
+
+                    chunk.length = lastNewLine + 1;
+                    filled.put(chunk);
+                    chunk = next;
+                    size = tail;
+                }
+
+                if (size > 0) {
+                    chunk.length = size;
+                    filled.put(chunk);
+                }
+            } catch (InterruptedException e) {
+                // decoding failed and is already finished
+                return;
+            } catch (Throwable e) {
+                error = e;
+            }
+
+            filled.offer(END);
+        }
+    }
+
+    private static int lastIndexOf(byte[] bytes, int from, int to) {
+        for (int i = to - 1; i >= from; i--) {
+            if (bytes[i] == '\n')
+                return i;
+        }
+        return -1;
+    }
+}
@@ -0,0 +1,243 @@
+package io.avro.decoder;
+
+import java.io.*;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.Arrays;
+
+/**
+ * Sidecar index of byte offsets of every Nth top-level record of large JSON file, which allows to
+ * seek to record, resume decoding from checkpoint or split file into record ranges for parallel
+ * workers without decoding file from byte 0, see {@link ResumableDecoder}.
+ * <p>
+ * Records are top-level objects of file (NDJSON or concatenated objects). Index is built by fast
+ * {@link #scan(Path, int)} of file bytes (without tokenizing) or during decoding pass, and persisted
+ * next to file as {@code file.idx} in compact binary form.
+ * </p>
+ *
+ * @author Anton Kurako (GoodforGod)
+ * @since 19.10.2026
+ */
+public final class RecordOffsetIndex {
+
+    private static final int MAGIC = 0x414A4F49;
+    private static final int VERSION = 1;
+    private static final int BUFFER_SIZE = 64 * 1024;
+
+    private final int interval;
+    private final long fileLength;
+    private final long recordCount;
+    private final long[] offsets;
+
+    private RecordOffsetIndex(int interval, long fileLength, long recordCount, long[] offsets) {
+        this.interval = interval;
+        this.fileLength = fileLength;
+        this.recordCount = recordCount;
+        this.offsets = offsets;
+    }
+
+    /**
+     * Builder of index from record offsets in file order
+     */
+    static final class Builder {
+
+        private final int interval;
+        private long[] offsets = new long[64];
+        private long recordCount = 0;
+
+        Builder(int interval) {
+            if (interval < 1)
+                throw new IllegalArgumentException("Interval should be positive, but was: " + interval);
+            this.interval = interval;
+        }
+
+        void add(long offset) {
+            if (recordCount % interval == 0) {
+                final int index = (int) (recordCount / interval);
+                if (index == offsets.length)
+                    offsets = Arrays.copyOf(offsets, index * 2);
+                offsets[index] = offset;
+            }
+            recordCount++;
+        }
+
+        RecordOffsetIndex build(long fileLength) {
+            final int size = (int) ((recordCount + interval - 1) / interval);
+            return new RecordOffsetIndex(interval, fileLength, recordCount, Arrays.copyOf(offsets, size));
+        }
+    }
+
+    /**
+     * Scans file bytes for top-level records without tokenizing them
+     *
+     * @param file     JSON file in UTF-8
+     * @param interval index every Nth record
+     * @return index of file
+     * @throws IOException from file
+     */
+    public static RecordOffsetIndex scan(Path file, int interval) throws IOException {
+        final Builder builder = new Builder(interval);
+        final Scanner scanner = new Scanner(builder);
+        try (InputStream in = Files.newInputStream(file)) {
+            final byte[] buffer = new byte[BUFFER_SIZE];
+            for (int read = in.read(buffer); read >= 0; read = in.read(buffer))
+                scanner.scan(buffer, 0, read);
+
+            return builder.build(scanner.position);
+        }
+    }
+
+    /**
+     * Finds top-level records in consecutive chunks of file bytes, tracking only depth and string
+     * state, and adds their offsets to builder
+     */
+    static final class Scanner {
+
+        private final Builder builder;
+        private long position = 0;
+        private int depth = 0;
+        private boolean string = false;
+        private boolean escape = false;
+
+        Scanner(Builder builder) {
+            this.builder = builder;
+        }
+
+        void scan(byte[] buffer, int offset, int length) {
+            for (int i = offset; i < offset + length; i++) {
+                final byte b = buffer[i];
+                if (string) {
+                    if (escape) {
+                        escape = false;
+                    } else if (b == '\\') {
+                        escape = true;
+                    } else if (b == '"') {
+                        string = false;
+                    }
+                } else if (b == '"') {
+                    string = true;
+                } else if (b == '{' || b == '[') {
+                    if (depth == 0 && b == '{')
+                        builder.add(position + i - offset);
+                    depth++;
+                } else if (b == '}' || b == ']') {
+                    depth--;
+                }
+            }
+            position += length;
+        }
+    }
+
+    /**
+     * @param file JSON file
+     * @return path of sidecar index of file
+     */
+    public static Path getSidecar(Path file) {
+        return Paths.get(file.toString() + ".idx");
+    }
+
+    /**
+     * @param path to read index from
+     * @return index
+     * @throws IOException from file or if file is not valid index
+     */
+    public static RecordOffsetIndex read(Path path) throws IOException {
+        try (DataInputStream in = new DataInputStream(new BufferedInputStream(Files.newInputStream(path), BUFFER_SIZE))) {
+            if (in.readInt() != MAGIC)
+                throw new IOException("Not a record offset index: " + path);
+            final int version = in.readInt();
+            if (version != VERSION)
+                throw new IOException("Unsupported record offset index version: " + version);
+
+            final int interval = in.readInt();
+            final long fileLength = in.readLong();
+            final long recordCount = in.readLong();
+            final long[] offsets = new long[in.readInt()];
+            for (int i = 0; i < offsets.length; i++)
+                offsets[i] = in.readLong();
+
+            return new RecordOffsetIndex(interval, fileLength, recordCount, offsets);
+        }
+    }
+
+    /**
+     * @param path to write index to
+     * @throws IOException from file
+     */
+    public void write(Path path) throws IOException {
+        try (DataOutputStream out = new DataOutputStream(new BufferedOutputStream(Files.newOutputStream(path), BUFFER_SIZE))) {
+            out.writeInt(MAGIC);
+            out.writeInt(VERSION);
+            out.writeInt(interval);
+            out.writeLong(fileLength);
+            out.writeLong(recordCount);
+            out.writeInt(offsets.length);
+            for (long offset : offsets)
+                out.writeLong(offset);
+        }
+    }
+
+    public int getInterval() {
+        return interval;
+    }
+
+    /**
+     * @return length of indexed file in bytes
+     */
+    public long getFileLength() {
+        return fileLength;
+    }
+
+    public long getRecordCount() {
+        return recordCount;
+    }
+
+    /**
+     * @param record number of record
+     * @return number of nearest indexed record at or before given record
+     */
+    public long getCheckpoint(long record) {
+        if (record < 0 || record > recordCount)
+            throw new IndexOutOfBoundsException("Record " + record + " is out of bounds for " + recordCount + " records");
+        if (offsets.length == 0)
+            return 0;
+
+        return Math.min(record / interval, offsets.length - 1) * (long) interval;
+    }
+
+    /**
+     * @param checkpoint number of indexed record, see {@link #getCheckpoint(long)}
+     * @return byte offset of record in file
+     */
+    public long getOffset(long checkpoint) {
+        if (checkpoint % interval != 0)
+            throw new IllegalArgumentException("Record " + checkpoint + " is not indexed, use getCheckpoint()");
+        if (offsets.length == 0)
+            return 0;
+
+        return offsets[(int) (checkpoint / interval)];
+    }
+
+    /**
+     * Splits records into ranges with almost equal amount of records, range boundaries are aligned to
+     * indexed records so each worker seeks straight to its first record
+     *
+     * @param parts amount of ranges
+     * @return first record numbers of ranges followed by record count, so range i is [result[i],
+     *         result[i + 1])
+     */
+    public long[] split(int parts) {
+        if (parts < 1)
+            throw new IllegalArgumentException("Parts should be positive, but was: " + parts);
+
+        final long[] bounds = new long[parts + 1];
+        for (int i = 1; i < parts; i++) {
+            final long target = recordCount * i / parts;
+            bounds[i] = Math.max(bounds[i - 1], getCheckpoint(target));
+        }
+
+        bounds[parts] = recordCount;
+        return bounds;
+    }
+}
@@ -0,0 +1,201 @@
+package io.avro.decoder;
+
+import java.io.BufferedInputStream;
+import java.io.FilterInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import org.apache.avro.Schema;
+import org.apache.avro.generic.GenericDatumReader;
+import org.apache.avro.io.DatumReader;
+
+/**
+ * Decodes ranges of records of large JSON file, seeking to them via {@link RecordOffsetIndex}, so
+ * failed conversion is resumed from checkpoint and file is split between parallel workers.
+ * <p>
+ * Records are top-level objects of file (NDJSON or concatenated objects), numbered from 0. Index
+ * can be built with {@link RecordOffsetIndex#scan(Path, int)} or during full decoding pass with
+ * {@link #decode(Path, int, BulkDecoder.RecordHandler)}. When decoding pass fails, index of
+ * records seen so far is kept in {@link PartialIndexException}, so conversion is resumed from failed
+ * record without scanning file again. Decoder is not thread-safe, use decoder per worker.
+ * </p>
+ *
+ * @author Anton Kurako (GoodforGod)
+ * @since 19.10.2026
+ */
+public class ResumableDecoder<D> {
+
+    private static final int BUFFER_SIZE = 64 * 1024;
+
+    /**
+     * Failure of decoding pass, with index of records seen before failure and number of failed record
+     * to resume from via {@link #decode(Path, RecordOffsetIndex, long, long, BulkDecoder.RecordHandler)}
+     */
+    public static final class PartialIndexException extends IOException {
+
+        private static final long serialVersionUID = 1L;
+
+        private final transient RecordOffsetIndex index;
+        private final long record;
+
+        private PartialIndexException(RecordOffsetIndex index, long record, Throwable cause) {
+            super("Decoding failed at record " + record + ": " + cause.getMessage(), cause);
+            this.index = index;
+            this.record = record;
+        }
+
+        /**
+         * @return index of records seen before failure, it covers failed record but not whole file, so
+         *         it should not be used to split file
+         */
+        public RecordOffsetIndex getIndex() {
+            return index;
+        }
+
+        /**
+         * @return number of failed record, equal to amount of records passed to handler
+         */
+        public long getRecord() {
+            return record;
+        }
+    }
+
+    private final Schema schema;
+    private final DatumReader<D> reader;
+
+    public ResumableDecoder(Schema schema) {
+        this(schema, new GenericDatumReader<>(schema));
+    }
+
+    public ResumableDecoder(Schema schema, DatumReader<D> reader) {
+        if (null == schema)
+            throw new NullPointerException("Schema cannot be null!");
+        if (null == reader)
+            throw new NullPointerException("DatumReader cannot be null!");
+
+        this.schema = schema;
+        this.reader = reader;
+    }
+
+    /**
+     * Decodes whole file and builds its index meanwhile
+     *
+     * @param file     JSON file in UTF-8
+     * @param interval index every Nth record
+     * @param handler  of decoded records
+     * @return index of file
+     * @throws PartialIndexException when file, decoder or handler fails after file is opened
+     * @throws IOException           from file
+     */
+    public RecordOffsetIndex decode(Path file, int interval, BulkDecoder.RecordHandler<D> handler) throws IOException {
+        if (null == handler)
+            throw new NullPointerException("RecordHandler cannot be null!");
+
+        // offsets come from bytes read by parser, as parser token locations drift on stream input
+        final RecordOffsetIndex.Builder builder = new RecordOffsetIndex.Builder(interval);
+        final RecordOffsetIndex.Scanner scanner = new RecordOffsetIndex.Scanner(builder);
+        final long fileLength = Files.size(file);
+        long record = 0;
+        try (InputStream in = new ScanningInputStream(new BufferedInputStream(Files.newInputStream(file), BUFFER_SIZE), scanner)) {
+            final JsonOptionalDecoder decoder = new JsonOptionalDecoder(schema, in);
+            for (; decoder.hasNextRecord(); record++)
+                handler.onRecord(reader.read(null, decoder));
+        } catch (IOException | RuntimeException e) {
+            // scanner has seen start of failed record, so partial index resumes from it
+            throw new PartialIndexException(builder.build(fileLength), record, e);
+        }
+
+        return builder.build(fileLength);
+    }
+
+    /**
+     * Decodes range of records, seeking to nearest indexed record before range start
+     *
+     * @param file    JSON file in UTF-8
+     * @param index   of file
+     * @param from    number of first record to decode, such as checkpoint to resume from
+     * @param to      number of record to stop at (exclusive), {@link Long#MAX_VALUE} to decode till
+     *                file end
+     * @param handler of decoded records
+     * @return amount of decoded records
+     * @throws IOException from file, decoder or handler
+     */
+    public long decode(Path file, RecordOffsetIndex index, long from, long to, BulkDecoder.RecordHandler<D> handler)
+            throws IOException {
+        if (null == index)
+            throw new NullPointerException("RecordOffsetIndex cannot be null!");
+        if (null == handler)
+            throw new NullPointerException("RecordHandler cannot be null!");
+        if (from > to)
+            throw new IllegalArgumentException("From " + from + " should not be greater than to " + to);
+
+        final long checkpoint = index.getCheckpoint(from);
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            if (channel.size() != index.getFileLength())
+                throw new IllegalStateException("Index is stale, indexed file length " + index.getFileLength()
+                        + " but was: " + channel.size());
+
+            channel.position(index.getOffset(checkpoint));
+            final InputStream in = new BufferedInputStream(Channels.newInputStream(channel), BUFFER_SIZE);
+            final JsonOptionalDecoder decoder = new JsonOptionalDecoder(schema, in);
+
+            long record = checkpoint;
+            for (; record < from && decoder.hasNextRecord(); record++)
+                decoder.skipRecord();
+
+            long decoded = 0;
+            for (; record < to && decoder.hasNextRecord(); record++) {
+                handler.onRecord(reader.read(null, decoder));
+                decoded++;
+            }
+
+            return decoded;
+        }
+    }
+
+    /**
+     * Passes bytes read from file through index scanner
+     */
+    private static final class ScanningInputStream extends FilterInputStream {
+
+        private final RecordOffsetIndex.Scanner scanner;
+        private final byte[] single = new byte[1];
+
+        private ScanningInputStream(InputStream in, RecordOffsetIndex.Scanner scanner) {
+            super(in);
+            this.scanner = scanner;
+        }
+
+        @Override
+        public int read() throws IOException {
+            final int b = super.read();
+            if (b >= 0) {
+                single[0] = (byte) b;
+                scanner.scan(single, 0, 1);
+            }
+            return b;
+        }
+
+        @Override
+        public int read(byte[] b, int off, int len) throws IOException {
+            final int read = super.read(b, off, len);
+            if (read > 0)
+                scanner.scan(b, off, read);
+            return read;
+        }
+
+        @Override
+        public long skip(long n) throws IOException {
+            throw new IOException("Skip is not supported while scanning");
+        }
+
+        @Override
+        public boolean markSupported() {
+            return false;
+        }
+    }
+}
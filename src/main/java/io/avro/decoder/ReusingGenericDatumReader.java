@@ -0,0 +1,42 @@
+package io.avro.decoder;
+
+import java.io.IOException;
+import org.apache.avro.Schema;
+import org.apache.avro.generic.GenericData;
+import org.apache.avro.generic.GenericDatumReader;
+import org.apache.avro.io.ResolvingDecoder;
+
+/**
+ * {@link GenericDatumReader} for full object reuse decoding with {@link JsonOptionalDecoder}.
+ * <p>
+ * When reused datum is passed to {@link #read(Object, org.apache.avro.io.Decoder)}, records, Utf8
+ * strings, ByteBuffers, arrays and their elements are reused by decoder and map entries, keys and
+ * values are reused as long as map keys are not changed, including values injected from defaults
+ * and reordered fields, so steady state decoding allocates almost nothing per message.
+ * </p>
+ * Decoded datum is overwritten by next read, so it should not be retained between reads.
+ *
+ * @author Anton Kurako (GoodforGod)
+ * @since 19.10.2026
+ */
+public class ReusingGenericDatumReader<D> extends GenericDatumReader<D> {
+
+    private final ReusingMapReader mapReader = new ReusingMapReader(this::readMapKey, this::read);
+
+    public ReusingGenericDatumReader(Schema schema) {
+        super(schema);
+    }
+
+    public ReusingGenericDatumReader(Schema writer, Schema reader) {
+        super(writer, reader);
+    }
+
+    public ReusingGenericDatumReader(Schema writer, Schema reader, GenericData data) {
+        super(writer, reader, data);
+    }
+
+    @Override
+    protected Object readMap(Object old, Schema expected, ResolvingDecoder in) throws IOException {
+        return mapReader.read(old, expected, in);
+    }
+}
@@ -0,0 +1,89 @@
+package io.avro.decoder;
+
+import java.io.IOException;
+import java.util.*;
+import org.apache.avro.Schema;
+import org.apache.avro.io.Decoder;
+import org.apache.avro.io.ResolvingDecoder;
+
+/**
+ * Reads Avro map into previously decoded map, reusing its values and keys when map keys are not
+ * changed between messages, so map entries are not allocated in steady state.
+ *
+ * @author Anton Kurako (GoodforGod)
+ * @since 19.10.2026
+ */
+final class ReusingMapReader {
+
+    interface KeyReader {
+
+        Object read(Object old, Schema expected, Decoder in) throws IOException;
+    }
+
+    interface ValueReader {
+
+        Object read(Object old, Schema expected, ResolvingDecoder in) throws IOException;
+    }
+
+    private final KeyReader keyReader;
+    private final ValueReader valueReader;
+
+    private final List<Object> keys = new ArrayList<>();
+    private final List<Object> values = new ArrayList<>();
+    private final Map<Object, Boolean> previousValues = new IdentityHashMap<>();
+
+    ReusingMapReader(KeyReader keyReader, ValueReader valueReader) {
+        this.keyReader = keyReader;
+        this.valueReader = valueReader;
+    }
+
+    @SuppressWarnings("unchecked")
+    Object read(Object old, Schema expected, ResolvingDecoder in) throws IOException {
+        final Map<Object, Object> map = (old instanceof Map)
+                ? (Map<Object, Object>) old
+                : new HashMap<>();
+
+        final Schema valueSchema = expected.getValueType();
+        boolean sameKeys = true;
+        int count = 0;
+        previousValues.clear();
+        for (long l = in.readMapStart(); l > 0; l = in.mapNext()) {
+            for (long i = 0; i < l; i++, count++) {
+                final Object key = keyReader.read((count < keys.size()) ? keys.get(count) : null, expected, in);
+                final Object previous = map.get(key);
+                // same previous value instance means duplicate key, so some old entry may be stale
+                sameKeys &= previous != null && previousValues.put(previous, Boolean.TRUE) == null;
+
+                final Object value = valueReader.read(previous, valueSchema, in);
+                set(keys, count, key);
+                set(values, count, value);
+            }
+        }
+
+        if (sameKeys && count == map.size()) {
+            // map already contains equal keys, so only values are replaced
+            for (int i = 0; i < count; i++) {
+                map.put(keys.get(i), values.get(i));
+                values.set(i, null);
+            }
+        } else {
+            map.clear();
+            for (int i = 0; i < count; i++) {
+                map.put(keys.get(i), values.get(i));
+                keys.set(i, null);
+                values.set(i, null);
+            }
+        }
+
+        previousValues.clear();
+        return map;
+    }
+
+    private static void set(List<Object> list, int index, Object value) {
+        if (index < list.size()) {
+            list.set(index, value);
+        } else {
+            list.add(value);
+        }
+    }
+}
@@ -0,0 +1,39 @@
+package io.avro.decoder;
+
+import java.io.IOException;
+import org.apache.avro.Schema;
+import org.apache.avro.io.ResolvingDecoder;
+import org.apache.avro.specific.SpecificDatumReader;
+
+/**
+ * {@link SpecificDatumReader} for full object reuse decoding with {@link JsonOptionalDecoder}.
+ * <p>
+ * Reuses same as {@link ReusingGenericDatumReader}, strings are reused only for
+ * {@link CharSequence} fields, as {@link String} fields are immutable.
+ * </p>
+ * Decoded datum is overwritten by next read, so it should not be retained between reads.
+ *
+ * @author Anton Kurako (GoodforGod)
+ * @since 19.10.2026
+ */
+public class ReusingSpecificDatumReader<T> extends SpecificDatumReader<T> {
+
+    private final ReusingMapReader mapReader = new ReusingMapReader(this::readMapKey, this::read);
+
+    public ReusingSpecificDatumReader(Class<T> type) {
+        super(type);
+    }
+
+    public ReusingSpecificDatumReader(Schema schema) {
+        super(schema);
+    }
+
+    public ReusingSpecificDatumReader(Schema writer, Schema reader) {
+        super(writer, reader);
+    }
+
+    @Override
+    protected Object readMap(Object old, Schema expected, ResolvingDecoder in) throws IOException {
+        return mapReader.read(old, expected, in);
+    }
+}
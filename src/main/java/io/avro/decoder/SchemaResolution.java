@@ -0,0 +1,421 @@
+package io.avro.decoder;
+
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import org.apache.avro.Schema;
+import org.apache.avro.Schema.Field;
+import org.apache.avro.io.parsing.JsonGrammarGenerator;
+import org.apache.avro.io.parsing.Symbol;
+
+/**
+ * Resolution plan between writer and reader schemas used by {@link JsonOptionalDecoder} to decode
+ * JSON written with writer schema directly into reader schema.
+ * <p>
+ * JSON numbers and strings are not typed, so numeric promotions (int to long, float, double; long
+ * to float, double; float to double) and bytes to string are handled by grammar itself, plan covers
+ * renamed fields via reader aliases, writer fields removed from reader, promoted union branches,
+ * reader union branches of non-union writer values, strings read as UTF-8 bytes and enum defaults.
+ * Fields added to reader are injected from their defaults as usual.
+ * </p>
+ * Fields are resolved per reader record, so records sharing field names resolve independently.
+ * Plans are immutable and cached per schema pair.
+ *
+ * @author Anton Kurako (GoodforGod)
+ * @since 19.10.2026
+ */
+final class SchemaResolution {
+
+    /**
+     * Plans are cached until cache reaches its limit, after which plans for new pairs are built per
+     * decoder, so schemas generated at runtime do not grow cache without bound
+     */
+    private static final int MAX_CACHED = 256;
+    private static final Map<SchemaPair, SchemaResolution> CACHE = new ConcurrentHashMap<>();
+
+    private static final Map<String, List<String>> PROMOTIONS = new HashMap<>();
+
+    static {
+        PROMOTIONS.put("int", Arrays.asList("long", "float", "double"));
+        PROMOTIONS.put("long", Arrays.asList("float", "double"));
+        PROMOTIONS.put("float", Collections.singletonList("double"));
+        PROMOTIONS.put("string", Collections.singletonList("bytes"));
+        PROMOTIONS.put("bytes", Collections.singletonList("string"));
+    }
+
+    private static final class SchemaPair {
+
+        private final Schema writer;
+        private final Schema reader;
+
+        private SchemaPair(Schema writer, Schema reader) {
+            this.writer = writer;
+            this.reader = reader;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o)
+                return true;
+            if (o == null || getClass() != o.getClass())
+                return false;
+            SchemaPair that = (SchemaPair) o;
+            return writer.equals(that.writer) && reader.equals(that.reader);
+        }
+
+        @Override
+        public int hashCode() {
+            return 31 * writer.hashCode() + reader.hashCode();
+        }
+    }
+
+    /**
+     * Resolution plan of single reader record against writer record it was matched with
+     */
+    static final class RecordPlan {
+
+        private final Map<String, String> aliases = new HashMap<>();
+        private final Set<String> writerFields = new HashSet<>();
+        private final Set<String> removedFields = new HashSet<>();
+        private final Map<String, Map<List<String>, Integer>> unionBranches = new HashMap<>();
+        private final Set<String> stringBytesFields = new HashSet<>();
+
+        private RecordPlan(Schema writer, Schema reader) {
+            for (Field field : reader.getFields()) {
+                for (String alias : field.aliases()) {
+                    if (reader.getField(alias) == null)
+                        aliases.put(alias, field.name());
+                }
+            }
+
+            if (writer != null) {
+                for (Field field : writer.getFields()) {
+                    writerFields.add(field.name());
+                    if (reader.getField(field.name()) == null && !aliases.containsKey(field.name()))
+                        removedFields.add(field.name());
+                }
+
+                for (Field field : reader.getFields()) {
+                    final Field writerField = findWriterField(writer, field);
+                    if (writerField != null)
+                        resolveValue(field.name(), writerField.schema(), field.schema());
+                }
+            }
+        }
+
+        /**
+         * Walks writer and reader values of field down to nested records, which have plans of their own
+         */
+        private void resolveValue(String field, Schema writer, Schema reader) {
+            if (writer.getType() == Schema.Type.UNION && reader.getType() != Schema.Type.UNION) {
+                for (Schema writerType : writer.getTypes())
+                    resolveValue(field, writerType, reader);
+                return;
+            }
+
+            switch (reader.getType()) {
+                case ARRAY:
+                    if (writer.getType() == Schema.Type.ARRAY)
+                        resolveValue(field, writer.getElementType(), reader.getElementType());
+                    break;
+                case MAP:
+                    if (writer.getType() == Schema.Type.MAP)
+                        resolveValue(field, writer.getValueType(), reader.getValueType());
+                    break;
+                case UNION:
+                    if (writer.getType() != Schema.Type.UNION) {
+                        // non-union writer value is not wrapped with branch name in JSON
+                        final int branch = findBranch(reader, writer);
+                        if (branch >= 0) {
+                            unionBranches.computeIfAbsent(field, k -> new HashMap<>()).put(getLabels(reader), branch);
+                            resolveValue(field, writer, reader.getTypes().get(branch));
+                        }
+                        break;
+                    }
+
+                    for (Schema writerType : writer.getTypes()) {
+                        final int branch = findBranch(reader, writerType);
+                        if (branch >= 0)
+                            resolveValue(field, writerType, reader.getTypes().get(branch));
+                    }
+                    break;
+                case BYTES:
+                    if (writer.getType() == Schema.Type.STRING)
+                        stringBytesFields.add(field);
+                    break;
+                default:
+                    break;
+            }
+        }
+
+        /**
+         * @param name of field in JSON
+         * @return reader field name if JSON field is reader field alias, or same name otherwise
+         */
+        String getReaderName(String name) {
+            final String readerName = aliases.get(name);
+            return (readerName == null) ? name : readerName;
+        }
+
+        /**
+         * @param name of field in JSON
+         * @return true if field exists only in writer record and should be skipped
+         */
+        boolean isRemoved(String name) {
+            return removedFields.contains(name);
+        }
+
+        /**
+         * @param name of field in JSON
+         * @return true if field is declared in writer record
+         */
+        boolean isWriterField(String name) {
+            return writerFields.contains(name);
+        }
+
+        /**
+         * @param field       of reader record
+         * @param alternative of reader union in field value
+         * @return index of reader union branch value of non-union writer type is read as, or -1 if
+         *         writer value is union itself
+         */
+        int getUnionBranch(String field, Symbol.Alternative alternative) {
+            final Map<List<String>, Integer> branches = unionBranches.get(field);
+            if (branches == null)
+                return -1;
+
+            final Integer branch = branches.get(Arrays.asList(alternative.labels));
+            return (branch == null) ? -1 : branch;
+        }
+
+        /**
+         * @param field of reader record
+         * @return true if writer wrote string where reader reads bytes in field value, which are UTF-8
+         *         bytes of string as per Avro promotion
+         */
+        boolean isStringBytes(String field) {
+            return stringBytesFields.contains(field);
+        }
+    }
+
+    private final Schema reader;
+    private final Symbol root;
+
+    private final Map<String, RecordPlan> records = new HashMap<>();
+    private final Map<List<String>, Integer> enumDefaults = new HashMap<>();
+
+    private SchemaResolution(Schema writer, Schema reader) {
+        this.reader = reader;
+        this.root = new JsonGrammarGenerator().generate(reader);
+
+        resolve(writer, reader, Collections.newSetFromMap(new IdentityHashMap<>()));
+        collectReader(reader, Collections.newSetFromMap(new IdentityHashMap<>()));
+    }
+
+    /**
+     * @param writer schema JSON was written with
+     * @param reader schema JSON is decoded into
+     * @return resolution plan for schema pair, cached until cache is full
+     */
+    static SchemaResolution of(Schema writer, Schema reader) {
+        if (null == writer)
+            throw new NullPointerException("Writer schema cannot be null!");
+        if (null == reader)
+            throw new NullPointerException("Reader schema cannot be null!");
+
+        final SchemaPair pair = new SchemaPair(writer, reader);
+        final SchemaResolution cached = CACHE.get(pair);
+        if (cached != null)
+            return cached;
+        if (CACHE.size() >= MAX_CACHED)
+            return new SchemaResolution(writer, reader);
+
+        return CACHE.computeIfAbsent(pair, p -> new SchemaResolution(p.writer, p.reader));
+    }
+
+    Schema getReader() {
+        return reader;
+    }
+
+    Symbol getRoot() {
+        return root;
+    }
+
+    /**
+     * @param record of reader schema
+     * @return plan of reader record or null if record is null
+     */
+    RecordPlan getPlan(Schema record) {
+        return (record == null) ? null : records.get(record.getFullName());
+    }
+
+    /**
+     * @param symbols of reader enum
+     * @return index of reader enum default symbol or -1 if enum has no default
+     */
+    int getEnumDefault(List<String> symbols) {
+        final Integer index = enumDefaults.get(symbols);
+        return (index == null) ? -1 : index;
+    }
+
+    /**
+     * @param alternative of reader union
+     * @param label       of writer union branch
+     * @return index of reader union branch writer branch can be promoted to or -1 if there is none
+     */
+    static int findPromotedBranch(Symbol.Alternative alternative, String label) {
+        final List<String> promotions = PROMOTIONS.get(label);
+        if (promotions == null)
+            return -1;
+
+        for (String promotion : promotions) {
+            final int n = alternative.findLabel(promotion);
+            if (n >= 0)
+                return n;
+        }
+
+        return -1;
+    }
+
+    /**
+     * Matches writer and reader schemas the same way Avro does, records by position in schema tree
+     * and union branches by name, and builds plan for every matched reader record
+     */
+    private void resolve(Schema writer, Schema reader, Set<Schema> visited) {
+        if (writer.getType() == Schema.Type.UNION && reader.getType() != Schema.Type.UNION) {
+            for (Schema writerType : writer.getTypes()) {
+                if (isSameType(writerType, reader))
+                    resolve(writerType, reader, visited);
+            }
+            return;
+        }
+
+        switch (reader.getType()) {
+            case RECORD:
+                if (writer.getType() != Schema.Type.RECORD || !visited.add(reader))
+                    return;
+
+                records.putIfAbsent(reader.getFullName(), new RecordPlan(writer, reader));
+                for (Field field : reader.getFields()) {
+                    final Field writerField = findWriterField(writer, field);
+                    if (writerField != null)
+                        resolve(writerField.schema(), field.schema(), visited);
+                }
+                break;
+            case ARRAY:
+                if (writer.getType() == Schema.Type.ARRAY)
+                    resolve(writer.getElementType(), reader.getElementType(), visited);
+                break;
+            case MAP:
+                if (writer.getType() == Schema.Type.MAP)
+                    resolve(writer.getValueType(), reader.getValueType(), visited);
+                break;
+            case UNION:
+                for (Schema type : reader.getTypes()) {
+                    if (writer.getType() != Schema.Type.UNION) {
+                        if (isSameType(writer, type))
+                            resolve(writer, type, visited);
+                        continue;
+                    }
+
+                    for (Schema writerType : writer.getTypes()) {
+                        if (isSameType(writerType, type))
+                            resolve(writerType, type, visited);
+                    }
+                }
+                break;
+            default:
+                break;
+        }
+    }
+
+    /**
+     * Collects enum defaults and plans of reader records without writer record, which has no aliases
+     * to resolve and no writer fields to skip
+     */
+    private void collectReader(Schema schema, Set<Schema> visited) {
+        if (!visited.add(schema))
+            return;
+
+        switch (schema.getType()) {
+            case RECORD:
+                records.putIfAbsent(schema.getFullName(), new RecordPlan(null, schema));
+                for (Field field : schema.getFields())
+                    collectReader(field.schema(), visited);
+                break;
+            case ENUM:
+                if (schema.getEnumDefault() != null)
+                    enumDefaults.put(schema.getEnumSymbols(), schema.getEnumOrdinal(schema.getEnumDefault()));
+                break;
+            case ARRAY:
+                collectReader(schema.getElementType(), visited);
+                break;
+            case MAP:
+                collectReader(schema.getValueType(), visited);
+                break;
+            case UNION:
+                for (Schema type : schema.getTypes())
+                    collectReader(type, visited);
+                break;
+            default:
+                break;
+        }
+    }
+
+    /**
+     * @return index of reader union branch of same type as writer or writer can be promoted to, or -1
+     */
+    private static int findBranch(Schema union, Schema writer) {
+        final List<Schema> types = union.getTypes();
+        for (int i = 0; i < types.size(); i++) {
+            if (isSameType(writer, types.get(i)))
+                return i;
+        }
+
+        final List<String> promotions = PROMOTIONS.get(writer.getType().getName());
+        if (promotions != null) {
+            for (String promotion : promotions) {
+                for (int i = 0; i < types.size(); i++) {
+                    if (types.get(i).getType().getName().equals(promotion))
+                        return i;
+                }
+            }
+        }
+
+        return -1;
+    }
+
+    private static List<String> getLabels(Schema union) {
+        final List<String> labels = new ArrayList<>(union.getTypes().size());
+        for (Schema type : union.getTypes())
+            labels.add(type.getFullName());
+        return labels;
+    }
+
+    private static Field findWriterField(Schema writer, Field readerField) {
+        final Field field = writer.getField(readerField.name());
+        if (field != null)
+            return field;
+
+        for (String alias : readerField.aliases()) {
+            final Field aliased = writer.getField(alias);
+            if (aliased != null)
+                return aliased;
+        }
+
+        return null;
+    }
+
+    private static boolean isSameType(Schema writer, Schema reader) {
+        if (writer.getType() != reader.getType())
+            return false;
+
+        switch (reader.getType()) {
+            case RECORD:
+            case ENUM:
+            case FIXED:
+                return writer.getFullName().equals(reader.getFullName()) || reader.getAliases().contains(writer.getFullName());
+            default:
+                return true;
+        }
+    }
+}
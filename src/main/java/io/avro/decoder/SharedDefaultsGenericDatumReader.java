@@ -0,0 +1,218 @@
+package io.avro.decoder;
+
+import java.io.IOException;
+import java.util.*;
+import org.apache.avro.Schema;
+import org.apache.avro.Schema.Field;
+import org.apache.avro.generic.GenericData;
+import org.apache.avro.generic.GenericDatumReader;
+import org.apache.avro.io.Decoder;
+import org.apache.avro.io.ResolvingDecoder;
+
+/**
+ * {@link GenericDatumReader} that puts single shared immutable instance of field default into every
+ * record where field is missing in JSON, instead of building identical object graph per record.
+ * <p>
+ * Applies to fields with array, map and record defaults, read with {@link JsonOptionalDecoder}.
+ * Default is materialized once per field, its arrays, maps and records are immutable and throw
+ * {@link UnsupportedOperationException} on modification, so records should be treated as read-only.
+ * Shared instances are never reused as target by next read.
+ * </p>
+ * Immutable shared records are generic records, so with data model other than plain
+ * {@link GenericData} (such as {@link org.apache.avro.specific.SpecificData}) defaults containing
+ * records are materialized per record as usual, only arrays and maps of other types are shared.
+ *
+ * @author Anton Kurako (GoodforGod)
+ * @since 19.10.2026
+ */
+public class SharedDefaultsGenericDatumReader<D> extends GenericDatumReader<D> {
+
+    /**
+     * Marks field which default is not shared
+     */
+    private static final Object NOT_SHARED = new Object();
+
+    private final Map<Field, Object> sharedDefaults = new IdentityHashMap<>();
+
+    private final boolean genericData;
+
+    private JsonOptionalDecoder decoder;
+
+    public SharedDefaultsGenericDatumReader(Schema schema) {
+        this(schema, GenericData.get());
+    }
+
+    public SharedDefaultsGenericDatumReader(Schema schema, GenericData data) {
+        super(schema, schema, data);
+        this.genericData = data.getClass() == GenericData.class;
+    }
+
+    @Override
+    public D read(D reuse, Decoder in) throws IOException {
+        this.decoder = (in instanceof JsonOptionalDecoder) ? (JsonOptionalDecoder) in : null;
+        return super.read(reuse, in);
+    }
+
+    @Override
+    protected void readField(Object r, Field f, Object oldDatum, ResolvingDecoder in, Object state) throws IOException {
+        final Object shared = getSharedDefault(f);
+        if (shared == NOT_SHARED) {
+            super.readField(r, f, oldDatum, in, state);
+        } else if (decoder != null && decoder.isDefaultInjected(f.name())) {
+            // injected default tokens are skipped without building values
+            skip(f.schema(), in);
+            getData().setField(r, f.name(), f.pos(), shared);
+        } else {
+            super.readField(r, f, (oldDatum == shared) ? null : oldDatum, in, state);
+        }
+    }
+
+    private Object getSharedDefault(Field field) {
+        Object shared = sharedDefaults.get(field);
+        if (shared == null) {
+            shared = NOT_SHARED;
+            if (field.hasDefaultValue()) {
+                final Object value = getData().getDefaultValue(field);
+                if (value != null && isShared(field.schema(), value))
+                    shared = freeze(field.schema(), value);
+            }
+
+            sharedDefaults.put(field, shared);
+        }
+
+        return shared;
+    }
+
+    private boolean isShared(Schema schema, Object value) {
+        switch (schema.getType()) {
+            case ARRAY:
+            case MAP:
+            case RECORD:
+                return genericData || !hasRecord(schema);
+            case UNION:
+                return isShared(schema.getTypes().get(getData().resolveUnion(schema, value)), value);
+            default:
+                return false;
+        }
+    }
+
+    private static boolean hasRecord(Schema schema) {
+        switch (schema.getType()) {
+            case RECORD:
+                return true;
+            case ARRAY:
+                return hasRecord(schema.getElementType());
+            case MAP:
+                return hasRecord(schema.getValueType());
+            case UNION:
+                for (Schema type : schema.getTypes()) {
+                    if (hasRecord(type))
+                        return true;
+                }
+                return false;
+            default:
+                return false;
+        }
+    }
+
+    private Object freeze(Schema schema, Object value) {
+        if (value == null)
+            return null;
+
+        switch (schema.getType()) {
+            case ARRAY:
+                final Collection<?> elements = (Collection<?>) value;
+                final List<Object> frozenElements = new ArrayList<>(elements.size());
+                for (Object element : elements)
+                    frozenElements.add(freeze(schema.getElementType(), element));
+                return new ImmutableArray<>(schema, frozenElements);
+            case MAP:
+                final Map<?, ?> entries = (Map<?, ?>) value;
+                final Map<Object, Object> frozenEntries = new LinkedHashMap<>();
+                for (Map.Entry<?, ?> entry : entries.entrySet())
+                    frozenEntries.put(entry.getKey(), freeze(schema.getValueType(), entry.getValue()));
+                return Collections.unmodifiableMap(frozenEntries);
+            case RECORD:
+                final ImmutableRecord record = new ImmutableRecord(schema);
+                for (Field field : schema.getFields())
+                    record.set(field.pos(), freeze(field.schema(), getData().getField(value, field.name(), field.pos())));
+                record.frozen = true;
+                return record;
+            case UNION:
+                return freeze(schema.getTypes().get(getData().resolveUnion(schema, value)), value);
+            default:
+                return value;
+        }
+    }
+
+    private static final class ImmutableArray<T> extends GenericData.Array<T> {
+
+        private final boolean frozen;
+
+        private ImmutableArray(Schema schema, Collection<T> elements) {
+            super(schema, elements);
+            this.frozen = true;
+        }
+
+        @Override
+        public boolean add(T o) {
+            if (frozen)
+                throw new UnsupportedOperationException("Shared default array is immutable");
+            return super.add(o);
+        }
+
+        @Override
+        public void add(int location, T o) {
+            if (frozen)
+                throw new UnsupportedOperationException("Shared default array is immutable");
+            super.add(location, o);
+        }
+
+        @Override
+        public T set(int i, T o) {
+            throw new UnsupportedOperationException("Shared default array is immutable");
+        }
+
+        @Override
+        public T remove(int i) {
+            throw new UnsupportedOperationException("Shared default array is immutable");
+        }
+
+        @Override
+        public void clear() {
+            throw new UnsupportedOperationException("Shared default array is immutable");
+        }
+
+        @Override
+        public void reverse() {
+            throw new UnsupportedOperationException("Shared default array is immutable");
+        }
+    }
+
+    private static final class ImmutableRecord extends GenericData.Record {
+
+        private boolean frozen = false;
+
+        private ImmutableRecord(Schema schema) {
+            super(schema);
+        }
+
+        private void set(int i, Object value) {
+            super.put(i, value);
+        }
+
+        @Override
+        public void put(int i, Object v) {
+            if (frozen)
+                throw new UnsupportedOperationException("Shared default record is immutable");
+            super.put(i, v);
+        }
+
+        @Override
+        public void put(String key, Object value) {
+            if (frozen)
+                throw new UnsupportedOperationException("Shared default record is immutable");
+            super.put(key, value);
+        }
+    }
+}
@@ -0,0 +1,178 @@
+package io.avro.decoder;
+
+import java.io.IOException;
+import java.util.IdentityHashMap;
+import java.util.Map;
+import org.apache.avro.Schema;
+import org.apache.avro.Schema.Field;
+import org.apache.avro.generic.GenericData;
+import org.apache.avro.generic.GenericDatumReader;
+import org.apache.avro.io.ResolvingDecoder;
+
+/**
+ * {@link GenericDatumReader} that streams chosen array and map fields to handlers one element at a
+ * time, instead of building whole collection in memory, while rest of record is decoded as usual.
+ * <p>
+ * Fields are chosen by dot separated path of reader record fields (such as {@code order.items}),
+ * nullable record fields can be part of path, so field of nested record sharing name with chosen
+ * field is decoded as usual. Streamed fields are left as empty array or map in decoded record, null branches of nullable
+ * fields are decoded as usual. Elements are passed to handler in JSON order, so arrays with millions
+ * of elements are processed in constant memory as long as handler does not retain them.
+ * </p>
+ *
+ * @author Anton Kurako (GoodforGod)
+ * @since 19.10.2026
+ */
+public class StreamingGenericDatumReader<D> extends GenericDatumReader<D> {
+
+    /**
+     * Handler of streamed array elements
+     */
+    @FunctionalInterface
+    public interface ElementHandler {
+
+        void onElement(Object element) throws IOException;
+    }
+
+    /**
+     * Handler of streamed map entries
+     */
+    @FunctionalInterface
+    public interface EntryHandler {
+
+        void onEntry(Object key, Object value) throws IOException;
+    }
+
+    private final Schema schema;
+    private final Map<Field, ElementHandler> arrayHandlers = new IdentityHashMap<>();
+    private final Map<Field, EntryHandler> mapHandlers = new IdentityHashMap<>();
+
+    public StreamingGenericDatumReader(Schema schema) {
+        super(schema);
+        this.schema = schema;
+    }
+
+    public StreamingGenericDatumReader(Schema writer, Schema reader) {
+        super(writer, reader);
+        this.schema = reader;
+    }
+
+    public StreamingGenericDatumReader(Schema writer, Schema reader, GenericData data) {
+        super(writer, reader, data);
+        this.schema = reader;
+    }
+
+    /**
+     * @param path    of array field to stream
+     * @param handler of array elements
+     * @return this reader
+     */
+    public StreamingGenericDatumReader<D> streamArray(String path, ElementHandler handler) {
+        if (null == handler)
+            throw new NullPointerException("ElementHandler cannot be null!");
+
+        arrayHandlers.put(resolve(path, Schema.Type.ARRAY), handler);
+        return this;
+    }
+
+    /**
+     * @param path    of map field to stream
+     * @param handler of map entries
+     * @return this reader
+     */
+    public StreamingGenericDatumReader<D> streamMap(String path, EntryHandler handler) {
+        if (null == handler)
+            throw new NullPointerException("EntryHandler cannot be null!");
+
+        mapHandlers.put(resolve(path, Schema.Type.MAP), handler);
+        return this;
+    }
+
+    @Override
+    protected void readField(Object r, Field f, Object oldDatum, ResolvingDecoder in, Object state) throws IOException {
+        final ElementHandler elementHandler = arrayHandlers.get(f);
+        final EntryHandler entryHandler = mapHandlers.get(f);
+        if (elementHandler == null && entryHandler == null) {
+            super.readField(r, f, oldDatum, in, state);
+            return;
+        }
+
+        Schema schema = f.schema();
+        if (schema.getType() == Schema.Type.UNION)
+            schema = schema.getTypes().get(in.readIndex());
+
+        final Object value;
+        if (elementHandler != null && schema.getType() == Schema.Type.ARRAY) {
+            value = streamArray(oldDatum, schema, in, elementHandler);
+        } else if (entryHandler != null && schema.getType() == Schema.Type.MAP) {
+            value = streamMap(oldDatum, schema, in, entryHandler);
+        } else {
+            value = read(oldDatum, schema, in);
+        }
+
+        getData().setField(r, f.name(), f.pos(), value);
+    }
+
+    private Object streamArray(Object old, Schema expected, ResolvingDecoder in, ElementHandler handler) throws IOException {
+        final Schema elementType = expected.getElementType();
+        for (long l = in.readArrayStart(); l > 0; l = in.arrayNext()) {
+            for (long i = 0; i < l; i++) {
+                handler.onElement(read(null, elementType, in));
+            }
+        }
+
+        return newArray(old, 0, expected);
+    }
+
+    private Object streamMap(Object old, Schema expected, ResolvingDecoder in, EntryHandler handler) throws IOException {
+        final Schema valueType = expected.getValueType();
+        for (long l = in.readMapStart(); l > 0; l = in.mapNext()) {
+            for (long i = 0; i < l; i++) {
+                final Object key = readMapKey(null, expected, in);
+                handler.onEntry(key, read(null, valueType, in));
+            }
+        }
+
+        return newMap(old, 0);
+    }
+
+    /**
+     * @return reader field of path which is of expected type or its nullable union
+     */
+    private Field resolve(String path, Schema.Type expected) {
+        if (null == path)
+            throw new NullPointerException("Path cannot be null!");
+
+        final String[] names = path.split("\\.");
+        Field field = null;
+        Schema record = schema;
+        for (String name : names) {
+            record = getType(record, Schema.Type.RECORD);
+            field = (record == null) ? null : record.getField(name);
+            if (field == null)
+                throw new IllegalArgumentException("Field not found for path: " + path);
+
+            record = field.schema();
+        }
+
+        if (getType(field.schema(), expected) == null)
+            throw new IllegalArgumentException("Field for path " + path + " is not " + expected.getName() + ": " + field.schema());
+
+        return field;
+    }
+
+    /**
+     * @return schema of type or its branch of nullable union
+     */
+    private static Schema getType(Schema schema, Schema.Type type) {
+        if (schema.getType() == type)
+            return schema;
+        if (schema.getType() == Schema.Type.UNION) {
+            for (Schema branch : schema.getTypes()) {
+                if (branch.getType() == type)
+                    return branch;
+            }
+        }
+        return null;
+    }
+}
@@ -0,0 +1,444 @@
+package io.avro.decoder;
+
+import java.util.Arrays;
+import org.apache.avro.AvroTypeException;
+
+/**
+ * Structural index of JSON document, built in single pass over 64 byte blocks with 64-bit word
+ * bitmasks (stage 1 of simdjson) without tokenizing.
+ * <p>
+ * Index contains positions of structural characters ({@code { } [ ] : ,}) outside of strings and
+ * positions of string opening quotes, matching closing character for every object and array and
+ * boundaries of top-level records. Records are top-level objects (NDJSON or concatenated JSON) or
+ * objects of single top-level array.
+ * </p>
+ * Index allows to split input for parallel decoding via {@link JsonOptionalDecoder} over byte
+ * ranges and to skip subtrees without tokenizing them.
+ *
+ * @author Anton Kurako (GoodforGod)
+ * @since 19.10.2026
+ */
+public final class StructuralIndex {
+
+    private static final long ODD_BITS = 0xAAAAAAAAAAAAAAAAL;
+    private static final long LOW_7_BITS = 0x7F7F7F7F7F7F7F7FL;
+    private static final long ONES = 0x0101010101010101L;
+    private static final long PADDING = 0x2020202020202020L;
+
+    private static final long QUOTE = '"' * ONES;
+    private static final long BACKSLASH = '\\' * ONES;
+    private static final long OPEN_BRACE = '{' * ONES;
+    private static final long CLOSE_BRACE = '}' * ONES;
+    private static final long OPEN_BRACKET = '[' * ONES;
+    private static final long CLOSE_BRACKET = ']' * ONES;
+    private static final long COLON = ':' * ONES;
+    private static final long COMMA = ',' * ONES;
+
+    private final byte[] json;
+    private final int offset;
+    private final int length;
+
+    private final int[] positions;
+    private final int[] matches;
+    private final int size;
+
+    private final int[] recordStarts;
+    private final int[] recordEnds;
+    private final int records;
+
+    private StructuralIndex(byte[] json, int offset, int length, int[] positions, int size) {
+        this.json = json;
+        this.offset = offset;
+        this.length = length;
+        this.positions = positions;
+        this.size = size;
+        this.matches = new int[size];
+
+        int[] stack = new int[64];
+        int depth = 0;
+        int topLevelValues = 0;
+        boolean topLevelArray = false;
+
+        // top-level objects and objects of top-level arrays are both candidates for records
+        final Records objects = new Records();
+        final Records arrayObjects = new Records();
+        for (int i = 0; i < size; i++) {
+            matches[i] = -1;
+            final byte c = json[positions[i]];
+            if (c == '{' || c == '[') {
+                if (depth == stack.length)
+                    stack = Arrays.copyOf(stack, depth * 2);
+                if (depth == 0) {
+                    topLevelValues++;
+                    topLevelArray = c == '[';
+                }
+                stack[depth++] = i;
+            } else if (c == '}' || c == ']') {
+                if (depth == 0 || (json[positions[stack[depth - 1]]] == '{') != (c == '}'))
+                    throw new AvroTypeException("Unbalanced JSON, unexpected '" + (char) c + "' at " + positions[i]);
+
+                final int opener = stack[--depth];
+                matches[opener] = i;
+                matches[i] = opener;
+                if (c == '}' && depth == 0) {
+                    objects.add(positions[opener], positions[i] + 1);
+                } else if (c == '}' && depth == 1 && topLevelArray) {
+                    arrayObjects.add(positions[opener], positions[i] + 1);
+                }
+            } else if (depth == 0 && c == '"') {
+                topLevelValues++;
+            }
+        }
+
+        if (depth != 0)
+            throw new AvroTypeException("Unbalanced JSON, unclosed '" + (char) json[positions[stack[depth - 1]]]
+                    + "' at " + positions[stack[depth - 1]]);
+
+        final Records records = (topLevelValues == 1 && topLevelArray) ? arrayObjects : objects;
+        this.recordStarts = records.starts;
+        this.recordEnds = records.ends;
+        this.records = records.count;
+    }
+
+    private static final class Records {
+
+        private int[] starts = new int[16];
+        private int[] ends = new int[16];
+        private int count;
+
+        private void add(int start, int end) {
+            if (count == starts.length) {
+                starts = Arrays.copyOf(starts, count * 2);
+                ends = Arrays.copyOf(ends, count * 2);
+            }
+            starts[count] = start;
+            ends[count] = end;
+            count++;
+        }
+    }
+
+    /**
+     * @param json document bytes in UTF-8
+     * @return index of document
+     */
+    public static StructuralIndex build(byte[] json) {
+        return build(json, 0, json.length);
+    }
+
+    /**
+     * @param json   document bytes in UTF-8
+     * @param offset of document in bytes
+     * @param length of document in bytes
+     * @return index of document
+     */
+    public static StructuralIndex build(byte[] json, int offset, int length) {
+        if (null == json)
+            throw new NullPointerException("JSON cannot be null!");
+        if (offset < 0 || length < 0 || offset + length > json.length)
+            throw new IndexOutOfBoundsException("Offset " + offset + " and length " + length + " are out of bounds " + json.length);
+
+        final int end = offset + length;
+        int[] positions = new int[Math.max(16, length / 8)];
+        int size = 0;
+
+        long nextIsEscaped = 0;
+        long prevInString = 0;
+        for (int block = offset; block < end; block += 64) {
+            long quote = 0;
+            long backslash = 0;
+            long operators = 0;
+            for (int w = 0; w < 8; w++) {
+                final int shift = w * 8;
+                final long word = readWord(json, block + shift, end);
+                quote |= movemask(equal(word, QUOTE)) << shift;
+                backslash |= movemask(equal(word, BACKSLASH)) << shift;
+                operators |= movemask(equal(word, OPEN_BRACE)
+                        | equal(word, CLOSE_BRACE)
+                        | equal(word, OPEN_BRACKET)
+                        | equal(word, CLOSE_BRACKET)
+                        | equal(word, COLON)
+                        | equal(word, COMMA)) << shift;
+            }
+
+            // characters escaped by odd length backslash sequences
+            final long escaped;
+            if (backslash == 0) {
+                escaped = nextIsEscaped;
+                nextIsEscaped = 0;
+            } else {
+                final long potential = backslash & ~nextIsEscaped;
+                final long escapeAndTerminal = (((potential << 1) | ODD_BITS) - potential) ^ ODD_BITS;
+                escaped = escapeAndTerminal ^ (backslash | nextIsEscaped);
+                nextIsEscaped = (escapeAndTerminal & backslash) >>> 63;
+            }
+
+            quote &= ~escaped;
+            final long inString = prefixXor(quote) ^ prevInString;
+            prevInString = inString >> 63;
+
+            long structural = (operators & ~inString) | (quote & inString);
+            if (size + 64 > positions.length)
+                positions = Arrays.copyOf(positions, Math.max(positions.length * 2, size + 64));
+
+            while (structural != 0) {
+                positions[size++] = block + Long.numberOfTrailingZeros(structural);
+                structural &= structural - 1;
+            }
+        }
+
+        if (prevInString != 0)
+            throw new AvroTypeException("Unbalanced JSON, unclosed string");
+
+        return new StructuralIndex(json, offset, length, positions, size);
+    }
+
+    private static long readWord(byte[] json, int position, int end) {
+        if (position + 8 <= end) {
+            return (json[position] & 0xFFL)
+                    | (json[position + 1] & 0xFFL) << 8
+                    | (json[position + 2] & 0xFFL) << 16
+                    | (json[position + 3] & 0xFFL) << 24
+                    | (json[position + 4] & 0xFFL) << 32
+                    | (json[position + 5] & 0xFFL) << 40
+                    | (json[position + 6] & 0xFFL) << 48
+                    | (json[position + 7] & 0xFFL) << 56;
+        }
+
+        long word = PADDING;
+        for (int i = 0; i < 8 && position + i < end; i++) {
+            word &= ~(0xFFL << (i * 8));
+            word |= (json[position + i] & 0xFFL) << (i * 8);
+        }
+        return word;
+    }
+
+    /**
+     * @return word with high bit set in every byte equal to pattern byte
+     */
+    private static long equal(long word, long pattern) {
+        final long x = word ^ pattern;
+        return ~(((x & LOW_7_BITS) + LOW_7_BITS) | x | LOW_7_BITS);
+    }
+
+    /**
+     * @return 8-bit mask of byte high bits
+     */
+    private static long movemask(long highBits) {
+        return ((highBits >>> 7) * 0x0102040810204080L) >>> 56;
+    }
+
+    private static long prefixXor(long bits) {
+        bits ^= bits << 1;
+        bits ^= bits << 2;
+        bits ^= bits << 4;
+        bits ^= bits << 8;
+        bits ^= bits << 16;
+        bits ^= bits << 32;
+        return bits;
+    }
+
+    public byte[] getJson() {
+        return json;
+    }
+
+    public int getOffset() {
+        return offset;
+    }
+
+    public int getLength() {
+        return length;
+    }
+
+    /**
+     * @return amount of structural characters
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * @param index of structural character
+     * @return byte position of structural character
+     */
+    public int getPosition(int index) {
+        return positions[index];
+    }
+
+    /**
+     * @param index of structural character
+     * @return structural character, opening quote for strings
+     */
+    public char getCharacter(int index) {
+        return (char) json[positions[index]];
+    }
+
+    /**
+     * @param index of structural character
+     * @return index of matching closing or opening character for objects and arrays, -1 otherwise
+     */
+    public int getMatch(int index) {
+        return matches[index];
+    }
+
+    /**
+     * @param position in bytes
+     * @return index of structural character at position, -1 if there is none
+     */
+    public int indexOf(int position) {
+        final int index = Arrays.binarySearch(positions, 0, size, position);
+        return (index < 0) ? -1 : index;
+    }
+
+    /**
+     * @return amount of records
+     */
+    public int getRecordCount() {
+        return records;
+    }
+
+    /**
+     * @param record index
+     * @return byte position of record opening brace
+     */
+    public int getRecordStart(int record) {
+        return recordStarts[record];
+    }
+
+    /**
+     * @param record index
+     * @return byte position right after record closing brace
+     */
+    public int getRecordEnd(int record) {
+        return recordEnds[record];
+    }
+
+    /**
+     * Splits records into ranges with roughly equal amount of bytes for parallel decoding
+     *
+     * @param parts amount of ranges
+     * @return record boundaries, range N contains records from boundary N inclusive to boundary N + 1
+     *         exclusive
+     */
+    public int[] split(int parts) {
+        if (parts < 1)
+            throw new IllegalArgumentException("Parts should be positive, but was: " + parts);
+
+        final int[] boundaries = new int[parts + 1];
+        if (records == 0)
+            return boundaries;
+
+        final long first = recordStarts[0];
+        final long total = recordEnds[records - 1] - first;
+        int record = 0;
+        for (int part = 1; part < parts; part++) {
+            final long target = first + total * part / parts;
+            while (record < records && recordEnds[record] <= target)
+                record++;
+            boundaries[part] = record;
+        }
+
+        boundaries[parts] = records;
+        return boundaries;
+    }
+
+    /**
+     * Skips JSON value without tokenizing, objects and arrays are skipped via matching closing
+     * character
+     *
+     * @param position of value first byte
+     * @return byte position right after value
+     */
+    public int skipValue(int position) {
+        final int index = indexOf(position);
+        if (index >= 0) {
+            final byte c = json[position];
+            if (c == '{' || c == '[')
+                return positions[matches[index]] + 1;
+            if (c == '"')
+                return skipString(position);
+            throw new AvroTypeException("Expected value, but got '" + (char) c + "' at " + position);
+        }
+
+        // scalar ends right before next structural character
+        final int next = -Arrays.binarySearch(positions, 0, size, position) - 1;
+        int valueEnd = (next < size) ? positions[next] : offset + length;
+        while (valueEnd > position && isWhitespace(json[valueEnd - 1]))
+            valueEnd--;
+        return valueEnd;
+    }
+
+    /**
+     * Finds field value in object without tokenizing it, field names with escapes are not matched
+     *
+     * @param object index of object opening brace
+     * @param name   of field
+     * @return byte position of field value first byte, -1 if object has no such field
+     */
+    public int findValue(int object, String name) {
+        if (json[positions[object]] != '{')
+            throw new AvroTypeException("Expected object, but got '" + (char) json[positions[object]] + "' at " + positions[object]);
+
+        final int end = matches[object];
+        int i = object + 1;
+        while (i < end && json[positions[i]] == '"') {
+            final int nameStart = positions[i];
+            final int nameEnd = skipString(nameStart);
+            final int colon = i + 1;
+            if (colon >= end || json[positions[colon]] != ':')
+                throw new AvroTypeException("Expected ':' after field name at " + nameEnd);
+
+            final int valueStart = skipWhitespace(positions[colon] + 1);
+            if (isName(nameStart + 1, nameEnd - 1, name))
+                return valueStart;
+
+            // value is indexed only if it is string, object or array
+            final int value = colon + 1;
+            final int next;
+            if (positions[value] != valueStart) {
+                next = value;
+            } else if (json[valueStart] == '{' || json[valueStart] == '[') {
+                next = matches[value] + 1;
+            } else {
+                next = value + 1;
+            }
+
+            i = (json[positions[next]] == ',') ? next + 1 : next;
+        }
+
+        return -1;
+    }
+
+    private boolean isName(int start, int end, String name) {
+        if (end - start != name.length())
+            return false;
+
+        for (int i = 0; i < name.length(); i++) {
+            if (json[start + i] != name.charAt(i))
+                return false;
+        }
+        return true;
+    }
+
+    private int skipWhitespace(int position) {
+        final int end = offset + length;
+        while (position < end && isWhitespace(json[position]))
+            position++;
+        return position;
+    }
+
+    private int skipString(int position) {
+        final int end = offset + length;
+        for (int i = position + 1; i < end; i++) {
+            if (json[i] == '\\') {
+                i++;
+            } else if (json[i] == '"') {
+                return i + 1;
+            }
+        }
+        throw new AvroTypeException("Unbalanced JSON, unclosed string at " + position);
+    }
+
+    private static boolean isWhitespace(byte c) {
+        return c == ' ' || c == '\n' || c == '\r' || c == '\t';
+    }
+}
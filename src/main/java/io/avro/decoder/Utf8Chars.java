@@ -0,0 +1,77 @@
+package io.avro.decoder;
+
+/**
+ * UTF-8 encoding straight from parser char buffers, unpaired surrogates are replaced with '?' same
+ * as {@link String#getBytes(java.nio.charset.Charset)} does.
+ *
+ * @author Anton Kurako (GoodforGod)
+ * @since 19.10.2026
+ */
+final class Utf8Chars {
+
+    private Utf8Chars() {}
+
+    /**
+     * @param chars  to encode
+     * @param start  in chars
+     * @param length of chars to encode
+     * @return amount of bytes chars are encoded into
+     */
+    static int encodedLength(char[] chars, int start, int length) {
+        final int end = start + length;
+        int result = length;
+        for (int i = start; i < end; i++) {
+            final char c = chars[i];
+            if (c >= 0x80) {
+                if (c < 0x800) {
+                    result += 1;
+                } else if (Character.isSurrogate(c)) {
+                    if (Character.isHighSurrogate(c) && i + 1 < end && Character.isLowSurrogate(chars[i + 1])) {
+                        result += 2;
+                        i++;
+                    }
+                } else {
+                    result += 2;
+                }
+            }
+        }
+        return result;
+    }
+
+    /**
+     * @param chars  to encode
+     * @param start  in chars
+     * @param length of chars to encode
+     * @param bytes  to encode into, should have enough space
+     * @param offset in bytes to encode from
+     * @return offset in bytes after last encoded byte
+     */
+    static int encode(char[] chars, int start, int length, byte[] bytes, int offset) {
+        final int end = start + length;
+        int pos = offset;
+        for (int i = start; i < end; i++) {
+            final char c = chars[i];
+            if (c < 0x80) {
+                bytes[pos++] = (byte) c;
+            } else if (c < 0x800) {
+                bytes[pos++] = (byte) (0xC0 | (c >> 6));
+                bytes[pos++] = (byte) (0x80 | (c & 0x3F));
+            } else if (Character.isSurrogate(c)) {
+                if (Character.isHighSurrogate(c) && i + 1 < end && Character.isLowSurrogate(chars[i + 1])) {
+                    final int cp = Character.toCodePoint(c, chars[++i]);
+                    bytes[pos++] = (byte) (0xF0 | (cp >> 18));
+                    bytes[pos++] = (byte) (0x80 | ((cp >> 12) & 0x3F));
+                    bytes[pos++] = (byte) (0x80 | ((cp >> 6) & 0x3F));
+                    bytes[pos++] = (byte) (0x80 | (cp & 0x3F));
+                } else {
+                    bytes[pos++] = '?';
+                }
+            } else {
+                bytes[pos++] = (byte) (0xE0 | (c >> 12));
+                bytes[pos++] = (byte) (0x80 | ((c >> 6) & 0x3F));
+                bytes[pos++] = (byte) (0x80 | (c & 0x3F));
+            }
+        }
+        return pos;
+    }
+}
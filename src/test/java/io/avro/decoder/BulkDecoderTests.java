@@ -0,0 +1,154 @@
+package io.avro.decoder;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import org.apache.avro.AvroTypeException;
+import org.apache.avro.Schema;
+import org.apache.avro.generic.GenericDatumReader;
+import org.apache.avro.generic.GenericRecord;
+import org.junit.jupiter.api.Test;
+
+/**
+ * @author Anton Kurako (GoodforGod)
+ * @since 19.10.2026
+ */
+class BulkDecoderTests extends DecoderRunner {
+
+    private static final String INPUT = "{\"required\":\"a\"}\n"
+            + "{\"required\":\"b\",\"inner\":{\"req\":\"x\",\"code\":\"oops\"}}\n"
+            + "\n"
+            + "{\"required\":\"c\",\"inner\":{\"code\":5,\"req\":\"y\"}}\r\n"
+            + "{\"required\":\n"
+            + "{\"inner\":null}\n"
+            + "{\"required\":\"d\"}";
+
+    @Test
+    void testBadRecordsSentToDeadLetterSink() throws IOException {
+        Schema schema = parseSchema(getAvroSchema("avro/nullable_record_with_simple.avsc"));
+        List<GenericRecord> records = new ArrayList<>();
+        List<BulkDecoder.DeadLetter> deadLetters = new ArrayList<>();
+        BulkDecoder<GenericRecord> decoder = new BulkDecoder<>(schema, deadLetters::add);
+
+        long decoded = decoder.decode(INPUT.getBytes(StandardCharsets.UTF_8), records::add);
+        assertEquals(3, decoded);
+        assertEquals(3, records.size());
+        assertEquals("a", records.get(0).get("required").toString());
+        assertEquals("c", records.get(1).get("required").toString());
+        assertEquals(5L, ((GenericRecord) records.get(1).get("inner")).get("code"));
+        assertEquals("d", records.get(2).get("required").toString());
+        assertDeadLetters(deadLetters);
+    }
+
+    @Test
+    void testBadRecordsSentToDeadLetterSinkFromStream() throws IOException {
+        Schema schema = parseSchema(getAvroSchema("avro/nullable_record_with_simple.avsc"));
+        List<GenericRecord> records = new ArrayList<>();
+        List<BulkDecoder.DeadLetter> deadLetters = new ArrayList<>();
+        BulkDecoder<GenericRecord> decoder = new BulkDecoder<>(schema, new GenericDatumReader<>(schema), deadLetters::add);
+
+        long decoded = decoder.decode(new ByteArrayInputStream(INPUT.getBytes(StandardCharsets.UTF_8)), records::add);
+        assertEquals(3, decoded);
+        assertEquals("d", records.get(2).get("required").toString());
+        assertDeadLetters(deadLetters);
+    }
+
+    @Test
+    void testLinesLongerThanBufferDecodedFromStream() throws IOException {
+        Schema schema = parseSchema(getAvroSchema("avro/nullable_record_with_simple.avsc"));
+        StringBuilder value = new StringBuilder();
+        for (int i = 0; i < 100_000; i++)
+            value.append((char) ('a' + i % 26));
+
+        String input = "{\"required\":\"" + value + "\"}\n{\"required\":1}\n{\"required\":\"" + value + "\"}\n";
+        List<GenericRecord> records = new ArrayList<>();
+        List<BulkDecoder.DeadLetter> deadLetters = new ArrayList<>();
+        BulkDecoder<GenericRecord> decoder = new BulkDecoder<>(schema, deadLetters::add);
+
+        decoder.decode(new ByteArrayInputStream(input.getBytes(StandardCharsets.UTF_8)), records::add);
+        assertEquals(2, records.size());
+        assertEquals(value.toString(), records.get(1).get("required").toString());
+        assertEquals(1, deadLetters.size());
+        assertEquals(value.length() + 16, deadLetters.get(0).getOffset());
+        assertEquals("$.required", deadLetters.get(0).getPath());
+    }
+
+    @Test
+    void testErrorSignalIsStackless() throws IOException {
+        Schema schema = parseSchema(getAvroSchema("avro/nullable_record_with_simple.avsc"));
+        JsonOptionalDecoder decoder = new JsonOptionalDecoder(schema, "{\"required\":1}").withErrorSignal();
+        GenericDatumReader<GenericRecord> reader = new GenericDatumReader<>(schema);
+
+        AvroTypeException first = assertThrows(AvroTypeException.class, () -> reader.read(null, decoder));
+        assertEquals(0, first.getStackTrace().length);
+        assertEquals("Expected string. Got VALUE_NUMBER_INT", first.getMessage());
+
+        decoder.configure("{\"required\":true}");
+        AvroTypeException second = assertThrows(AvroTypeException.class, () -> reader.read(null, decoder));
+        assertSame(first, second);
+        assertEquals("Expected string. Got VALUE_TRUE", second.getMessage());
+    }
+
+    @Test
+    void testErrorSignalReportsInvalidValues() throws IOException {
+        Schema enumSchema = parseSchema(getAvroSchema("avro/required_enum.avsc"));
+        JsonOptionalDecoder enumDecoder = new JsonOptionalDecoder(enumSchema, "{\"e\":\"JOKER\"}").withErrorSignal();
+        AvroTypeException error = assertThrows(AvroTypeException.class,
+                () -> new GenericDatumReader<GenericRecord>(enumSchema).read(null, enumDecoder));
+        assertEquals(0, error.getStackTrace().length);
+        assertEquals("Unknown symbol in enum JOKER", error.getMessage());
+
+        Schema unionSchema = parseSchema("{\"type\":\"record\",\"name\":\"U\",\"fields\":"
+                + "[{\"name\":\"v\",\"type\":[\"null\",\"int\",\"string\"]}]}");
+        JsonOptionalDecoder unionDecoder = new JsonOptionalDecoder(unionSchema, "{\"v\":{\"long\":1}}").withErrorSignal();
+        error = assertThrows(AvroTypeException.class,
+                () -> new GenericDatumReader<GenericRecord>(unionSchema).read(null, unionDecoder));
+        assertEquals(0, error.getStackTrace().length);
+        assertEquals("Unknown union branch long", error.getMessage());
+
+        // logical type parser takes signal regardless of configuration order
+        Schema logicalSchema = parseSchema(getAvroSchema("avro/logical_types.avsc"));
+        GenericDatumReader<GenericRecord> logicalReader = new GenericDatumReader<>(logicalSchema);
+        JsonOptionalDecoder logicalDecoder = new JsonOptionalDecoder(logicalSchema, "{\"timestamp\":\"2020-13-01\"}")
+                .withLogicalTypes(true)
+                .withErrorSignal();
+        AvroTypeException invalidDate = assertThrows(AvroTypeException.class, () -> logicalReader.read(null, logicalDecoder));
+        assertEquals(0, invalidDate.getStackTrace().length);
+        assertEquals("Invalid date: 2020-13-01", invalidDate.getMessage());
+
+        logicalDecoder.configure("{\"timestamp\":1,\"timestampMicros\":2,\"day\":3,\"time\":4,"
+                + "\"id\":\"6a2f41a3-c54c-fce8-32d2-0324e1c32e22\",\"amount\":\"1.005\"}");
+        AvroTypeException invalidDecimal = assertThrows(AvroTypeException.class, () -> logicalReader.read(null, logicalDecoder));
+        assertSame(invalidDate, invalidDecimal);
+        assertEquals("Cannot decode decimal 1.005 with scale 2", invalidDecimal.getMessage());
+
+        JsonOptionalDecoder signalFirst = new JsonOptionalDecoder(logicalSchema, "{\"timestamp\":\"x\"}")
+                .withErrorSignal()
+                .withLogicalTypes(true);
+        error = assertThrows(AvroTypeException.class, () -> logicalReader.read(null, signalFirst));
+        assertEquals(0, error.getStackTrace().length);
+        assertEquals("Invalid date: x", error.getMessage());
+    }
+
+    private static void assertDeadLetters(List<BulkDecoder.DeadLetter> deadLetters) {
+        assertEquals(3, deadLetters.size());
+
+        BulkDecoder.DeadLetter mismatch = deadLetters.get(0);
+        assertEquals(17, mismatch.getOffset());
+        assertEquals(INPUT.indexOf("{\"required\":\"b\""), mismatch.getOffset());
+        assertEquals(INPUT.indexOf('\n', 17), mismatch.getEndOffset());
+        assertEquals("$.inner.code", mismatch.getPath());
+        assertTrue(new String(mismatch.getJson(), StandardCharsets.UTF_8).contains("oops"));
+
+        BulkDecoder.DeadLetter truncated = deadLetters.get(1);
+        assertEquals(INPUT.indexOf("{\"required\":\n"), truncated.getOffset());
+        assertEquals("{\"required\":", new String(truncated.getJson(), StandardCharsets.UTF_8));
+
+        BulkDecoder.DeadLetter missing = deadLetters.get(2);
+        assertEquals(INPUT.indexOf("{\"inner\":null}"), missing.getOffset());
+        assertEquals("$.required", missing.getPath());
+        assertNotNull(missing.getMessage());
+    }
+}
@@ -0,0 +1,47 @@
+package io.avro.decoder;
+
+import java.io.IOException;
+import org.apache.avro.Schema;
+import org.junit.jupiter.api.Test;
+
+/**
+ * @author Anton Kurako (GoodforGod)
+ * @since 19.10.2026
+ */
+class ColumnarBatchDecoderTests extends DecoderRunner {
+
+    private static final Schema SCHEMA = parseSchema(getAvroSchema("avro/columnar_flat.avsc"));
+
+    @Test
+    void testBatchesDecoded() throws IOException {
+        String data = "{\"id\":1,\"name\":\"bob\",\"score\":1.5,\"suit\":\"HEARTS\",\"inner\":{\"code\":7}}\n"
+                + "{\"suit\":\"CLUBS\",\"id\":2}\n"
+                + "{\"id\":3,\"name\":\"\u00e9\u20ac\",\"suit\":\"SPADES\"}";
+
+        JsonOptionalDecoder decoder = new JsonOptionalDecoder(SCHEMA, data);
+        ColumnarBatchDecoder batchDecoder = new ColumnarBatchDecoder(SCHEMA, 2);
+
+        ColumnarBatch batch = batchDecoder.decode(decoder);
+        assertEquals(2, batch.size());
+        assertEquals(1L, batch.getColumn("id").getLong(0));
+        assertEquals(2L, batch.getColumn("id").getLong(1));
+        assertEquals("bob", batch.getColumn("name").getString(0));
+        assertTrue(batch.getColumn("name").isNull(1));
+        assertEquals(1.5, batch.getColumn("score").getDouble(0));
+        assertEquals(0.5, batch.getColumn("score").getDouble(1));
+        assertEquals("HEARTS", batch.getColumn("suit").getDictionary().get(batch.getColumn("suit").getCode(0)));
+        assertEquals(3, batch.getColumn("suit").getCode(1));
+        assertFalse(batch.getColumn("inner.code").isNull(0));
+        assertEquals(7L, batch.getColumn("inner.code").getLong(0));
+        assertTrue(batch.getColumn("inner.code").isNull(1));
+
+        batch = batchDecoder.decode(decoder);
+        assertEquals(1, batch.size());
+        assertEquals(3L, batch.getColumn("id").getLong(0));
+        assertEquals("\u00e9\u20ac", batch.getColumn("name").getString(0));
+        assertEquals(0, batch.getColumn("suit").getCode(0));
+
+        batch = batchDecoder.decode(decoder);
+        assertEquals(0, batch.size());
+    }
+}
@@ -0,0 +1,70 @@
+package io.avro.decoder;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import org.apache.avro.Schema;
+import org.apache.avro.generic.GenericDatumReader;
+import org.apache.avro.generic.GenericRecord;
+import org.apache.avro.io.DatumReader;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Smoke test of schemas compiled from classpath resources, runs under native image with
+ * {@code ./gradlew nativeTest}, so resources are read as streams.
+ *
+ * @author Anton Kurako (GoodforGod)
+ * @since 19.10.2026
+ */
+class CompiledSchemasTests extends DecoderRunner {
+
+    private static final Map<String, String> SAMPLES = new LinkedHashMap<>();
+
+    static {
+        SAMPLES.put("avro/allocation_event.avsc", "{\"id\":\"e1\",\"count\":1,\"total\":2,\"score\":0.5,\"active\":true,"
+                + "\"source\":{\"port\":80,\"host\":\"h\"},\"code\":7}");
+        SAMPLES.put("avro/logical_types.avsc", "{\"timestamp\":1,\"timestampMicros\":2,\"day\":3,\"time\":4,"
+                + "\"id\":\"6a2f41a3-c54c-fce8-32d2-0324e1c32e22\",\"amount\":\"\\u0001\",\"price\":\"\\u0000\\u0000\\u0000\\u0000\\u0000\\u0000\\u0000\\u0001\"}");
+        SAMPLES.put("avro/nullable_string_default.avsc", "{\"username\":\"user1\"}");
+        SAMPLES.put("avro/parallel_document.avsc", "{\"items\":[{\"name\":\"a\"},{\"qty\":2,\"name\":\"b\"}],\"id\":\"d1\"}");
+        SAMPLES.put("avro/reuse_record.avsc", "{\"name\":\"n\",\"tags\":[\"t\"],\"attrs\":{\"k\":\"v\"},\"payload\":\"p\"}");
+    }
+
+    @Test
+    void testListedSchemasCompiled() {
+        assertEquals(SAMPLES.keySet(), CompiledSchemas.getAll().keySet());
+        assertEquals("Event", CompiledSchemas.get("avro/allocation_event.avsc").getSchema().getName());
+        assertNull(CompiledSchemas.get("avro/template.avsc"));
+    }
+
+    @Test
+    void testSampleSchemasDecoded() throws IOException {
+        for (Map.Entry<String, String> sample : SAMPLES.entrySet()) {
+            CompiledSchema compiled = CompiledSchemas.get(sample.getKey());
+            Schema schema = compiled.getSchema();
+            DatumReader<GenericRecord> reader = new GenericDatumReader<>(schema);
+
+            GenericRecord expected = reader.read(null, new JsonOptionalDecoder(schema, sample.getValue()));
+            GenericRecord actual = reader.read(null, new JsonOptionalDecoder(compiled, sample.getValue()));
+            assertEquals(expected, actual, sample.getKey());
+        }
+    }
+
+    @Test
+    void testCompiledSchemaDefaultsShared() throws IOException {
+        CompiledSchema compiled = CompiledSchema.compile(CompiledSchemas.get("avro/parallel_document.avsc").getSchema());
+        DatumReader<GenericRecord> reader = new GenericDatumReader<>(compiled.getSchema());
+        byte[] json = "{\"id\":\"d1\",\"items\":[{\"name\":\"a\"}]}".getBytes(StandardCharsets.UTF_8);
+
+        GenericRecord first = reader.read(null, new JsonOptionalDecoder(compiled, json, 0, json.length));
+        GenericRecord second = reader.read(null, new JsonOptionalDecoder(compiled, "{\"items\":[],\"id\":\"d2\"}"));
+        GenericRecord item = (GenericRecord) ((List<?>) first.get("items")).get(0);
+        assertEquals("pcs", item.get("unit").toString());
+        assertNull(item.get("qty"));
+        assertNull(first.get("note"));
+        assertEquals("d2", second.get("id").toString());
+        assertTrue(compiled.getDefaultTokens().containsKey(compiled.getSchema().getField("note")));
+    }
+}
@@ -0,0 +1,93 @@
+package io.avro.decoder;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import org.apache.avro.AvroTypeException;
+import org.apache.avro.Schema;
+import org.apache.avro.generic.GenericDatumReader;
+import org.apache.avro.generic.GenericFixed;
+import org.apache.avro.generic.GenericRecord;
+import org.apache.avro.io.DatumReader;
+import org.junit.jupiter.api.Test;
+
+/**
+ * @author Anton Kurako (GoodforGod)
+ * @since 19.10.2026
+ */
+class DecoderBinaryTests extends DecoderRunner {
+
+    private static final Schema SCHEMA = parseSchema(getAvroSchema("avro/required_binary.avsc"));
+
+    private static byte[] toArray(ByteBuffer buffer) {
+        final byte[] bytes = new byte[buffer.remaining()];
+        buffer.duplicate().get(bytes);
+        return bytes;
+    }
+
+    @Test
+    void testLatin1Binary() throws IOException {
+        GenericRecord record = readRecord(getAvroSchema("avro/required_binary.avsc"), "{\"b\":\"\\u00ff\\u0001ab\",\"f\":\"abcd\"}");
+
+        assertArrayEquals(new byte[] { (byte) 0xFF, 1, 'a', 'b' }, toArray((ByteBuffer) record.get("b")));
+        assertArrayEquals("abcd".getBytes(StandardCharsets.ISO_8859_1), ((GenericFixed) record.get("f")).bytes());
+    }
+
+    @Test
+    void testLatin1BinaryReplacesUnmappableChars() throws IOException {
+        String bytes = "\u0100a\uD83D\uDE00b\uD800\u00e9";
+        String fixed = "a\u20ACc\uD83D\uDE00";
+        String json = "{\"b\":\"" + bytes + "\",\"f\":\"" + fixed + "\"}";
+        GenericRecord record = readRecord(getAvroSchema("avro/required_binary.avsc"), json);
+
+        // same as Avro JsonDecoder, which takes String bytes
+        assertArrayEquals(bytes.getBytes(StandardCharsets.ISO_8859_1), toArray((ByteBuffer) record.get("b")));
+        assertArrayEquals(fixed.getBytes(StandardCharsets.ISO_8859_1), ((GenericFixed) record.get("f")).bytes());
+        assertArrayEquals(new byte[] { 'a', '?', 'c', '?' }, ((GenericFixed) record.get("f")).bytes());
+
+        JsonOptionalDecoder decoder = new JsonOptionalDecoder(SCHEMA, json);
+        BinarySink sink = new BinarySink().reset(null, 0, 0, true);
+        decoder.readBytesInto(sink);
+        assertArrayEquals(bytes.getBytes(StandardCharsets.ISO_8859_1), Arrays.copyOf(sink.array(), sink.size()));
+        decoder.skipFixed(4);
+    }
+
+    @Test
+    void testBase64Binary() throws IOException {
+        JsonOptionalDecoder decoder = new JsonOptionalDecoder(SCHEMA, "{\"f\":\"YWJjZA==\",\"b\":\"AQID\"}")
+                .withBinaryEncoding(BinaryEncoding.BASE64);
+        DatumReader<GenericRecord> datumReader = new GenericDatumReader<>(SCHEMA);
+        GenericRecord record = datumReader.read(null, decoder);
+
+        assertArrayEquals(new byte[] { 1, 2, 3 }, toArray((ByteBuffer) record.get("b")));
+        assertArrayEquals("abcd".getBytes(StandardCharsets.ISO_8859_1), ((GenericFixed) record.get("f")).bytes());
+    }
+
+    @Test
+    void testBytesBufferReused() throws IOException {
+        String data = "{\"b\":\"ab\",\"f\":\"abcd\"}{\"b\":\"xyz\",\"f\":\"wxyz\"}";
+        JsonOptionalDecoder decoder = new JsonOptionalDecoder(SCHEMA, data);
+        ByteBuffer old = ByteBuffer.allocate(8);
+        byte[] fixed = new byte[4];
+
+        ByteBuffer first = decoder.readBytes(old);
+        decoder.readFixed(fixed);
+        assertSame(old, first);
+        assertArrayEquals(new byte[] { 'a', 'b' }, toArray(first));
+        assertArrayEquals(new byte[] { 'a', 'b', 'c', 'd' }, fixed);
+
+        ByteBuffer second = decoder.readBytes(first);
+        decoder.readFixed(fixed);
+        assertSame(old, second);
+        assertArrayEquals(new byte[] { 'x', 'y', 'z' }, toArray(second));
+        assertArrayEquals(new byte[] { 'w', 'x', 'y', 'z' }, fixed);
+    }
+
+    @Test
+    void testFixedLengthMismatch() throws IOException {
+        JsonOptionalDecoder decoder = new JsonOptionalDecoder(SCHEMA, "{\"b\":\"ab\",\"f\":\"abc\"}");
+        decoder.readBytes(null);
+        assertThrows(AvroTypeException.class, () -> decoder.readFixed(new byte[4]));
+    }
+}
@@ -0,0 +1,57 @@
+package io.avro.decoder;
+
+import java.io.IOException;
+import java.util.Map;
+import org.apache.avro.Schema;
+import org.apache.avro.generic.GenericDatumReader;
+import org.apache.avro.generic.GenericRecord;
+import org.apache.avro.io.DatumReader;
+import org.apache.avro.util.Utf8;
+import org.junit.jupiter.api.Test;
+
+/**
+ * @author Anton Kurako (GoodforGod)
+ * @since 19.10.2026
+ */
+class DecoderKeyCacheTests extends DecoderRunner {
+
+    private static final Schema SCHEMA = parseSchema(getAvroSchema("avro/required_map.avsc"));
+
+    private static Map<?, ?> readMap(String json, KeyCache cache) throws IOException {
+        DatumReader<GenericRecord> reader = new GenericDatumReader<>(SCHEMA);
+        GenericRecord record = reader.read(null, new JsonOptionalDecoder(SCHEMA, json).withKeyCache(cache));
+        return (Map<?, ?>) record.get("map");
+    }
+
+    private static Object getKey(Map<?, ?> map, String key) {
+        return map.keySet().stream()
+                .filter(k -> k.toString().equals(key))
+                .findFirst()
+                .orElseThrow(IllegalStateException::new);
+    }
+
+    @Test
+    void testMapKeysShared() throws IOException {
+        KeyCache cache = new KeyCache();
+        Map<?, ?> first = readMap("{\"map\":{\"name\":\"bob\",\"city\":\"x\"}}", cache);
+        Map<?, ?> second = readMap("{\"map\":{\"city\":\"y\",\"name\":\"alice\"}}", cache);
+
+        assertEquals(2, cache.size());
+        assertSame(getKey(first, "name"), getKey(second, "name"));
+        assertSame(getKey(first, "city"), getKey(second, "city"));
+        assertEquals("alice", second.get(new Utf8("name")).toString());
+    }
+
+    @Test
+    void testCacheBounded() throws IOException {
+        KeyCache cache = new KeyCache(1, 4);
+        Map<?, ?> first = readMap("{\"map\":{\"long-key\":\"v\",\"a\":\"v\",\"b\":\"v\"}}", cache);
+        Map<?, ?> second = readMap("{\"map\":{\"long-key\":\"v\",\"a\":\"v\",\"b\":\"v\"}}", cache);
+
+        assertEquals(1, cache.size());
+        assertSame(getKey(first, "a"), getKey(second, "a"));
+        assertNotSame(getKey(first, "b"), getKey(second, "b"));
+        assertNotSame(getKey(first, "long-key"), getKey(second, "long-key"));
+        assertEquals(3, second.size());
+    }
+}
@@ -0,0 +1,107 @@
+package io.avro.decoder;
+
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.nio.ByteBuffer;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.List;
+import org.apache.avro.AvroTypeException;
+import org.apache.avro.Schema;
+import org.apache.avro.generic.GenericDatumReader;
+import org.apache.avro.generic.GenericFixed;
+import org.apache.avro.generic.GenericRecord;
+import org.apache.avro.io.DatumReader;
+import org.junit.jupiter.api.Test;
+
+/**
+ * @author Anton Kurako (GoodforGod)
+ * @since 19.10.2026
+ */
+class DecoderLogicalTypeTests extends DecoderRunner {
+
+    private static final Schema SCHEMA = parseSchema(getAvroSchema("avro/logical_types.avsc"));
+
+    private static GenericRecord read(String json) throws IOException {
+        DatumReader<GenericRecord> reader = new GenericDatumReader<>(SCHEMA);
+        return reader.read(null, new JsonOptionalDecoder(SCHEMA, json).withLogicalTypes(true));
+    }
+
+    @Test
+    void testLogicalTypesDecodedFromStrings() throws IOException {
+        String data = "{\"timestamp\":\"2020-10-22T10:15:30.123+03:00\","
+                + "\"timestampMicros\":\"2020-10-22T10:15:30.123456Z\","
+                + "\"day\":\"2020-02-29\","
+                + "\"time\":\"23:59:58.5\","
+                + "\"id\":\"0d1d0e40-6c2b-4b39-a1c2-7ad8a1b1f9f1\","
+                + "\"amount\":\"-12345678901234567890.5\","
+                + "\"price\":\"12.34\","
+                + "\"updated\":\"2020-10-22T10:15:30Z\","
+                + "\"days\":[\"1970-01-01\",\"1969-12-31\"]}";
+
+        GenericRecord record = read(data);
+        assertEquals(Instant.parse("2020-10-22T07:15:30.123Z").toEpochMilli(), record.get("timestamp"));
+        assertEquals(Instant.parse("2020-10-22T10:15:30Z").getEpochSecond() * 1_000_000 + 123456, record.get("timestampMicros"));
+        assertEquals((int) LocalDate.parse("2020-02-29").toEpochDay(), record.get("day"));
+        assertEquals(LocalTime.parse("23:59:58.5").toSecondOfDay() * 1000 + 500, record.get("time"));
+        assertEquals("0d1d0e40-6c2b-4b39-a1c2-7ad8a1b1f9f1", record.get("id").toString());
+
+        ByteBuffer amount = (ByteBuffer) record.get("amount");
+        byte[] amountBytes = new byte[amount.remaining()];
+        amount.get(amountBytes);
+        assertEquals(new BigDecimal("-12345678901234567890.50"), new BigDecimal(new BigInteger(amountBytes), 2));
+
+        byte[] price = ((GenericFixed) record.get("price")).bytes();
+        assertEquals(8, price.length);
+        assertEquals(new BigDecimal("12.340"), new BigDecimal(new BigInteger(price), 3));
+
+        assertEquals(Instant.parse("2020-10-22T10:15:30Z").toEpochMilli(), record.get("updated"));
+        assertEquals(0, ((List<?>) record.get("days")).get(0));
+        assertEquals(-1, ((List<?>) record.get("days")).get(1));
+    }
+
+    @Test
+    void testNumericLogicalTypesDecodedAsUsual() throws IOException {
+        String data = "{\"timestamp\":1000,\"timestampMicros\":2000,\"day\":3,\"time\":4,"
+                + "\"id\":\"id\",\"amount\":\"0\",\"price\":\"-1\"}";
+
+        GenericRecord record = read(data);
+        assertEquals(1000L, record.get("timestamp"));
+        assertEquals(3, record.get("day"));
+        assertEquals(-1000L, new BigInteger(((GenericFixed) record.get("price")).bytes()).longValue());
+        assertNull(record.get("updated"));
+        assertEquals(0, ((List<?>) record.get("days")).size());
+    }
+
+    @Test
+    void testLogicalTypesDisabledByDefault() {
+        String data = "{\"timestamp\":\"2020-10-22T10:15:30Z\"}";
+        DatumReader<GenericRecord> reader = new GenericDatumReader<>(SCHEMA);
+        assertThrows(AvroTypeException.class, () -> reader.read(null, new JsonOptionalDecoder(SCHEMA, data)));
+    }
+
+    @Test
+    void testInvalidLogicalStringFails() {
+        assertThrows(AvroTypeException.class, () -> read("{\"timestamp\":\"2020-13-22T10:15:30Z\"}"));
+        assertThrows(AvroTypeException.class, () -> read("{\"timestamp\":1,\"timestampMicros\":1,\"day\":1,\"time\":1,"
+                + "\"id\":\"id\",\"amount\":\"1.005\"}"));
+    }
+
+    @Test
+    void testNestedRecordsSharingFieldNameResolveOwnLogicalTypes() throws IOException {
+        Schema schema = parseSchema(getAvroSchema("avro/logical_types_nested.avsc"));
+        String data = "{\"created\":\"2020-01-01T00:00:00Z\",\"child\":{\"created\":\"2020-01-02\"}}";
+        DatumReader<GenericRecord> reader = new GenericDatumReader<>(schema);
+
+        GenericRecord record = reader.read(null, new JsonOptionalDecoder(schema, data).withLogicalTypes(true));
+        assertEquals(Instant.parse("2020-01-01T00:00:00Z").toEpochMilli(), record.get("created"));
+        assertEquals((int) LocalDate.parse("2020-01-02").toEpochDay(), ((GenericRecord) record.get("child")).get("created"));
+
+        CompiledSchema compiled = CompiledSchema.compile(schema);
+        GenericRecord compiledRecord = reader.read(null, new JsonOptionalDecoder(compiled, data).withLogicalTypes(true));
+        assertEquals(Instant.parse("2020-01-01T00:00:00Z").toEpochMilli(), compiledRecord.get("created"));
+        assertEquals((int) LocalDate.parse("2020-01-02").toEpochDay(), ((GenericRecord) compiledRecord.get("child")).get("created"));
+    }
+}
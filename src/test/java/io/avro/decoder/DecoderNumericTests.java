@@ -7,6 +7,7 @@
 import org.apache.avro.generic.GenericRecord;
 import org.apache.avro.io.DatumReader;
 import org.apache.avro.io.Decoder;
+import org.junit.jupiter.api.Test;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.Arguments;
 import org.junit.jupiter.params.provider.MethodSource;
@@ -39,4 +40,17 @@ public void testUnionWithDefault(String type, Object value) throws IOException {
             assertEquals(value, r.get("n"));
         }
     }
+
+    @Test
+    void testReorderedAndDefaultNumerics() throws IOException {
+        String w = getAvroSchema("avro/required_numeric_default.avsc");
+        GenericRecord record = readRecord(w, "{\"d\":2.5,\"f\":1.5,\"l\":9999999999,\"i\":7}");
+
+        assertEquals(7, record.get("i"));
+        assertEquals(9999999999L, record.get("l"));
+        assertEquals(1.5F, record.get("f"));
+        assertEquals(2.5, record.get("d"));
+        assertEquals(10000000000L, record.get("ld"));
+        assertEquals(0.25, record.get("dd"));
+    }
 }
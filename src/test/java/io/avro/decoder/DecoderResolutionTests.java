@@ -0,0 +1,151 @@
+package io.avro.decoder;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Map;
+import org.apache.avro.AvroTypeException;
+import org.apache.avro.Schema;
+import org.apache.avro.generic.GenericDatumReader;
+import org.apache.avro.generic.GenericRecord;
+import org.apache.avro.io.DatumReader;
+import org.apache.avro.io.Decoder;
+import org.apache.avro.util.Utf8;
+import org.junit.jupiter.api.Test;
+
+/**
+ * @author Anton Kurako (GoodforGod)
+ * @since 19.10.2026
+ */
+class DecoderResolutionTests extends DecoderRunner {
+
+    private static final Schema WRITER = parseSchema(getAvroSchema("avro/evolution_writer.avsc"));
+    private static final Schema READER = parseSchema(getAvroSchema("avro/evolution_reader.avsc"));
+
+    private GenericRecord readResolved(String jsonData) throws IOException {
+        Decoder decoder = new JsonOptionalDecoder(WRITER, READER, jsonData);
+        DatumReader<GenericRecord> datumReader = new GenericDatumReader<>(READER);
+        return datumReader.read(null, decoder);
+    }
+
+    @Test
+    void testWriterRecordResolved() throws IOException {
+        String data = "{\"id\":1,\"user\":\"bob\",\"legacy\":{\"code\":\"c\"},\"value\":{\"int\":5},\"kind\":\"UPDATED\"}";
+        GenericRecord record = readResolved(data);
+
+        assertEquals(1L, record.get("id"));
+        assertEquals("bob", record.get("username").toString());
+        assertEquals(5L, record.get("value"));
+        assertEquals("UPDATED", record.get("kind").toString());
+        assertEquals("none", record.get("source").toString());
+    }
+
+    @Test
+    void testWriterRecordAnyOrderResolved() throws IOException {
+        String data = "{\"kind\":\"CREATED\",\"legacy\":{\"code\":\"c\"},\"value\":null,\"user\":\"bob\",\"id\":2}";
+        GenericRecord record = readResolved(data);
+
+        assertEquals(2L, record.get("id"));
+        assertEquals("bob", record.get("username").toString());
+        assertNull(record.get("value"));
+        assertEquals("CREATED", record.get("kind").toString());
+    }
+
+    @Test
+    void testEnumDefaultResolved() throws IOException {
+        String data = "{\"id\":1,\"user\":\"bob\",\"legacy\":{\"code\":\"c\"},\"value\":{\"string\":\"v\"},\"kind\":\"DELETED\"}";
+        GenericRecord record = readResolved(data);
+
+        assertEquals("v", record.get("value").toString());
+        assertEquals("UNKNOWN", record.get("kind").toString());
+    }
+
+    @Test
+    void testReaderRecordStillDecoded() throws IOException {
+        String data = "{\"id\":3,\"username\":\"bob\",\"kind\":\"CREATED\",\"source\":\"api\"}";
+        GenericRecord record = readResolved(data);
+
+        assertEquals(3L, record.get("id"));
+        assertEquals("bob", record.get("username").toString());
+        assertEquals("api", record.get("source").toString());
+    }
+
+    @Test
+    void testNestedRecordsSharingFieldNamesResolvedIndependently() throws IOException {
+        Schema writer = parseSchema(getAvroSchema("avro/evolution_nested_writer.avsc"));
+        Schema reader = parseSchema(getAvroSchema("avro/evolution_nested_reader.avsc"));
+        String data = "{\"id\":1,\"title\":\"removed\",\"label\":\"order\",\"item\":{\"id\":\"removed\",\"title\":\"first\"},"
+                + "\"items\":[{\"title\":\"second\",\"id\":\"removed\"}]}";
+        GenericRecord record = new GenericDatumReader<GenericRecord>(reader).read(null, new JsonOptionalDecoder(writer, reader, data));
+
+        assertEquals(1L, record.get("id"));
+        assertEquals("order", record.get("label").toString());
+        assertEquals("first", ((GenericRecord) record.get("item")).get("label").toString());
+        assertEquals("second", ((GenericRecord) ((List<?>) record.get("items")).get(0)).get("label").toString());
+    }
+
+    @Test
+    void testWriterFieldOfOtherRecordRejected() {
+        Schema writer = parseSchema(getAvroSchema("avro/evolution_nested_writer.avsc"));
+        Schema reader = parseSchema(getAvroSchema("avro/evolution_nested_reader.avsc"));
+        String data = "{\"id\":1,\"title\":\"t\",\"label\":\"order\",\"item\":{\"items\":[],\"title\":\"first\"},\"items\":[]}";
+        DatumReader<GenericRecord> datumReader = new GenericDatumReader<>(reader);
+
+        AvroTypeException e = assertThrows(AvroTypeException.class,
+                () -> datumReader.read(null, new JsonOptionalDecoder(writer, reader, data)));
+        assertTrue(e.getMessage().contains("Unknown fields"), e.getMessage());
+    }
+
+    @Test
+    void testNestedRecordDefaultsTakenFromOwnRecord() throws IOException {
+        Schema writer = parseSchema(getAvroSchema("avro/evolution_defaults_writer.avsc"));
+        Schema reader = parseSchema(getAvroSchema("avro/evolution_defaults_reader.avsc"));
+        String data = "{\"id\":1,\"child\":{\"n\":\"x\"}}";
+        DatumReader<GenericRecord> datumReader = new GenericDatumReader<>(reader);
+
+        GenericRecord resolved = datumReader.read(null, new JsonOptionalDecoder(writer, reader, data));
+        assertEquals(1, resolved.get("version"));
+        assertEquals(2, ((GenericRecord) resolved.get("child")).get("version"));
+
+        GenericRecord plain = datumReader.read(null, new JsonOptionalDecoder(reader, data));
+        assertEquals(1, plain.get("version"));
+        assertEquals(2, ((GenericRecord) plain.get("child")).get("version"));
+    }
+
+    @Test
+    void testNonUnionWriterReadAsReaderUnion() throws IOException {
+        Schema writer = parseSchema(getAvroSchema("avro/evolution_promotion_writer.avsc"));
+        Schema reader = parseSchema(getAvroSchema("avro/evolution_promotion_reader.avsc"));
+        String data = "{\"v\":5,\"values\":[1,2],\"text\":\"t\",\"texts\":{},\"raw\":\"r\"}";
+        DatumReader<GenericRecord> datumReader = new GenericDatumReader<>(reader);
+
+        GenericRecord record = datumReader.read(null, new JsonOptionalDecoder(writer, reader, data));
+        assertEquals(5, record.get("v"));
+        List<?> values = (List<?>) record.get("values");
+        assertEquals(1L, values.get(0));
+        assertEquals(2L, values.get(1));
+    }
+
+    @Test
+    void testWriterStringReadAsUtf8Bytes() throws IOException {
+        Schema writer = parseSchema(getAvroSchema("avro/evolution_promotion_writer.avsc"));
+        Schema reader = parseSchema(getAvroSchema("avro/evolution_promotion_reader.avsc"));
+        String data = "{\"v\":5,\"values\":[],\"text\":\"\u00e9\u20ac\",\"texts\":{\"k\":\"\u20ac\",\"n\":null},"
+                + "\"raw\":\"\u00e9\"}";
+        DatumReader<GenericRecord> datumReader = new GenericDatumReader<>(reader);
+
+        GenericRecord record = datumReader.read(null, new JsonOptionalDecoder(writer, reader, data));
+        assertArrayEquals("\u00e9\u20ac".getBytes(StandardCharsets.UTF_8), toArray((ByteBuffer) record.get("text")));
+        Map<?, ?> texts = (Map<?, ?>) record.get("texts");
+        assertArrayEquals("\u20ac".getBytes(StandardCharsets.UTF_8), toArray((ByteBuffer) texts.get(new Utf8("k"))));
+        assertNull(texts.get(new Utf8("n")));
+        assertArrayEquals("\u00e9".getBytes(StandardCharsets.ISO_8859_1), toArray((ByteBuffer) record.get("raw")));
+    }
+
+    private static byte[] toArray(ByteBuffer buffer) {
+        byte[] bytes = new byte[buffer.remaining()];
+        buffer.duplicate().get(bytes);
+        return bytes;
+    }
+}
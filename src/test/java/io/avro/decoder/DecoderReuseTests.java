@@ -0,0 +1,92 @@
+package io.avro.decoder;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.util.List;
+import java.util.Map;
+import org.apache.avro.Schema;
+import org.apache.avro.generic.GenericRecord;
+import org.apache.avro.util.Utf8;
+import org.junit.jupiter.api.Test;
+
+/**
+ * @author Anton Kurako (GoodforGod)
+ * @since 19.10.2026
+ */
+class DecoderReuseTests extends DecoderRunner {
+
+    private static final Schema SCHEMA = ReuseRecord.getClassSchema();
+
+    private static final String FIRST = "{\"name\":\"bob\",\"tags\":[\"a\",\"b\"],\"attrs\":{\"k\":\"v\",\"q\":\"w\"},\"payload\":\"xy\",\"note\":\"n\"}";
+    private static final String SECOND = "{\"attrs\":{\"q\":\"w2\",\"k\":\"v2\"},\"payload\":\"zz\",\"tags\":[\"c\",\"d\"],\"name\":\"alice\"}";
+    private static final String THIRD = "{\"name\":\"eve\",\"tags\":[],\"attrs\":{\"z\":\"1\"},\"payload\":\"\",\"label\":\"own\"}";
+
+    @Test
+    void testGenericRecordReused() throws IOException {
+        ReusingGenericDatumReader<GenericRecord> reader = new ReusingGenericDatumReader<>(SCHEMA);
+        GenericRecord first = reader.read(null, new JsonOptionalDecoder(SCHEMA, FIRST));
+        Object name = first.get("name");
+        Object tags = first.get("tags");
+        Object attrs = first.get("attrs");
+        Object attrValue = ((Map<?, ?>) attrs).get(new Utf8("k"));
+        Object payload = first.get("payload");
+        Object label = first.get("label");
+
+        GenericRecord second = reader.read(first, new JsonOptionalDecoder(SCHEMA, SECOND));
+        assertSame(first, second);
+        assertSame(name, second.get("name"));
+        assertSame(tags, second.get("tags"));
+        assertSame(attrs, second.get("attrs"));
+        assertSame(attrValue, ((Map<?, ?>) second.get("attrs")).get(new Utf8("k")));
+        assertSame(payload, second.get("payload"));
+        assertSame(label, second.get("label"));
+
+        assertEquals("alice", second.get("name").toString());
+        assertEquals("[c, d]", second.get("tags").toString());
+        assertEquals("v2", ((Map<?, ?>) second.get("attrs")).get(new Utf8("k")).toString());
+        assertEquals("w2", ((Map<?, ?>) second.get("attrs")).get(new Utf8("q")).toString());
+        assertEquals(ByteBuffer.wrap(new byte[] { 'z', 'z' }), second.get("payload"));
+        assertNull(second.get("note"));
+        assertEquals("def", second.get("label").toString());
+    }
+
+    @Test
+    void testGenericRecordMapKeysChanged() throws IOException {
+        ReusingGenericDatumReader<GenericRecord> reader = new ReusingGenericDatumReader<>(SCHEMA);
+        GenericRecord first = reader.read(null, new JsonOptionalDecoder(SCHEMA, FIRST));
+        GenericRecord third = reader.read(first, new JsonOptionalDecoder(SCHEMA, THIRD));
+
+        Map<?, ?> attrs = (Map<?, ?>) third.get("attrs");
+        assertEquals(1, attrs.size());
+        assertEquals("1", attrs.get(new Utf8("z")).toString());
+        assertEquals(0, ((List<?>) third.get("tags")).size());
+        assertEquals(0, ((ByteBuffer) third.get("payload")).remaining());
+        assertEquals("own", third.get("label").toString());
+    }
+
+    @Test
+    void testSpecificRecordReused() throws IOException {
+        ReusingSpecificDatumReader<ReuseRecord> reader = new ReusingSpecificDatumReader<>(ReuseRecord.class);
+        ReuseRecord first = reader.read(null, new JsonOptionalDecoder(SCHEMA, FIRST));
+        CharSequence name = first.name;
+        List<CharSequence> tags = first.tags;
+        Map<CharSequence, CharSequence> attrs = first.attrs;
+        CharSequence attrValue = attrs.get(new Utf8("k"));
+        ByteBuffer payload = first.payload;
+        CharSequence label = first.label;
+
+        ReuseRecord second = reader.read(first, new JsonOptionalDecoder(SCHEMA, SECOND));
+        assertSame(first, second);
+        assertSame(name, second.name);
+        assertSame(tags, second.tags);
+        assertSame(attrs, second.attrs);
+        assertSame(attrValue, second.attrs.get(new Utf8("k")));
+        assertSame(payload, second.payload);
+        assertSame(label, second.label);
+
+        assertEquals("alice", second.name.toString());
+        assertEquals("v2", second.attrs.get(new Utf8("k")).toString());
+        assertNull(second.note);
+        assertEquals("def", second.label.toString());
+    }
+}
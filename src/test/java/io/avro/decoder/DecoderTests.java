@@ -1,8 +1,14 @@
 package io.avro.decoder;
 
 import java.io.IOException;
+import java.util.List;
+import java.util.Map;
+import org.apache.avro.AvroTypeException;
 import org.apache.avro.Schema;
+import org.apache.avro.generic.GenericDatumReader;
 import org.apache.avro.generic.GenericRecord;
+import org.apache.avro.io.DatumReader;
+import org.apache.avro.util.Utf8;
 import org.junit.jupiter.api.Test;
 
 class DecoderTests extends DecoderRunner {
@@ -64,6 +70,17 @@ void testDefaultValuesAreInferred() throws IOException {
         assertEquals(7L, record.get("a"));
     }
 
+    @Test
+    void testRecordAndMapDefaultValuesAreInferred() throws IOException {
+        String w = getAvroSchema("avro/shared_defaults.avsc");
+        GenericRecord record = readRecord(w, "{\"id\":\"1\"}");
+
+        assertEquals(1L, ((Map<?, ?>) record.get("attrs")).get(new Utf8("k")));
+        GenericRecord address = (GenericRecord) record.get("address");
+        assertEquals("none", address.get("city").toString());
+        assertEquals(1, ((List<?>) address.get("lines")).size());
+    }
+
     @Test
     void testNestedNullsAreInferred() throws IOException {
         String w = getAvroSchema("avro/nullable_nested_inferred.avsc");
@@ -215,4 +232,50 @@ void testComplex() throws IOException {
         GenericRecord record = readRecord(w, data);
         assertNull(record.get("S"));
     }
+
+    @Test
+    void testDeeplyNestedReorderedRecords() throws IOException {
+        final int depth = 12;
+        StringBuilder schema = new StringBuilder();
+        StringBuilder data = new StringBuilder();
+        for (int i = 0; i < depth; i++) {
+            schema.append("{\"type\":\"record\",\"name\":\"R").append(i).append("\",\"fields\":[")
+                    .append("{\"name\":\"v").append(i).append("\",\"type\":\"int\"},")
+                    .append("{\"name\":\"o").append(i).append("\",\"type\":[\"null\",\"string\"],\"default\":null}");
+            data.append("{");
+            if (i < depth - 1) {
+                schema.append(",{\"name\":\"r").append(i).append("\",\"type\":");
+                data.append("\"r").append(i).append("\":");
+            }
+        }
+        for (int i = depth - 1; i >= 0; i--) {
+            if (i < depth - 1) {
+                schema.append("}");
+                data.append(",");
+            }
+            schema.append("]}");
+            data.append("\"v").append(i).append("\":").append(i).append("}");
+        }
+
+        GenericRecord record = readRecord(schema.toString(), data.toString());
+        for (int i = 0; i < depth; i++) {
+            assertEquals(i, record.get("v" + i));
+            assertNull(record.get("o" + i));
+            if (i < depth - 1)
+                record = (GenericRecord) record.get("r" + i);
+        }
+    }
+
+    @Test
+    void testDecoderReconfiguredAfterFailure() throws IOException {
+        String w = getAvroSchema("avro/required_array.avsc");
+        Schema ws = parseSchema(w);
+        JsonOptionalDecoder in = new JsonOptionalDecoder(ws, "{\"a\":[1,\"2\"],\"l\":100}");
+        DatumReader<GenericRecord> reader = new GenericDatumReader<>(ws);
+        assertThrows(AvroTypeException.class, () -> reader.read(null, in));
+
+        GenericRecord record = reader.read(null, in.configure("{\"a\":[3],\"l\":200}"));
+        assertEquals(200L, record.get("l"));
+        assertEquals(1, ((List<?>) record.get("a")).size());
+    }
 }
@@ -0,0 +1,76 @@
+package io.avro.decoder;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.HashMap;
+import java.util.Map;
+import org.apache.avro.AvroTypeException;
+import org.apache.avro.Schema;
+import org.apache.avro.generic.GenericRecord;
+import org.junit.jupiter.api.Test;
+
+/**
+ * @author Anton Kurako (GoodforGod)
+ * @since 19.10.2026
+ */
+class DiscriminatorDecoderTests extends DecoderRunner {
+
+    private static final Schema CLICK = parseSchema(getAvroSchema("avro/dispatch_click.avsc"));
+    private static final Schema ORDER = parseSchema(getAvroSchema("avro/dispatch_order.avsc"));
+
+    private static DiscriminatorDecoder<GenericRecord> newDecoder() {
+        Map<String, Schema> schemas = new HashMap<>();
+        schemas.put("click", CLICK);
+        schemas.put("order", ORDER);
+        return new DiscriminatorDecoder<>("type", schemas);
+    }
+
+    private static byte[] bytes(String json) {
+        return json.getBytes(StandardCharsets.UTF_8);
+    }
+
+    @Test
+    void testRecordsDispatchedBySchema() throws IOException {
+        DiscriminatorDecoder<GenericRecord> decoder = newDecoder();
+
+        GenericRecord click = decoder.decode(bytes("{\"type\":\"click\",\"url\":\"/a\"}"));
+        assertEquals(CLICK, click.getSchema());
+        assertEquals("/a", click.get("url").toString());
+        assertNull(click.get("referrer"));
+
+        GenericRecord order = decoder.decode(bytes("{\"amount\":10,\"type\":\"order\"}"));
+        assertEquals(ORDER, order.getSchema());
+        assertEquals(10L, order.get("amount"));
+        assertEquals("EUR", order.get("currency").toString());
+
+        GenericRecord next = decoder.decode(bytes("{\"url\":\"/b\",\"referrer\":\"/a\",\"type\":\"click\"}"));
+        assertEquals("/b", next.get("url").toString());
+        assertEquals("/a", next.get("referrer").toString());
+    }
+
+    @Test
+    void testNestedAndQuotedDiscriminatorIgnored() throws IOException {
+        Map<String, Schema> schemas = new HashMap<>();
+        schemas.put("order", ORDER);
+        DiscriminatorDecoder<GenericRecord> decoder = new DiscriminatorDecoder<>("type", schemas);
+
+        String nested = "{\"meta\":{\"type\":\"click\"},\"list\":[{\"type\":\"click\"}],\"type\" : \"order\"}";
+        assertEquals(ORDER, decoder.getSchema(bytes(nested), 0, nested.length()));
+
+        String json = "{\"amount\":5,\"currency\":\"say \\\"type\\\":\\\"click\\\"\",\"type\":\"order\"}";
+        byte[] line = bytes("prefix" + json + "suffix");
+        assertEquals(ORDER, decoder.getSchema(line, 6, json.length()));
+
+        GenericRecord order = decoder.decode(line, 6, json.length());
+        assertEquals(5L, order.get("amount"));
+        assertEquals("say \"type\":\"click\"", order.get("currency").toString());
+    }
+
+    @Test
+    void testUnknownOrMissingDiscriminator() {
+        DiscriminatorDecoder<GenericRecord> decoder = newDecoder();
+        assertThrows(AvroTypeException.class, () -> decoder.decode(bytes("{\"type\":\"view\",\"url\":\"/a\"}")));
+        assertThrows(AvroTypeException.class, () -> decoder.decode(bytes("{\"url\":\"/a\",\"meta\":{\"type\":\"click\"}}")));
+        assertThrows(AvroTypeException.class, () -> decoder.decode(bytes("{\"type\":1}")));
+    }
+}
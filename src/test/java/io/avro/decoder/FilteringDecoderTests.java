@@ -0,0 +1,103 @@
+package io.avro.decoder;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import org.apache.avro.Schema;
+import org.apache.avro.generic.GenericRecord;
+import org.junit.jupiter.api.Test;
+
+/**
+ * @author Anton Kurako (GoodforGod)
+ * @since 19.10.2026
+ */
+class FilteringDecoderTests extends DecoderRunner {
+
+    private static final Schema SCHEMA = parseSchema(getAvroSchema("avro/allocation_event.avsc"));
+
+    private static String event(String id, int count, long total, String host, String extra) {
+        return "{\"id\":\"" + id + "\",\"count\":" + count + ",\"total\":" + total + ",\"score\":0.5,\"active\":true,"
+                + "\"source\":{\"host\":\"" + host + "\",\"port\":80}" + extra + "}";
+    }
+
+    private static List<String> readIds(FilteringGenericDatumReader<GenericRecord> reader, String... events) throws IOException {
+        String input = String.join("\n", events);
+        JsonOptionalDecoder decoder = new JsonOptionalDecoder(SCHEMA, new ByteArrayInputStream(input.getBytes(StandardCharsets.UTF_8)));
+        List<String> ids = new ArrayList<>();
+        for (int i = 0; i < events.length; i++) {
+            GenericRecord record = reader.read(null, decoder);
+            if (record != null)
+                ids.add(record.get("id").toString());
+        }
+        return ids;
+    }
+
+    @Test
+    void testEqualsFiltersAndSkipsRestOfRecord() throws IOException {
+        FilteringGenericDatumReader<GenericRecord> reader = new FilteringGenericDatumReader<GenericRecord>(SCHEMA)
+                .whereEquals("id", "keep");
+
+        List<String> ids = readIds(reader,
+                event("keep", 1, 1, "a", ""),
+                event("drop", 2, 2, "b", ",\"note\":\"n\",\"ratio\":[1,{\"x\":[]}]"),
+                event("keep", 3, 3, "c", ",\"note\":\"z\""));
+        assertEquals(Arrays.asList("keep", "keep"), ids);
+    }
+
+    @Test
+    void testReorderedFieldFiltered() throws IOException {
+        FilteringGenericDatumReader<GenericRecord> reader = new FilteringGenericDatumReader<GenericRecord>(SCHEMA)
+                .whereRange("total", 10, null);
+
+        List<String> ids = readIds(reader,
+                "{\"total\":5,\"source\":{\"port\":1,\"host\":\"h\"},\"id\":\"low\",\"count\":1,\"score\":1.0,\"active\":false}",
+                "{\"total\":50,\"source\":{\"port\":1,\"host\":\"h\"},\"id\":\"high\",\"count\":1,\"score\":1.0,\"active\":false}");
+        assertEquals(Arrays.asList("high"), ids);
+    }
+
+    @Test
+    void testNestedPathAndInSet() throws IOException {
+        FilteringGenericDatumReader<GenericRecord> reader = new FilteringGenericDatumReader<GenericRecord>(SCHEMA)
+                .whereIn("source.host", Arrays.asList("a", "c"))
+                .whereRange("count", 1, 2);
+
+        List<String> ids = readIds(reader,
+                event("1", 1, 0, "a", ""),
+                event("2", 1, 0, "b", ""),
+                event("3", 3, 0, "c", ""),
+                event("4", 2, 0, "c", ""));
+        assertEquals(Arrays.asList("1", "4"), ids);
+    }
+
+    @Test
+    void testMissingFieldsEvaluatedFromDefaults() throws IOException {
+        FilteringGenericDatumReader<GenericRecord> reader = new FilteringGenericDatumReader<GenericRecord>(SCHEMA)
+                .whereEquals("label", "none")
+                .whereEquals("level", 1L)
+                .whereNull("note");
+
+        List<String> ids = readIds(reader,
+                event("default", 1, 0, "a", ""),
+                event("label", 1, 0, "a", ",\"label\":\"other\""),
+                event("level", 1, 0, "a", ",\"level\":2"),
+                event("note", 1, 0, "a", ",\"note\":\"text\""));
+        assertEquals(Arrays.asList("default"), ids);
+    }
+
+    @Test
+    void testNotNullAndUnknownPath() throws IOException {
+        FilteringGenericDatumReader<GenericRecord> reader = new FilteringGenericDatumReader<GenericRecord>(SCHEMA)
+                .whereNotNull("code");
+
+        List<String> ids = readIds(reader,
+                event("absent", 1, 0, "a", ""),
+                event("present", 1, 0, "a", ",\"code\":7"));
+        assertEquals(Arrays.asList("present"), ids);
+
+        assertThrows(IllegalArgumentException.class, () -> reader.whereNull("source.unknown"));
+        assertThrows(IllegalArgumentException.class, () -> reader.whereNull("id.nested"));
+    }
+}
@@ -0,0 +1,106 @@
+package io.avro.decoder;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Map;
+import org.apache.avro.Schema;
+import org.apache.avro.generic.GenericData;
+import org.apache.avro.generic.GenericDatumReader;
+import org.apache.avro.generic.GenericRecord;
+import org.apache.avro.util.Utf8;
+import org.junit.jupiter.api.Test;
+
+/**
+ * @author Anton Kurako (GoodforGod)
+ * @since 19.10.2026
+ */
+class JsonOptionalEncoderTests extends DecoderRunner {
+
+    private static final Schema SCHEMA = parseSchema(getAvroSchema("avro/encoder_record.avsc"));
+
+    private static GenericRecord newRecord() {
+        GenericData.Record record = new GenericData.Record(SCHEMA);
+        record.put("id", new Utf8("r1"));
+        record.put("ratio", 1.5);
+        record.put("active", false);
+        record.put("tags", new GenericData.Array<>(SCHEMA.getField("tags").schema(), Collections.emptyList()));
+        record.put("attrs", Collections.emptyMap());
+        record.put("payload", ByteBuffer.wrap(new byte[] { 0, 1, (byte) 0xFF }));
+        record.put("kind", new GenericData.EnumSymbol(SCHEMA.getField("kind").schema(), "A"));
+        return record;
+    }
+
+    private static GenericRecord decode(byte[] json) throws IOException {
+        return new GenericDatumReader<GenericRecord>(SCHEMA).read(null, new JsonOptionalDecoder(SCHEMA, json, 0, json.length));
+    }
+
+    @Test
+    void testDefaultAndNullFieldsOmitted() throws IOException {
+        GenericRecord record = newRecord();
+        byte[] json = new JsonOptionalEncoder(SCHEMA).encode(record);
+
+        assertEquals("{\"id\":\"r1\",\"payload\":\"\\u0000\\u0001ÿ\"}", new String(json, StandardCharsets.UTF_8));
+        assertEquals(record, decode(json));
+    }
+
+    @Test
+    void testNonDefaultFieldsRoundTrip() throws IOException {
+        GenericRecord record = newRecord();
+        record.put("note", "text");
+        record.put("ratio", null);
+        record.put("value", 42);
+        record.put("active", true);
+        record.put("tags", new GenericData.Array<>(SCHEMA.getField("tags").schema(), Arrays.asList(new Utf8("a"), new Utf8("b"))));
+        record.put("attrs", Collections.singletonMap(new Utf8("k"), 7L));
+        record.put("kind", new GenericData.EnumSymbol(SCHEMA.getField("kind").schema(), "B"));
+
+        byte[] json = new JsonOptionalEncoder(SCHEMA).encode(record);
+        assertEquals("{\"id\":\"r1\",\"note\":\"text\",\"ratio\":null,\"value\":{\"int\":42},\"active\":true,"
+                + "\"tags\":[\"a\",\"b\"],\"attrs\":{\"k\":7},\"payload\":\"\\u0000\\u0001ÿ\",\"kind\":\"B\"}",
+                new String(json, StandardCharsets.UTF_8));
+
+        GenericRecord decoded = decode(json);
+        assertEquals("text", decoded.get("note").toString());
+        assertNull(decoded.get("ratio"));
+        assertEquals(42, decoded.get("value"));
+        assertEquals(true, decoded.get("active"));
+        assertEquals(7L, ((Map<?, ?>) decoded.get("attrs")).get(new Utf8("k")));
+        assertEquals("B", decoded.get("kind").toString());
+        assertEquals(ByteBuffer.wrap(new byte[] { 0, 1, (byte) 0xFF }), decoded.get("payload"));
+    }
+
+    @Test
+    void testEncoderReusedForStreamAndBase64() throws IOException {
+        JsonOptionalEncoder encoder = new JsonOptionalEncoder(SCHEMA).withBinaryEncoding(BinaryEncoding.BASE64);
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        for (int i = 0; i < 3; i++) {
+            GenericRecord record = newRecord();
+            record.put("value", "v" + i);
+            encoder.encode(record, out);
+            out.write('\n');
+        }
+
+        String[] lines = new String(out.toByteArray(), StandardCharsets.UTF_8).split("\n");
+        assertEquals(3, lines.length);
+        assertEquals("{\"id\":\"r1\",\"value\":{\"string\":\"v2\"},\"payload\":\"AAH/\"}", lines[2]);
+
+        JsonOptionalDecoder decoder = new JsonOptionalDecoder(SCHEMA, lines[1]).withBinaryEncoding(BinaryEncoding.BASE64);
+        GenericRecord decoded = new GenericDatumReader<GenericRecord>(SCHEMA).read(null, decoder);
+        assertEquals("v1", decoded.get("value").toString());
+        assertEquals(ByteBuffer.wrap(new byte[] { 0, 1, (byte) 0xFF }), decoded.get("payload"));
+    }
+
+    @Test
+    void testEncoderRecoversAfterFailure() throws IOException {
+        JsonOptionalEncoder encoder = new JsonOptionalEncoder(SCHEMA);
+        GenericRecord invalid = newRecord();
+        invalid.put("payload", "not bytes");
+        assertThrows(ClassCastException.class, () -> encoder.encode(invalid));
+
+        assertEquals(newRecord(), decode(encoder.encode(newRecord())));
+    }
+}
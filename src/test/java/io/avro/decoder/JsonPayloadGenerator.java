@@ -0,0 +1,662 @@
+package io.avro.decoder;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.*;
+import org.apache.avro.Schema;
+import org.apache.avro.Schema.Field;
+
+/**
+ * Generates random JSON documents valid for given Avro schema, for benchmarks, load and soak tests.
+ * <p>
+ * Generator is seeded, so same seed and settings produce same documents. Record fields are written
+ * in schema order or shuffled with given rate, optional fields (with default or nullable) are
+ * omitted with given rate or always by name. Unions pick null branch with given rate and are written
+ * as {@link JsonOptionalDecoder} or Avro JsonDecoder expects them. Strings, arrays and maps are of
+ * sizes within given ranges. Recursive schemas are cut at depth limit with null branches and empty
+ * collections.
+ * </p>
+ * <p>
+ * Documents are written straight as UTF-8 bytes into reused buffer without intermediate strings,
+ * single document is returned by {@link #generate()} and newline delimited documents of any volume
+ * are streamed with {@link #write(OutputStream, long)}. Generate file with:
+ * </p>
+ *
+ * <pre>
+ * ./gradlew generatePayloads -PgeneratorArgs="--schema=event.avsc --output=events.json --size=2g"
+ * </pre>
+ *
+ * Generator is not thread-safe.
+ *
+ * @author Anton Kurako (GoodforGod)
+ * @since 19.10.2026
+ */
+public final class JsonPayloadGenerator {
+
+    /**
+     * Representation of union values
+     */
+    public enum UnionEncoding {
+
+        /**
+         * Nullable unions of two branches as bare values and other unions wrapped with branch name, as
+         * {@link JsonOptionalDecoder} expects them
+         */
+        BARE_NULLABLE,
+
+        /**
+         * All non-null union values wrapped with branch name, as Avro JsonDecoder expects them
+         */
+        WRAPPED
+    }
+
+    static final String USAGE = ""
+            + "  --seed=<n>               seed of payload generator, defaults to 42\n"
+            + "  --shuffleRate=<0..1>     rate of records with shuffled field order, defaults to 0\n"
+            + "  --missingRate=<0..1>     rate of omitted optional fields, defaults to 0\n"
+            + "  --omit=<a,b>             names of optional fields to always omit\n"
+            + "  --nullRate=<0..1>        rate of null branch in nullable unions, branches are equally likely by default\n"
+            + "  --stringLength=<n|a..b>  length of strings and bytes, defaults to 16\n"
+            + "  --arraySize=<n|a..b>     size of arrays, defaults to 4\n"
+            + "  --mapSize=<n|a..b>       size of maps, defaults to 4\n";
+
+    private static final String MAIN_USAGE = "Options:\n"
+            + "  --schema=<path>          Avro schema (.avsc) to generate documents from, required\n"
+            + "  --output=<path>          file to write newline delimited documents to, required\n"
+            + "  --size=<bytes>           amount of bytes to generate, such as 512m or 2g, defaults to 1g\n"
+            + "  --unionEncoding=<name>   BARE_NULLABLE or WRAPPED, defaults to BARE_NULLABLE\n"
+            + USAGE;
+
+    private static final int MAX_DEPTH = 8;
+    private static final int FLUSH_SIZE = 64 * 1024;
+
+    private static final byte[] CHARS = "0123456789abcdefghijklmnopqrstuv".getBytes(StandardCharsets.US_ASCII);
+    private static final byte[] NULL = "null".getBytes(StandardCharsets.US_ASCII);
+    private static final byte[] TRUE = "true".getBytes(StandardCharsets.US_ASCII);
+    private static final byte[] FALSE = "false".getBytes(StandardCharsets.US_ASCII);
+    private static final byte[] LONG_MIN = Long.toString(Long.MIN_VALUE).getBytes(StandardCharsets.US_ASCII);
+
+    private final Schema schema;
+    private final SplittableRandom random;
+
+    // record, enum and union schemas with their pre-encoded names
+    private final Map<Schema, Object> encoded = new IdentityHashMap<>();
+    private byte[][] mapKeys = new byte[0][];
+
+    private byte[] buffer = new byte[1024];
+    private int size;
+
+    private double shuffleRate = 0.0;
+    private double missingRate = 0.0;
+    private double nullRate = -1;
+    private UnionEncoding unionEncoding = UnionEncoding.BARE_NULLABLE;
+    private Set<String> omittedFields = Collections.emptySet();
+    private int minStringLength = 16;
+    private int maxStringLength = 16;
+    private int minArraySize = 4;
+    private int maxArraySize = 4;
+    private int minMapSize = 4;
+    private int maxMapSize = 4;
+
+    public JsonPayloadGenerator(Schema schema, long seed) {
+        if (null == schema)
+            throw new NullPointerException("Schema cannot be null!");
+
+        this.schema = schema;
+        this.random = new SplittableRandom(seed);
+    }
+
+    /**
+     * @param shuffleRate probability of record fields to be written in shuffled order, 0 for schema
+     *                    order and 1 for always shuffled
+     * @return this generator
+     */
+    public JsonPayloadGenerator withShuffleRate(double shuffleRate) {
+        this.shuffleRate = checkRate(shuffleRate, "Shuffle");
+        return this;
+    }
+
+    /**
+     * @param missingRate probability of each optional field to be omitted
+     * @return this generator
+     */
+    public JsonPayloadGenerator withMissingRate(double missingRate) {
+        this.missingRate = checkRate(missingRate, "Missing");
+        return this;
+    }
+
+    /**
+     * @param fields names of optional fields to always omit, in any record of schema
+     * @return this generator
+     * @throws IllegalArgumentException if field is not found or is not optional in any record
+     */
+    public JsonPayloadGenerator withOmittedFields(String... fields) {
+        if (null == fields)
+            throw new NullPointerException("Fields cannot be null!");
+
+        final Map<String, Boolean> optional = new HashMap<>();
+        collectOptional(schema, optional, Collections.newSetFromMap(new IdentityHashMap<>()));
+        for (String field : fields) {
+            final Boolean isOptional = optional.get(field);
+            if (isOptional == null)
+                throw new IllegalArgumentException("Field not found: " + field);
+            if (!isOptional)
+                throw new IllegalArgumentException("Field is not optional: " + field);
+        }
+
+        this.omittedFields = new HashSet<>(Arrays.asList(fields));
+        this.encoded.clear();
+        return this;
+    }
+
+    /**
+     * @param nullRate probability of null branch to be chosen in unions with null
+     * @return this generator
+     */
+    public JsonPayloadGenerator withNullRate(double nullRate) {
+        this.nullRate = checkRate(nullRate, "Null");
+        return this;
+    }
+
+    /**
+     * @param unionEncoding representation of union values
+     * @return this generator
+     */
+    public JsonPayloadGenerator withUnionEncoding(UnionEncoding unionEncoding) {
+        if (null == unionEncoding)
+            throw new NullPointerException("UnionEncoding cannot be null!");
+
+        this.unionEncoding = unionEncoding;
+        return this;
+    }
+
+    /**
+     * @param min length of generated strings and bytes
+     * @param max length of generated strings and bytes, inclusive
+     * @return this generator
+     */
+    public JsonPayloadGenerator withStringLength(int min, int max) {
+        checkRange(min, max, "String length");
+        this.minStringLength = min;
+        this.maxStringLength = max;
+        return this;
+    }
+
+    /**
+     * @param min size of generated arrays
+     * @param max size of generated arrays, inclusive
+     * @return this generator
+     */
+    public JsonPayloadGenerator withArraySize(int min, int max) {
+        checkRange(min, max, "Array size");
+        this.minArraySize = min;
+        this.maxArraySize = max;
+        return this;
+    }
+
+    /**
+     * @param min size of generated maps
+     * @param max size of generated maps, inclusive
+     * @return this generator
+     */
+    public JsonPayloadGenerator withMapSize(int min, int max) {
+        checkRange(min, max, "Map size");
+        this.minMapSize = min;
+        this.maxMapSize = max;
+        return this;
+    }
+
+    /**
+     * @return next JSON document in UTF-8
+     */
+    public byte[] generate() {
+        size = 0;
+        writeValue(schema, 0);
+        return Arrays.copyOf(buffer, size);
+    }
+
+    /**
+     * Writes newline delimited documents until given amount of bytes is reached
+     *
+     * @param out   to write documents to, is not closed
+     * @param bytes minimal amount of bytes to write
+     * @return amount of documents written
+     * @throws IOException from output stream
+     */
+    public long write(OutputStream out, long bytes) throws IOException {
+        if (null == out)
+            throw new NullPointerException("OutputStream cannot be null!");
+
+        long written = 0;
+        long documents = 0;
+        size = 0;
+        while (written < bytes) {
+            final int start = size;
+            writeValue(schema, 0);
+            put((byte) '\n');
+            written += size - start;
+            documents++;
+
+            if (size >= FLUSH_SIZE) {
+                out.write(buffer, 0, size);
+                size = 0;
+            }
+        }
+
+        out.write(buffer, 0, size);
+        size = 0;
+        return documents;
+    }
+
+    /**
+     * @param path  of file to write newline delimited documents to, replaced if exists
+     * @param bytes minimal amount of bytes to write
+     * @return amount of documents written
+     * @throws IOException from file system
+     */
+    public long write(Path path, long bytes) throws IOException {
+        try (OutputStream out = Files.newOutputStream(path)) {
+            return write(out, bytes);
+        }
+    }
+
+    /**
+     * @return generator configured with options described by {@link #USAGE}
+     */
+    static JsonPayloadGenerator fromOptions(Schema schema, ToolOptions options, long seed) {
+        final int[] strings = options.getRange("stringLength", 16, 16);
+        final int[] arrays = options.getRange("arraySize", 4, 4);
+        final int[] maps = options.getRange("mapSize", 4, 4);
+        final JsonPayloadGenerator generator = new JsonPayloadGenerator(schema, seed)
+                .withShuffleRate(options.getDouble("shuffleRate", 0.0))
+                .withMissingRate(options.getDouble("missingRate", 0.0))
+                .withStringLength(strings[0], strings[1])
+                .withArraySize(arrays[0], arrays[1])
+                .withMapSize(maps[0], maps[1]);
+
+        final double nullRate = options.getDouble("nullRate", Double.NaN);
+        if (!Double.isNaN(nullRate))
+            generator.withNullRate(nullRate);
+
+        final String omit = options.getString("omit", "");
+        if (!omit.isEmpty())
+            generator.withOmittedFields(omit.split(","));
+
+        return generator;
+    }
+
+    public static void main(String[] args) throws IOException {
+        final ToolOptions options = ToolOptions.parse(args, MAIN_USAGE);
+        final Schema schema = new Schema.Parser().parse(new File(options.getRequired("schema", MAIN_USAGE)));
+        final Path output = Paths.get(options.getRequired("output", MAIN_USAGE));
+        final long bytes = options.getSize("size", 1024L * 1024 * 1024);
+        final JsonPayloadGenerator generator = fromOptions(schema, options, options.getLong("seed", 42))
+                .withUnionEncoding(UnionEncoding.valueOf(options.getString("unionEncoding", UnionEncoding.BARE_NULLABLE.name())));
+
+        final long started = System.nanoTime();
+        final long documents = generator.write(output, bytes);
+        final double seconds = (System.nanoTime() - started) / 1e9;
+        final long written = Files.size(output);
+        System.out.printf("Generated %,d documents of %,d bytes into %s in %.1fs, %,.1f MB/s%n",
+                documents, written, output, seconds, written / seconds / (1024 * 1024));
+    }
+
+    private void writeValue(Schema schema, int depth) {
+        switch (schema.getType()) {
+            case RECORD:
+                writeRecord(schema, depth);
+                break;
+            case ENUM:
+                final byte[][] symbols = getEnumSymbols(schema);
+                writeBytes(symbols[random.nextInt(symbols.length)]);
+                break;
+            case ARRAY:
+                put((byte) '[');
+                final int elements = (depth < MAX_DEPTH) ? nextSize(minArraySize, maxArraySize) : 0;
+                for (int i = 0; i < elements; i++) {
+                    if (i > 0)
+                        put((byte) ',');
+                    writeValue(schema.getElementType(), depth + 1);
+                }
+                put((byte) ']');
+                break;
+            case MAP:
+                put((byte) '{');
+                final int entries = (depth < MAX_DEPTH) ? nextSize(minMapSize, maxMapSize) : 0;
+                for (int i = 0; i < entries; i++) {
+                    if (i > 0)
+                        put((byte) ',');
+                    // keys repeat across maps, as they usually do in real feeds
+                    writeBytes(getMapKey(i));
+                    writeValue(schema.getValueType(), depth + 1);
+                }
+                put((byte) '}');
+                break;
+            case UNION:
+                writeUnion(schema, depth);
+                break;
+            case FIXED:
+                writeString(schema.getFixedSize());
+                break;
+            case STRING:
+            case BYTES:
+                writeString(nextSize(minStringLength, maxStringLength));
+                break;
+            case INT:
+                writeLong(random.nextInt());
+                break;
+            case LONG:
+                writeLong(random.nextLong());
+                break;
+            case FLOAT:
+            case DOUBLE:
+                writeDecimal();
+                break;
+            case BOOLEAN:
+                writeBytes(random.nextBoolean() ? TRUE : FALSE);
+                break;
+            case NULL:
+                writeBytes(NULL);
+                break;
+            default:
+                throw new IllegalArgumentException("Unsupported type: " + schema.getType());
+        }
+    }
+
+    private void writeRecord(Schema schema, int depth) {
+        final EncodedRecord record = getRecord(schema);
+        final int fields = record.names.length;
+
+        int[] order = null;
+        if (shuffleRate > 0 && fields > 1 && random.nextDouble() < shuffleRate) {
+            order = new int[fields];
+            for (int i = 0; i < fields; i++)
+                order[i] = i;
+            for (int i = fields - 1; i > 0; i--) {
+                final int j = random.nextInt(i + 1);
+                final int swap = order[i];
+                order[i] = order[j];
+                order[j] = swap;
+            }
+        }
+
+        put((byte) '{');
+        boolean first = true;
+        for (int i = 0; i < fields; i++) {
+            final int field = (order == null) ? i : order[i];
+            if (record.omitted[field])
+                continue;
+            if (record.optional[field] && missingRate > 0 && random.nextDouble() < missingRate)
+                continue;
+
+            if (!first)
+                put((byte) ',');
+            first = false;
+            writeBytes(record.names[field]);
+            writeValue(record.schemas[field], depth + 1);
+        }
+        put((byte) '}');
+    }
+
+    private void writeUnion(Schema schema, int depth) {
+        final EncodedUnion union = getUnion(schema);
+        final int branches = union.labels.length;
+        final int nullIndex = union.nullIndex;
+
+        final int index;
+        if (nullIndex < 0 || (nullRate < 0 && depth < MAX_DEPTH)) {
+            index = random.nextInt(branches);
+        } else if (depth >= MAX_DEPTH || branches == 1 || random.nextDouble() < nullRate) {
+            index = nullIndex;
+        } else {
+            final int nonNull = random.nextInt(branches - 1);
+            index = (nonNull >= nullIndex) ? nonNull + 1 : nonNull;
+        }
+
+        if (index == nullIndex) {
+            writeBytes(NULL);
+        } else if (unionEncoding == UnionEncoding.BARE_NULLABLE && branches == 2 && nullIndex >= 0) {
+            writeValue(union.types[index], depth);
+        } else {
+            writeBytes(union.labels[index]);
+            writeValue(union.types[index], depth);
+            put((byte) '}');
+        }
+    }
+
+    /**
+     * Writes quoted string of random characters, each random long gives 12 characters
+     */
+    private void writeString(int length) {
+        ensure(length + 2);
+        buffer[size++] = '"';
+        for (int i = 0; i < length; i += 12) {
+            long bits = random.nextLong();
+            final int end = Math.min(length, i + 12);
+            for (int j = i; j < end; j++) {
+                buffer[size++] = CHARS[(int) (bits & 31)];
+                bits >>>= 5;
+            }
+        }
+        buffer[size++] = '"';
+    }
+
+    private void writeLong(long value) {
+        if (value == Long.MIN_VALUE) {
+            writeBytes(LONG_MIN);
+            return;
+        }
+
+        ensure(20);
+        if (value < 0) {
+            buffer[size++] = '-';
+            value = -value;
+        }
+
+        int digits = 1;
+        for (long bound = 10; digits < 19 && value >= bound; bound *= 10)
+            digits++;
+
+        for (int i = size + digits - 1; i >= size; i--) {
+            buffer[i] = (byte) ('0' + value % 10);
+            value /= 10;
+        }
+        size += digits;
+    }
+
+    /**
+     * Writes number with three fraction digits, precise enough for both float and double
+     */
+    private void writeDecimal() {
+        final int value = random.nextInt(100_000_000);
+        if (random.nextBoolean())
+            put((byte) '-');
+        writeLong(value / 1000);
+
+        final int fraction = value % 1000;
+        ensure(4);
+        buffer[size++] = '.';
+        buffer[size++] = (byte) ('0' + fraction / 100);
+        buffer[size++] = (byte) ('0' + fraction / 10 % 10);
+        buffer[size++] = (byte) ('0' + fraction % 10);
+    }
+
+    private void writeBytes(byte[] bytes) {
+        ensure(bytes.length);
+        System.arraycopy(bytes, 0, buffer, size, bytes.length);
+        size += bytes.length;
+    }
+
+    private void put(byte b) {
+        ensure(1);
+        buffer[size++] = b;
+    }
+
+    private void ensure(int length) {
+        if (size + length > buffer.length)
+            buffer = Arrays.copyOf(buffer, Math.max(buffer.length * 2, size + length));
+    }
+
+    private int nextSize(int min, int max) {
+        return (min == max) ? min : min + random.nextInt(max - min + 1);
+    }
+
+    private byte[] getMapKey(int index) {
+        if (index >= mapKeys.length) {
+            final int from = mapKeys.length;
+            mapKeys = Arrays.copyOf(mapKeys, Math.max(index + 1, from * 2));
+            for (int i = from; i < mapKeys.length; i++)
+                mapKeys[i] = ("\"key" + i + "\":").getBytes(StandardCharsets.UTF_8);
+        }
+
+        return mapKeys[index];
+    }
+
+    private byte[][] getEnumSymbols(Schema schema) {
+        byte[][] symbols = (byte[][]) encoded.get(schema);
+        if (symbols == null) {
+            final List<String> names = schema.getEnumSymbols();
+            symbols = new byte[names.size()][];
+            for (int i = 0; i < symbols.length; i++)
+                symbols[i] = ("\"" + names.get(i) + "\"").getBytes(StandardCharsets.UTF_8);
+            encoded.put(schema, symbols);
+        }
+
+        return symbols;
+    }
+
+    private EncodedRecord getRecord(Schema schema) {
+        EncodedRecord record = (EncodedRecord) encoded.get(schema);
+        if (record == null) {
+            record = new EncodedRecord(schema.getFields(), omittedFields);
+            encoded.put(schema, record);
+        }
+
+        return record;
+    }
+
+    private EncodedUnion getUnion(Schema schema) {
+        EncodedUnion union = (EncodedUnion) encoded.get(schema);
+        if (union == null) {
+            union = new EncodedUnion(schema.getTypes());
+            encoded.put(schema, union);
+        }
+
+        return union;
+    }
+
+    private static final class EncodedRecord {
+
+        private final byte[][] names;
+        private final Schema[] schemas;
+        private final boolean[] optional;
+        private final boolean[] omitted;
+
+        private EncodedRecord(List<Field> fields, Set<String> omittedFields) {
+            this.names = new byte[fields.size()][];
+            this.schemas = new Schema[fields.size()];
+            this.optional = new boolean[fields.size()];
+            this.omitted = new boolean[fields.size()];
+            for (int i = 0; i < names.length; i++) {
+                final Field field = fields.get(i);
+                names[i] = ("\"" + field.name() + "\":").getBytes(StandardCharsets.UTF_8);
+                schemas[i] = field.schema();
+                optional[i] = isOptional(field);
+                omitted[i] = optional[i] && omittedFields.contains(field.name());
+            }
+        }
+    }
+
+    private static final class EncodedUnion {
+
+        private final Schema[] types;
+        private final byte[][] labels;
+        private final int nullIndex;
+
+        private EncodedUnion(List<Schema> types) {
+            this.types = types.toArray(new Schema[0]);
+            this.labels = new byte[types.size()][];
+            int nullIndex = -1;
+            for (int i = 0; i < labels.length; i++) {
+                final Schema type = types.get(i);
+                if (type.getType() == Schema.Type.NULL)
+                    nullIndex = i;
+                labels[i] = ("{\"" + getLabel(type) + "\":").getBytes(StandardCharsets.UTF_8);
+            }
+            this.nullIndex = nullIndex;
+        }
+    }
+
+    /**
+     * @return true if field can be omitted from JSON, as it has default or is nullable
+     */
+    static boolean isOptional(Field field) {
+        if (field.defaultVal() != null)
+            return true;
+
+        final Schema schema = field.schema();
+        if (schema.getType() != Schema.Type.UNION)
+            return false;
+
+        for (Schema type : schema.getTypes())
+            if (type.getType() == Schema.Type.NULL)
+                return true;
+        return false;
+    }
+
+    /**
+     * Collects field names of all records in schema, name is optional only if it is optional in
+     * every record
+     */
+    private static void collectOptional(Schema schema, Map<String, Boolean> optional, Set<Schema> visited) {
+        switch (schema.getType()) {
+            case RECORD:
+                if (!visited.add(schema))
+                    return;
+                for (Field field : schema.getFields()) {
+                    optional.merge(field.name(), isOptional(field), Boolean::logicalAnd);
+                    collectOptional(field.schema(), optional, visited);
+                }
+                break;
+            case ARRAY:
+                collectOptional(schema.getElementType(), optional, visited);
+                break;
+            case MAP:
+                collectOptional(schema.getValueType(), optional, visited);
+                break;
+            case UNION:
+                for (Schema type : schema.getTypes())
+                    collectOptional(type, optional, visited);
+                break;
+            default:
+                break;
+        }
+    }
+
+    private static String getLabel(Schema branch) {
+        switch (branch.getType()) {
+            case RECORD:
+            case ENUM:
+            case FIXED:
+                return branch.getFullName();
+            default:
+                return branch.getType().getName();
+        }
+    }
+
+    private static double checkRate(double rate, String name) {
+        if (rate < 0 || rate > 1)
+            throw new IllegalArgumentException(name + " rate should be between 0 and 1, but was: " + rate);
+        return rate;
+    }
+
+    private static void checkRange(int min, int max, String name) {
+        if (min < 0 || max < min)
+            throw new IllegalArgumentException(name + " should be non negative range, but was: " + min + ".." + max);
+    }
+}
@@ -0,0 +1,103 @@
+package io.avro.decoder;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+import org.apache.avro.Schema;
+import org.apache.avro.generic.GenericDatumReader;
+import org.apache.avro.io.DatumReader;
+import org.apache.avro.io.Decoder;
+import org.apache.avro.io.DecoderFactory;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.MethodSource;
+
+/**
+ * @author Anton Kurako (GoodforGod)
+ * @since 19.10.2026
+ */
+class JsonPayloadGeneratorTests extends DecoderRunner {
+
+    private static final long BYTES = 64 * 1024;
+
+    private static List<String> schemas() throws Exception {
+        final Path dir = Paths.get(JsonPayloadGeneratorTests.class.getClassLoader().getResource("avro").toURI());
+        try (Stream<Path> files = Files.list(dir)) {
+            // template.avsc is a format string for schemas built by tests, not a schema
+            return files.map(file -> "avro/" + file.getFileName())
+                    .filter(file -> file.endsWith(".avsc") && !file.endsWith("template.avsc"))
+                    .sorted()
+                    .collect(Collectors.toList());
+        }
+    }
+
+    private static JsonPayloadGenerator generator(Schema schema) {
+        return new JsonPayloadGenerator(schema, 7)
+                .withShuffleRate(0.5)
+                .withNullRate(0.3)
+                .withStringLength(0, 24)
+                .withArraySize(0, 3)
+                .withMapSize(0, 3);
+    }
+
+    private static long decodeAll(Schema schema, Decoder decoder, long documents) throws IOException {
+        final DatumReader<Object> reader = new GenericDatumReader<>(schema);
+        long decoded = 0;
+        for (; decoded < documents; decoded++)
+            assertNotNull(reader.read(null, decoder));
+        return decoded;
+    }
+
+    @ParameterizedTest(name = "{index} {0}")
+    @MethodSource("schemas")
+    void testBareNullableDecodedWithOptionalDecoder(String path) throws IOException {
+        Schema schema = parseSchema(getAvroSchema(path));
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        long documents = generator(schema)
+                .withMissingRate(0.3)
+                .withUnionEncoding(JsonPayloadGenerator.UnionEncoding.BARE_NULLABLE)
+                .write(out, BYTES);
+
+        JsonOptionalDecoder decoder = new JsonOptionalDecoder(schema, new ByteArrayInputStream(out.toByteArray()));
+        assertEquals(documents, decodeAll(schema, decoder, documents));
+        assertFalse(decoder.hasNextRecord());
+    }
+
+    @ParameterizedTest(name = "{index} {0}")
+    @MethodSource("schemas")
+    void testWrappedDecodedWithAvroJsonDecoder(String path) throws IOException {
+        Schema schema = parseSchema(getAvroSchema(path));
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        // Avro JsonDecoder requires every field, so optional fields are never omitted
+        long documents = generator(schema)
+                .withUnionEncoding(JsonPayloadGenerator.UnionEncoding.WRAPPED)
+                .write(out, BYTES);
+
+        Decoder decoder = DecoderFactory.get().jsonDecoder(schema, new ByteArrayInputStream(out.toByteArray()));
+        assertEquals(documents, decodeAll(schema, decoder, documents));
+    }
+
+    @Test
+    void testSameSeedGeneratesSameDocuments() {
+        Schema schema = parseSchema(getAvroSchema("avro/encoder_record.avsc"));
+        JsonPayloadGenerator first = generator(schema).withMissingRate(0.3);
+        JsonPayloadGenerator second = generator(schema).withMissingRate(0.3);
+        for (int i = 0; i < 100; i++)
+            assertArrayEquals(first.generate(), second.generate());
+    }
+
+    @Test
+    void testOmittedFieldsValidated() {
+        Schema schema = parseSchema(getAvroSchema("avro/nullable_string_default.avsc"));
+        JsonPayloadGenerator generator = new JsonPayloadGenerator(schema, 7);
+        assertThrows(IllegalArgumentException.class, () -> generator.withOmittedFields("unknown"));
+        assertThrows(IllegalArgumentException.class, () -> generator.withOmittedFields("username"));
+        assertFalse(new String(generator.withOmittedFields("name").generate()).contains("\"name\""));
+    }
+}
@@ -0,0 +1,88 @@
+package io.avro.decoder;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Map;
+import org.apache.avro.Schema;
+import org.apache.avro.generic.GenericRecord;
+import org.junit.jupiter.api.Test;
+
+/**
+ * @author Anton Kurako (GoodforGod)
+ * @since 19.10.2026
+ */
+class LazyGenericRecordTests extends DecoderRunner {
+
+    @Test
+    void testFieldsDecodedOnAccess() throws IOException {
+        String w = getAvroSchema("avro/parallel_document.avsc");
+        Schema schema = parseSchema(w);
+        String json = "{\"items\":[{\"name\":\"a\"},{\"name\":\"b\",\"qty\":2}], \"id\" : \"doc\"}";
+
+        LazyGenericRecord record = new LazyRecordReader(schema).read(json.getBytes(StandardCharsets.UTF_8));
+        assertEquals("doc", record.get("id").toString());
+        assertNull(record.get("note"));
+        assertNull(record.get("unknown"));
+        assertTrue(record.equals(readRecord(w, json)));
+        assertEquals(readRecord(w, json).toString(), record.toString());
+    }
+
+    @Test
+    void testOriginalBytesAvailable() {
+        String w = getAvroSchema("avro/parallel_document.avsc");
+        Schema schema = parseSchema(w);
+        String json = "{\"id\":\"first\",\"items\":[]}\n{\"id\":\"second\",\"items\":[],\"note\":null}";
+
+        StructuralIndex index = StructuralIndex.build(json.getBytes(StandardCharsets.UTF_8));
+        LazyGenericRecord record = new LazyRecordReader(schema).read(index, 1);
+        assertEquals("second", record.get("id").toString());
+        assertEquals("{\"id\":\"second\",\"items\":[],\"note\":null}",
+                new String(record.getJson(), record.getOffset(), record.getLength(), StandardCharsets.UTF_8));
+
+        assertFalse(record.isModified());
+        record.put("id", "changed");
+        assertTrue(record.isModified());
+        assertEquals("changed", record.get("id"));
+    }
+
+    @Test
+    void testMissingFieldDefaultInjected() {
+        String w = getAvroSchema("avro/parallel_document.avsc");
+        Schema schema = parseSchema(w);
+        String json = "{\"id\":\"doc\",\"items\":[{\"name\":\"a\"}]}";
+
+        GenericRecord record = new LazyRecordReader(schema).read(json.getBytes(StandardCharsets.UTF_8));
+        GenericRecord item = (GenericRecord) ((List<?>) record.get("items")).get(0);
+        assertEquals("pcs", item.get("unit").toString());
+        assertNull(item.get("qty"));
+    }
+
+    @Test
+    void testReaderReusedForManyRecords() throws IOException {
+        String w = getAvroSchema("avro/shared_defaults.avsc");
+        Schema schema = parseSchema(w);
+        LazyRecordReader reader = new LazyRecordReader(schema);
+
+        StringBuilder longId = new StringBuilder();
+        for (int i = 0; i < 1000; i++)
+            longId.append('x');
+        String first = "{\"id\":\"" + longId + "\",\"tags\":[\"a\"]}";
+        String second = "{\"id\":\"short\"}";
+
+        GenericRecord firstRecord = reader.read(first.getBytes(StandardCharsets.UTF_8));
+        GenericRecord secondRecord = reader.read(second.getBytes(StandardCharsets.UTF_8));
+        GenericRecord thirdRecord = reader.read(second.getBytes(StandardCharsets.UTF_8));
+        assertEquals(longId.toString(), firstRecord.get("id").toString());
+        assertEquals("short", secondRecord.get("id").toString());
+        assertTrue(firstRecord.equals(readRecord(w, first)));
+
+        // missing field value is decoded once, but every record gets own copy
+        Map<?, ?> attrs = (Map<?, ?>) secondRecord.get("attrs");
+        assertTrue(secondRecord.equals(readRecord(w, second)));
+        assertNotSame(attrs, thirdRecord.get("attrs"));
+        ((GenericRecord) secondRecord.get("address")).put("city", "changed");
+        assertEquals("none", ((GenericRecord) thirdRecord.get("address")).get("city").toString());
+        assertTrue(thirdRecord.equals(readRecord(w, second)));
+    }
+}
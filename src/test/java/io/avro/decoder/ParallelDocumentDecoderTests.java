@@ -0,0 +1,99 @@
+package io.avro.decoder;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import org.apache.avro.AvroTypeException;
+import org.apache.avro.Schema;
+import org.apache.avro.generic.GenericData;
+import org.apache.avro.generic.GenericRecord;
+import org.junit.jupiter.api.Test;
+
+/**
+ * @author Anton Kurako (GoodforGod)
+ * @since 19.10.2026
+ */
+class ParallelDocumentDecoderTests extends DecoderRunner {
+
+    private static String getDocument(int items) {
+        final String elements = IntStream.range(0, items)
+                .mapToObj(i -> (i % 3 == 0)
+                        ? "{\"name\":\"i" + i + "\"}"
+                        : "{\"qty\": " + i + ", \"name\":\"i" + i + "\", \"unit\":\"kg\"}")
+                .collect(Collectors.joining(",\n"));
+        return "{\"note\":\"[{}]\", \"items\": [" + elements + "], \"id\":\"doc\"}";
+    }
+
+    @Test
+    void testArrayDecodedInParallel() throws IOException {
+        String w = getAvroSchema("avro/parallel_document.avsc");
+        Schema schema = parseSchema(w);
+        String json = getDocument(1000);
+
+        ForkJoinPool pool = new ForkJoinPool(4);
+        try {
+            ParallelDocumentDecoder<GenericRecord> decoder = new ParallelDocumentDecoder<>(schema, GenericData.get(), 10, pool);
+            GenericRecord record = decoder.decode(json.getBytes(StandardCharsets.UTF_8));
+
+            assertEquals(readRecord(w, json), record);
+            assertEquals("doc", record.get("id").toString());
+            assertEquals("[{}]", record.get("note").toString());
+            assertTrue(record.get("items") instanceof GenericData.Array);
+
+            List<?> items = (List<?>) record.get("items");
+            assertEquals(1000, items.size());
+            for (int i = 0; i < items.size(); i++) {
+                GenericRecord item = (GenericRecord) items.get(i);
+                assertEquals("i" + i, item.get("name").toString());
+                assertEquals((i % 3 == 0) ? null : (long) i, item.get("qty"));
+                assertEquals((i % 3 == 0) ? "pcs" : "kg", item.get("unit").toString());
+            }
+
+            // decoders of previous document are reused
+            assertEquals(record, decoder.decode(json.getBytes(StandardCharsets.UTF_8)));
+        } finally {
+            pool.shutdown();
+        }
+    }
+
+    @Test
+    void testElementsAwaitedWhenRestOfRecordFails() throws Exception {
+        String w = getAvroSchema("avro/parallel_document.avsc");
+        Schema schema = parseSchema(w);
+        String json = getDocument(1000).replace("\"id\":\"doc\"", "\"id\":5");
+
+        ForkJoinPool pool = new ForkJoinPool(4);
+        try {
+            ParallelDocumentDecoder<GenericRecord> decoder = new ParallelDocumentDecoder<>(schema, GenericData.get(), 10, pool);
+            assertThrows(AvroTypeException.class, () -> decoder.decode(json.getBytes(StandardCharsets.UTF_8)));
+        } finally {
+            pool.shutdown();
+        }
+        assertTrue(pool.awaitTermination(10, TimeUnit.SECONDS));
+    }
+
+    @Test
+    void testArrayBelowThresholdDecodedSequentially() throws IOException {
+        String w = getAvroSchema("avro/parallel_document.avsc");
+        Schema schema = parseSchema(w);
+        String json = getDocument(5);
+
+        GenericRecord record = new ParallelDocumentDecoder<GenericRecord>(schema, 10).decode(json.getBytes(StandardCharsets.UTF_8));
+        assertEquals(readRecord(w, json), record);
+    }
+
+    @Test
+    void testEmptyArrayDecoded() throws IOException {
+        String w = getAvroSchema("avro/parallel_document.avsc");
+        Schema schema = parseSchema(w);
+        String json = "{\"id\":\"doc\",\"items\":[]}";
+
+        GenericRecord record = new ParallelDocumentDecoder<GenericRecord>(schema, 1).decode(json.getBytes(StandardCharsets.UTF_8));
+        assertEquals(0, ((List<?>) record.get("items")).size());
+        assertNull(record.get("note"));
+    }
+}
@@ -0,0 +1,93 @@
+package io.avro.decoder;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.zip.GZIPOutputStream;
+import org.apache.avro.AvroTypeException;
+import org.apache.avro.Schema;
+import org.apache.avro.generic.GenericDatumReader;
+import org.apache.avro.generic.GenericRecord;
+import org.junit.jupiter.api.Test;
+
+/**
+ * @author Anton Kurako (GoodforGod)
+ * @since 19.10.2026
+ */
+class PipelinedDecoderTests extends DecoderRunner {
+
+    private static final Schema SCHEMA = parseSchema(getAvroSchema("avro/nullable_string_default.avsc"));
+
+    private static byte[] gzip(String value) throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        try (GZIPOutputStream gzip = new GZIPOutputStream(out)) {
+            gzip.write(value.getBytes(StandardCharsets.UTF_8));
+        }
+        return out.toByteArray();
+    }
+
+    private static String records(int count) {
+        StringBuilder builder = new StringBuilder();
+        for (int i = 0; i < count; i++) {
+            builder.append("{\"username\":\"user").append(i).append('"');
+            if (i % 7 == 0)
+                builder.append(",\"name\":\"").append(new String(new char[i % 300]).replace('\0', 'n')).append('"');
+            builder.append("}\n");
+            if (i % 10 == 0)
+                builder.append('\n');
+        }
+        return builder.toString();
+    }
+
+    @Test
+    void testGzipRecordsDecodedInOrder() throws IOException {
+        PipelinedDecoder<GenericRecord> decoder = new PipelinedDecoder<>(SCHEMA, new GenericDatumReader<>(SCHEMA),
+                CompressionCodec.forName("gzip"), 64, 2);
+
+        List<GenericRecord> records = new ArrayList<>();
+        long decoded = decoder.decode(new ByteArrayInputStream(gzip(records(2000))), records::add);
+        assertEquals(2000, decoded);
+        assertEquals(2000, records.size());
+        for (int i = 0; i < records.size(); i++) {
+            assertEquals("user" + i, records.get(i).get("username").toString());
+            if (i % 7 == 0)
+                assertEquals(i % 300, records.get(i).get("name").toString().length());
+            else
+                assertNull(records.get(i).get("name"));
+        }
+    }
+
+    @Test
+    void testLastRecordWithoutNewLineDecoded() throws IOException {
+        PipelinedDecoder<GenericRecord> decoder = new PipelinedDecoder<>(SCHEMA, new GzipCompressionCodec());
+        List<GenericRecord> records = new ArrayList<>();
+        decoder.decode(new ByteArrayInputStream(gzip("{\"username\":\"a\"}\n{\"username\":\"b\"}")), records::add);
+        assertEquals(2, records.size());
+        assertEquals("b", records.get(1).get("username").toString());
+    }
+
+    @Test
+    void testDecodeAndCodecFailuresPropagated() throws IOException {
+        PipelinedDecoder<GenericRecord> decoder = new PipelinedDecoder<>(SCHEMA, new GenericDatumReader<>(SCHEMA),
+                new GzipCompressionCodec(), 64, 2);
+
+        byte[] invalid = gzip(records(100) + "{\"name\":1}\n" + records(1000));
+        assertThrows(AvroTypeException.class, () -> decoder.decode(new ByteArrayInputStream(invalid), r -> {}));
+
+        byte[] notGzip = records(10).getBytes(StandardCharsets.UTF_8);
+        assertThrows(IOException.class, () -> decoder.decode(new ByteArrayInputStream(notGzip), r -> {}));
+
+        List<GenericRecord> records = new ArrayList<>();
+        decoder.decode(new ByteArrayInputStream(gzip(records(50))), records::add);
+        assertEquals(50, records.size());
+    }
+
+    @Test
+    void testUnknownCodec() {
+        assertThrows(IllegalArgumentException.class, () -> CompressionCodec.forName("unknown"));
+        assertEquals("gzip", CompressionCodec.forName("GZIP").getName());
+    }
+}
@@ -0,0 +1,135 @@
+package io.avro.decoder;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import org.apache.avro.Schema;
+import org.apache.avro.generic.GenericRecord;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+/**
+ * @author Anton Kurako (GoodforGod)
+ * @since 19.10.2026
+ */
+class ResumableDecoderTests extends DecoderRunner {
+
+    private static final Schema SCHEMA = parseSchema(getAvroSchema("avro/nullable_string_default.avsc"));
+
+    private static Path writeRecords(Path dir, int count) throws IOException {
+        StringBuilder builder = new StringBuilder();
+        for (int i = 0; i < count; i++) {
+            builder.append("{\"username\":\"user").append(i).append('"');
+            if (i % 3 == 0)
+                builder.append(",\"name\":\"{[\\\"}\"");
+            builder.append(i % 5 == 0 ? "}\r\n\n" : "}\n");
+        }
+
+        Path file = dir.resolve("records.json");
+        Files.write(file, builder.toString().getBytes(StandardCharsets.UTF_8));
+        return file;
+    }
+
+    private static List<String> usernames(List<GenericRecord> records) {
+        List<String> usernames = new ArrayList<>();
+        for (GenericRecord record : records)
+            usernames.add(record.get("username").toString());
+        return usernames;
+    }
+
+    @Test
+    void testScanMatchesIndexBuiltDuringDecoding(@TempDir Path dir) throws IOException {
+        Path file = writeRecords(dir, 1000);
+        List<GenericRecord> records = new ArrayList<>();
+
+        RecordOffsetIndex decoded = new ResumableDecoder<GenericRecord>(SCHEMA).decode(file, 100, records::add);
+        RecordOffsetIndex scanned = RecordOffsetIndex.scan(file, 100);
+        assertEquals(1000, records.size());
+        assertEquals(1000, decoded.getRecordCount());
+        assertEquals(1000, scanned.getRecordCount());
+        assertEquals(Files.size(file), scanned.getFileLength());
+        for (long checkpoint = 0; checkpoint < 1000; checkpoint += 100)
+            assertEquals(decoded.getOffset(checkpoint), scanned.getOffset(checkpoint));
+    }
+
+    @Test
+    void testResumedFromCheckpointWithPersistedIndex(@TempDir Path dir) throws IOException {
+        Path file = writeRecords(dir, 1000);
+        Path sidecar = RecordOffsetIndex.getSidecar(file);
+        RecordOffsetIndex.scan(file, 64).write(sidecar);
+        RecordOffsetIndex index = RecordOffsetIndex.read(sidecar);
+        assertEquals(64, index.getInterval());
+        assertEquals(512, index.getCheckpoint(537));
+
+        List<GenericRecord> records = new ArrayList<>();
+        long decoded = new ResumableDecoder<GenericRecord>(SCHEMA).decode(file, index, 537, 600, records::add);
+        assertEquals(63, decoded);
+        assertEquals("user537", usernames(records).get(0));
+        assertEquals("user599", usernames(records).get(62));
+        assertEquals("{[\"}", records.get(0).get("name").toString());
+        assertNull(records.get(1).get("name"));
+
+        records.clear();
+        new ResumableDecoder<GenericRecord>(SCHEMA).decode(file, index, 990, Long.MAX_VALUE, records::add);
+        assertEquals(10, records.size());
+        assertEquals("user999", usernames(records).get(9));
+    }
+
+    @Test
+    void testSplitCoversAllRecords(@TempDir Path dir) throws IOException {
+        Path file = writeRecords(dir, 1000);
+        RecordOffsetIndex index = RecordOffsetIndex.scan(file, 50);
+        long[] bounds = index.split(3);
+        assertEquals(0, bounds[0]);
+        assertEquals(1000, bounds[3]);
+
+        List<GenericRecord> records = new ArrayList<>();
+        ResumableDecoder<GenericRecord> decoder = new ResumableDecoder<>(SCHEMA);
+        for (int i = 0; i < 3; i++) {
+            assertEquals(0, bounds[i] % 50);
+            decoder.decode(file, index, bounds[i], bounds[i + 1], records::add);
+        }
+
+        assertEquals(1000, records.size());
+        for (int i = 0; i < records.size(); i++)
+            assertEquals("user" + i, records.get(i).get("username").toString());
+    }
+
+    @Test
+    void testStaleIndexRejected(@TempDir Path dir) throws IOException {
+        Path file = writeRecords(dir, 10);
+        RecordOffsetIndex index = RecordOffsetIndex.scan(file, 2);
+        writeRecords(dir, 11);
+
+        ResumableDecoder<GenericRecord> decoder = new ResumableDecoder<>(SCHEMA);
+        assertThrows(IllegalStateException.class, () -> decoder.decode(file, index, 0, 10, r -> {}));
+        assertThrows(IndexOutOfBoundsException.class, () -> index.getCheckpoint(11));
+    }
+
+    @Test
+    void testResumedFromPartialIndexOfFailedPass(@TempDir Path dir) throws IOException {
+        Path file = writeRecords(dir, 1000);
+        ResumableDecoder<GenericRecord> decoder = new ResumableDecoder<>(SCHEMA);
+        List<GenericRecord> records = new ArrayList<>();
+        IOException failure = new IOException("Sink failed");
+
+        ResumableDecoder.PartialIndexException e = assertThrows(ResumableDecoder.PartialIndexException.class,
+                () -> decoder.decode(file, 100, r -> {
+                    if (records.size() == 537)
+                        throw failure;
+                    records.add(r);
+                }));
+        assertSame(failure, e.getCause());
+        assertEquals(537, e.getRecord());
+        assertTrue(e.getIndex().getRecordCount() > 537);
+
+        long decoded = decoder.decode(file, e.getIndex(), e.getRecord(), Long.MAX_VALUE, records::add);
+        assertEquals(463, decoded);
+        assertEquals(1000, records.size());
+        for (int i = 0; i < records.size(); i++)
+            assertEquals("user" + i, records.get(i).get("username").toString());
+    }
+}
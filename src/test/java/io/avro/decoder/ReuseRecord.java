@@ -0,0 +1,83 @@
+package io.avro.decoder;
+
+import java.nio.ByteBuffer;
+import java.util.List;
+import java.util.Map;
+import org.apache.avro.AvroRuntimeException;
+import org.apache.avro.Schema;
+import org.apache.avro.specific.SpecificRecord;
+import org.apache.avro.specific.SpecificRecordBase;
+
+/**
+ * Specific record as generated for avro/reuse_record.avsc
+ *
+ * @author Anton Kurako (GoodforGod)
+ * @since 19.10.2026
+ */
+public class ReuseRecord extends SpecificRecordBase implements SpecificRecord {
+
+    public static final Schema SCHEMA$ = DecoderRunner.parseSchema(DecoderRunner.getAvroSchema("avro/reuse_record.avsc"));
+
+    public CharSequence name;
+    public List<CharSequence> tags;
+    public Map<CharSequence, CharSequence> attrs;
+    public ByteBuffer payload;
+    public CharSequence note;
+    public CharSequence label;
+
+    public static Schema getClassSchema() {
+        return SCHEMA$;
+    }
+
+    @Override
+    public Schema getSchema() {
+        return SCHEMA$;
+    }
+
+    @Override
+    public Object get(int field) {
+        switch (field) {
+            case 0:
+                return name;
+            case 1:
+                return tags;
+            case 2:
+                return attrs;
+            case 3:
+                return payload;
+            case 4:
+                return note;
+            case 5:
+                return label;
+            default:
+                throw new AvroRuntimeException("Bad index");
+        }
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public void put(int field, Object value) {
+        switch (field) {
+            case 0:
+                name = (CharSequence) value;
+                break;
+            case 1:
+                tags = (List<CharSequence>) value;
+                break;
+            case 2:
+                attrs = (Map<CharSequence, CharSequence>) value;
+                break;
+            case 3:
+                payload = (ByteBuffer) value;
+                break;
+            case 4:
+                note = (CharSequence) value;
+                break;
+            case 5:
+                label = (CharSequence) value;
+                break;
+            default:
+                throw new AvroRuntimeException("Bad index");
+        }
+    }
+}
@@ -0,0 +1,44 @@
+package io.avro.decoder;
+
+import org.apache.avro.AvroRuntimeException;
+import org.apache.avro.Schema;
+import org.apache.avro.specific.SpecificRecord;
+import org.apache.avro.specific.SpecificRecordBase;
+
+/**
+ * Specific record as generated for SharedDefaultsAddress of avro/shared_defaults_specific.avsc
+ *
+ * @author Anton Kurako (GoodforGod)
+ * @since 19.10.2026
+ */
+public class SharedDefaultsAddress extends SpecificRecordBase implements SpecificRecord {
+
+    public static final Schema SCHEMA$ = SharedDefaultsRecord.SCHEMA$.getField("address").schema();
+
+    public CharSequence city;
+
+    public static Schema getClassSchema() {
+        return SCHEMA$;
+    }
+
+    @Override
+    public Schema getSchema() {
+        return SCHEMA$;
+    }
+
+    @Override
+    public Object get(int field) {
+        if (field == 0)
+            return city;
+        throw new AvroRuntimeException("Bad index");
+    }
+
+    @Override
+    public void put(int field, Object value) {
+        if (field == 0) {
+            city = (CharSequence) value;
+        } else {
+            throw new AvroRuntimeException("Bad index");
+        }
+    }
+}
@@ -0,0 +1,69 @@
+package io.avro.decoder;
+
+import java.util.List;
+import org.apache.avro.AvroRuntimeException;
+import org.apache.avro.Schema;
+import org.apache.avro.specific.SpecificRecord;
+import org.apache.avro.specific.SpecificRecordBase;
+
+/**
+ * Specific record as generated for avro/shared_defaults_specific.avsc
+ *
+ * @author Anton Kurako (GoodforGod)
+ * @since 19.10.2026
+ */
+public class SharedDefaultsRecord extends SpecificRecordBase implements SpecificRecord {
+
+    public static final Schema SCHEMA$ = DecoderRunner.parseSchema(DecoderRunner.getAvroSchema("avro/shared_defaults_specific.avsc"));
+
+    public CharSequence id;
+    public List<CharSequence> tags;
+    public SharedDefaultsAddress address;
+    public List<SharedDefaultsAddress> addresses;
+
+    public static Schema getClassSchema() {
+        return SCHEMA$;
+    }
+
+    @Override
+    public Schema getSchema() {
+        return SCHEMA$;
+    }
+
+    @Override
+    public Object get(int field) {
+        switch (field) {
+            case 0:
+                return id;
+            case 1:
+                return tags;
+            case 2:
+                return address;
+            case 3:
+                return addresses;
+            default:
+                throw new AvroRuntimeException("Bad index");
+        }
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public void put(int field, Object value) {
+        switch (field) {
+            case 0:
+                id = (CharSequence) value;
+                break;
+            case 1:
+                tags = (List<CharSequence>) value;
+                break;
+            case 2:
+                address = (SharedDefaultsAddress) value;
+                break;
+            case 3:
+                addresses = (List<SharedDefaultsAddress>) value;
+                break;
+            default:
+                throw new AvroRuntimeException("Bad index");
+        }
+    }
+}
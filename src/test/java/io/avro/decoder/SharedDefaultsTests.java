@@ -0,0 +1,91 @@
+package io.avro.decoder;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.Map;
+import org.apache.avro.Schema;
+import org.apache.avro.generic.GenericRecord;
+import org.apache.avro.specific.SpecificData;
+import org.apache.avro.util.Utf8;
+import org.junit.jupiter.api.Test;
+
+/**
+ * @author Anton Kurako (GoodforGod)
+ * @since 19.10.2026
+ */
+class SharedDefaultsTests extends DecoderRunner {
+
+    private static final Schema SCHEMA = parseSchema(getAvroSchema("avro/shared_defaults.avsc"));
+
+    @Test
+    void testMissingFieldsShareImmutableDefaults() throws IOException {
+        SharedDefaultsGenericDatumReader<GenericRecord> reader = new SharedDefaultsGenericDatumReader<>(SCHEMA);
+        GenericRecord first = reader.read(null, new JsonOptionalDecoder(SCHEMA, "{\"id\":\"1\"}"));
+        GenericRecord second = reader.read(null, new JsonOptionalDecoder(SCHEMA, "{\"id\":\"2\",\"note\":\"n\"}"));
+
+        assertEquals("2", second.get("id").toString());
+        assertEquals("n", second.get("note").toString());
+        assertSame(first.get("tags"), second.get("tags"));
+        assertSame(first.get("attrs"), second.get("attrs"));
+        assertSame(first.get("address"), second.get("address"));
+
+        assertTrue(((List<?>) first.get("tags")).isEmpty());
+        assertEquals(1L, ((Map<?, ?>) first.get("attrs")).get(new Utf8("k")));
+        GenericRecord address = (GenericRecord) first.get("address");
+        assertEquals("none", address.get("city").toString());
+        assertEquals(1, ((List<?>) address.get("lines")).size());
+
+        @SuppressWarnings("unchecked")
+        List<Object> tags = (List<Object>) first.get("tags");
+        assertThrows(UnsupportedOperationException.class, () -> tags.add("t"));
+        assertThrows(UnsupportedOperationException.class, tags::clear);
+        assertThrows(UnsupportedOperationException.class, () -> ((Map<?, ?>) first.get("attrs")).clear());
+        assertThrows(UnsupportedOperationException.class, () -> address.put("city", "other"));
+        assertThrows(UnsupportedOperationException.class, () -> ((List<?>) address.get("lines")).remove(0));
+    }
+
+    @Test
+    void testPresentAndReorderedFieldsDecoded() throws IOException {
+        SharedDefaultsGenericDatumReader<GenericRecord> reader = new SharedDefaultsGenericDatumReader<>(SCHEMA);
+        GenericRecord record = reader.read(null, new JsonOptionalDecoder(SCHEMA,
+                "{\"address\":{\"city\":\"c\"},\"tags\":[\"a\"],\"id\":\"1\"}"));
+
+        assertEquals(1, ((List<?>) record.get("tags")).size());
+        GenericRecord address = (GenericRecord) record.get("address");
+        assertEquals("c", address.get("city").toString());
+        assertTrue(((List<?>) address.get("lines")).isEmpty());
+        assertEquals(1L, ((Map<?, ?>) record.get("attrs")).get(new Utf8("k")));
+    }
+
+    @Test
+    void testSharedDefaultsNotReusedAsTarget() throws IOException {
+        SharedDefaultsGenericDatumReader<GenericRecord> reader = new SharedDefaultsGenericDatumReader<>(SCHEMA);
+        GenericRecord record = reader.read(null, new JsonOptionalDecoder(SCHEMA, "{\"id\":\"1\"}"));
+        Object sharedTags = record.get("tags");
+
+        record = reader.read(record, new JsonOptionalDecoder(SCHEMA, "{\"id\":\"2\",\"tags\":[\"a\",\"b\"],\"address\":{\"city\":\"c\",\"lines\":[]}}"));
+        assertEquals(2, ((List<?>) record.get("tags")).size());
+        assertTrue(((List<?>) sharedTags).isEmpty());
+        assertEquals("c", ((GenericRecord) record.get("address")).get("city").toString());
+
+        record = reader.read(record, new JsonOptionalDecoder(SCHEMA, "{\"id\":\"3\"}"));
+        assertSame(sharedTags, record.get("tags"));
+    }
+
+    @Test
+    void testSpecificRecordDefaultsNotSharedAsGenericRecords() throws IOException {
+        Schema schema = SharedDefaultsRecord.getClassSchema();
+        SharedDefaultsGenericDatumReader<SharedDefaultsRecord> reader = new SharedDefaultsGenericDatumReader<>(schema, SpecificData.get());
+        SharedDefaultsRecord first = reader.read(null, new JsonOptionalDecoder(schema, "{\"id\":\"1\"}"));
+        SharedDefaultsRecord second = reader.read(null, new JsonOptionalDecoder(schema, "{\"id\":\"2\"}"));
+
+        assertEquals("none", first.address.city.toString());
+        assertEquals("first", first.addresses.get(0).city.toString());
+        assertNotSame(first.address, second.address);
+        assertNotSame(first.addresses, second.addresses);
+
+        // defaults without records are still shared
+        assertSame(first.tags, second.tags);
+        assertThrows(UnsupportedOperationException.class, () -> first.tags.add("t"));
+    }
+}
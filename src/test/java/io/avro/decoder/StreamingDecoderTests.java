@@ -0,0 +1,101 @@
+package io.avro.decoder;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import org.apache.avro.Schema;
+import org.apache.avro.generic.GenericRecord;
+import org.junit.jupiter.api.Test;
+
+/**
+ * @author Anton Kurako (GoodforGod)
+ * @since 19.10.2026
+ */
+class StreamingDecoderTests extends DecoderRunner {
+
+    @Test
+    void testArrayStreamed() throws IOException {
+        String w = getAvroSchema("avro/required_array.avsc");
+        Schema schema = parseSchema(w);
+        List<Object> elements = new ArrayList<>();
+        StreamingGenericDatumReader<GenericRecord> reader = new StreamingGenericDatumReader<GenericRecord>(schema)
+                .streamArray("a", elements::add);
+
+        GenericRecord record = reader.read(null, new JsonOptionalDecoder(schema, "{\"a\":[1,2,3],\"l\":7}"));
+        assertEquals(7L, record.get("l"));
+        assertEquals(0, ((List<?>) record.get("a")).size());
+        assertEquals(3, elements.size());
+        assertEquals(1, elements.get(0));
+        assertEquals(3, elements.get(2));
+    }
+
+    @Test
+    void testNullableArrayOfRecordsStreamed() throws IOException {
+        String w = getAvroSchema("avro/nullable_array_records.avsc");
+        Schema schema = parseSchema(w);
+        List<GenericRecord> elements = new ArrayList<>();
+        StreamingGenericDatumReader<GenericRecord> reader = new StreamingGenericDatumReader<GenericRecord>(schema)
+                .streamArray("A", e -> elements.add((GenericRecord) e));
+
+        GenericRecord record = reader.read(null, new JsonOptionalDecoder(schema, "{\"A\":[{\"s\":\"value\"},{\"b\":true,\"s\":\"next\"}]}"));
+        assertNotNull(record.get("A"));
+        assertEquals(2, elements.size());
+        assertEquals("value", elements.get(0).get("s").toString());
+        assertNull(elements.get(0).get("b"));
+        assertEquals(true, elements.get(1).get("b"));
+
+        elements.clear();
+        GenericRecord missing = reader.read(null, new JsonOptionalDecoder(schema, "{}"));
+        assertNull(missing.get("A"));
+        assertTrue(elements.isEmpty());
+    }
+
+    @Test
+    void testMapStreamed() throws IOException {
+        String w = getAvroSchema("avro/required_map.avsc");
+        Schema schema = parseSchema(w);
+        Map<String, String> entries = new LinkedHashMap<>();
+        StreamingGenericDatumReader<GenericRecord> reader = new StreamingGenericDatumReader<GenericRecord>(schema)
+                .streamMap("map", (k, v) -> entries.put(k.toString(), v.toString()));
+
+        GenericRecord record = reader.read(null, new JsonOptionalDecoder(schema, "{\"map\":{\"name\":\"bob\",\"city\":\"x\"}}"));
+        assertEquals(0, ((Map<?, ?>) record.get("map")).size());
+        assertEquals(2, entries.size());
+        assertEquals("bob", entries.get("name"));
+        assertEquals("x", entries.get("city"));
+    }
+
+    @Test
+    void testNestedFieldSharingNameNotStreamed() throws IOException {
+        Schema schema = parseSchema(getAvroSchema("avro/streaming_nested.avsc"));
+        String data = "{\"items\":[1,2],\"detail\":{\"items\":[3]}}";
+
+        List<Object> elements = new ArrayList<>();
+        GenericRecord record = new StreamingGenericDatumReader<GenericRecord>(schema)
+                .streamArray("items", elements::add)
+                .read(null, new JsonOptionalDecoder(schema, data));
+        assertEquals(2, elements.size());
+        assertEquals(0, ((List<?>) record.get("items")).size());
+        assertEquals(1, ((List<?>) ((GenericRecord) record.get("detail")).get("items")).size());
+
+        List<Object> nested = new ArrayList<>();
+        GenericRecord nestedRecord = new StreamingGenericDatumReader<GenericRecord>(schema)
+                .streamArray("detail.items", nested::add)
+                .read(null, new JsonOptionalDecoder(schema, data));
+        assertEquals(1, nested.size());
+        assertEquals(3, nested.get(0));
+        assertEquals(2, ((List<?>) nestedRecord.get("items")).size());
+        assertEquals(0, ((List<?>) ((GenericRecord) nestedRecord.get("detail")).get("items")).size());
+    }
+
+    @Test
+    void testUnknownOrMismatchedPathRejected() {
+        Schema schema = parseSchema(getAvroSchema("avro/streaming_nested.avsc"));
+        StreamingGenericDatumReader<GenericRecord> reader = new StreamingGenericDatumReader<>(schema);
+
+        assertThrows(IllegalArgumentException.class, () -> reader.streamArray("detail.missing", e -> {}));
+        assertThrows(IllegalArgumentException.class, () -> reader.streamMap("items", (k, v) -> {}));
+    }
+}
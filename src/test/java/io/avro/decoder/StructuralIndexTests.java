@@ -0,0 +1,101 @@
+package io.avro.decoder;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import org.apache.avro.Schema;
+import org.apache.avro.generic.GenericDatumReader;
+import org.apache.avro.generic.GenericRecord;
+import org.apache.avro.io.DatumReader;
+import org.junit.jupiter.api.Test;
+
+/**
+ * @author Anton Kurako (GoodforGod)
+ * @since 19.10.2026
+ */
+class StructuralIndexTests extends DecoderRunner {
+
+    private static String record(StructuralIndex index, int record) {
+        final int start = index.getRecordStart(record);
+        return new String(index.getJson(), start, index.getRecordEnd(record) - start, StandardCharsets.UTF_8);
+    }
+
+    @Test
+    void testNdjsonRecordsIndexed() {
+        String data = "{\"a\":\"}{\\\"\"}\n{\"b\":[1,{\"c\":\"]\"}]}\n\n  {\"d\":\"\\\\\"}";
+        StructuralIndex index = StructuralIndex.build(data.getBytes(StandardCharsets.UTF_8));
+
+        assertEquals(3, index.getRecordCount());
+        assertEquals("{\"a\":\"}{\\\"\"}", record(index, 0));
+        assertEquals("{\"b\":[1,{\"c\":\"]\"}]}", record(index, 1));
+        assertEquals("{\"d\":\"\\\\\"}", record(index, 2));
+    }
+
+    @Test
+    void testArrayRecordsIndexed() {
+        String data = "[{\"a\":1},\n{\"b\":{\"c\":2}}]";
+        StructuralIndex index = StructuralIndex.build(data.getBytes(StandardCharsets.UTF_8));
+
+        assertEquals(2, index.getRecordCount());
+        assertEquals("{\"a\":1}", record(index, 0));
+        assertEquals("{\"b\":{\"c\":2}}", record(index, 1));
+    }
+
+    @Test
+    void testValuesSkipped() {
+        String data = "{\"a\": 123 ,\"b\":[1,[2],\"]\"],\"c\":\"x\\\"y\"}";
+        byte[] bytes = data.getBytes(StandardCharsets.UTF_8);
+        StructuralIndex index = StructuralIndex.build(bytes);
+
+        assertEquals(bytes.length, index.skipValue(0));
+        assertEquals(data.indexOf(" ,"), index.skipValue(data.indexOf("123")));
+        assertEquals(data.indexOf(",\"c\""), index.skipValue(data.indexOf("[1")));
+        assertEquals(bytes.length - 1, index.skipValue(data.indexOf("\"x")));
+    }
+
+    @Test
+    void testUnbalancedJsonFails() {
+        assertThrows(RuntimeException.class, () -> StructuralIndex.build("{\"a\":[1}".getBytes(StandardCharsets.UTF_8)));
+        assertThrows(RuntimeException.class, () -> StructuralIndex.build("{\"a\":\"1}".getBytes(StandardCharsets.UTF_8)));
+    }
+
+    @Test
+    void testRecordsDecodedInParallel() throws IOException {
+        String w = getAvroSchema("avro/nullable_string_default.avsc");
+        Schema schema = parseSchema(w);
+        String data = IntStream.range(0, 100)
+                .mapToObj(i -> (i % 2 == 0) ? "{\"username\":\"u" + i + "\"}" : "{\"name\":\"n\",\"username\":\"u" + i + "\"}")
+                .collect(Collectors.joining("\n"));
+
+        StructuralIndex index = StructuralIndex.build(data.getBytes(StandardCharsets.UTF_8));
+        int[] ranges = index.split(4);
+        assertEquals(0, ranges[0]);
+        assertEquals(100, ranges[4]);
+
+        List<String> usernames = IntStream.range(0, 4).parallel()
+                .mapToObj(part -> {
+                    try {
+                        DatumReader<GenericRecord> reader = new GenericDatumReader<>(schema);
+                        JsonOptionalDecoder decoder = new JsonOptionalDecoder(schema, "{}");
+                        return IntStream.range(ranges[part], ranges[part + 1]).mapToObj(r -> {
+                            try {
+                                return reader.read(null, decoder.configure(index, r)).get("username").toString();
+                            } catch (IOException e) {
+                                throw new IllegalStateException(e);
+                            }
+                        }).collect(Collectors.toList());
+                    } catch (IOException e) {
+                        throw new IllegalStateException(e);
+                    }
+                })
+                .flatMap(List::stream)
+                .collect(Collectors.toList());
+
+        assertEquals(100, usernames.size());
+        for (int i = 0; i < 100; i++) {
+            assertEquals("u" + i, usernames.get(i));
+        }
+    }
+}
@@ -0,0 +1,110 @@
+package io.avro.decoder;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Options of command line tools in {@code --name=value} form, with ranges as {@code min..max} and
+ * sizes with {@code k}, {@code m} or {@code g} suffixes.
+ *
+ * @author Anton Kurako (GoodforGod)
+ * @since 19.10.2026
+ */
+final class ToolOptions {
+
+    private final Map<String, String> options;
+
+    private ToolOptions(Map<String, String> options) {
+        this.options = options;
+    }
+
+    /**
+     * Parses arguments, prints usage and exits if argument is malformed
+     */
+    static ToolOptions parse(String[] args, String usage) {
+        final Map<String, String> options = new HashMap<>();
+        for (String arg : args) {
+            final int separator = arg.indexOf('=');
+            if (!arg.startsWith("--") || separator < 0) {
+                System.err.println("Unknown argument: " + arg + "\n" + usage);
+                System.exit(1);
+            }
+            options.put(arg.substring(2, separator), arg.substring(separator + 1));
+        }
+
+        return new ToolOptions(options);
+    }
+
+    /**
+     * @return option value, prints usage and exits if option is missing
+     */
+    String getRequired(String name, String usage) {
+        final String value = options.get(name);
+        if (value == null) {
+            System.err.println("Option --" + name + " is required\n" + usage);
+            System.exit(1);
+        }
+
+        return value;
+    }
+
+    String getString(String name, String defaultValue) {
+        return options.getOrDefault(name, defaultValue);
+    }
+
+    int getInt(String name, int defaultValue) {
+        final String value = options.get(name);
+        return (value == null) ? defaultValue : Integer.parseInt(value);
+    }
+
+    long getLong(String name, long defaultValue) {
+        final String value = options.get(name);
+        return (value == null) ? defaultValue : Long.parseLong(value);
+    }
+
+    double getDouble(String name, double defaultValue) {
+        final String value = options.get(name);
+        return (value == null) ? defaultValue : Double.parseDouble(value);
+    }
+
+    boolean getBoolean(String name, boolean defaultValue) {
+        final String value = options.get(name);
+        return (value == null) ? defaultValue : Boolean.parseBoolean(value);
+    }
+
+    /**
+     * @return min and max of {@code min..max} range, or of single value as both min and max
+     */
+    int[] getRange(String name, int defaultMin, int defaultMax) {
+        final String value = options.get(name);
+        if (value == null)
+            return new int[] { defaultMin, defaultMax };
+
+        final int separator = value.indexOf("..");
+        return (separator < 0)
+                ? new int[] { Integer.parseInt(value), Integer.parseInt(value) }
+                : new int[] { Integer.parseInt(value.substring(0, separator)), Integer.parseInt(value.substring(separator + 2)) };
+    }
+
+    /**
+     * @return size in bytes of value such as {@code 512k}, {@code 64m} or {@code 2g}
+     */
+    long getSize(String name, long defaultValue) {
+        final String value = options.get(name);
+        if (value == null || value.isEmpty())
+            return defaultValue;
+
+        final char unit = Character.toLowerCase(value.charAt(value.length() - 1));
+        final String number = value.substring(0, value.length() - 1);
+        switch (unit) {
+            case 'k':
+                return Long.parseLong(number) * 1024;
+            case 'm':
+                return Long.parseLong(number) * 1024 * 1024;
+            case 'g':
+                return Long.parseLong(number) * 1024 * 1024 * 1024;
+            default:
+                return Long.parseLong(value);
+        }
+    }
+}